@@ -0,0 +1,141 @@
+package com.gamegoo.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gamegoo.filter.AccessLog;
+import com.gamegoo.filter.AccessLogWriter;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.Enumeration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 1건의 로깅 비용 측정, 8개 스레드에서 동시에 요청을 처리하는 상황
+ * <ul>
+ *     <li>legacy: 기존 LoggingFilter(UUID, 요청마다 ObjectMapper 생성, INFO 2줄)
+ *     + LogAspect(JSONObject, replaceAll, INFO 1줄)</li>
+ *     <li>accessLog: 순번 requestId, 샘플링된 요청만 파라미터 변환, AccessLogWriter 큐에 적재
+ *     (로그 문자열은 writer 스레드에서 생성)</li>
+ * </ul>
+ * 로그는 출력 I/O를 제외하기 위해 메시지 포맷팅만 수행하는 appender로 기록.
+ * 요청 스레드의 CPU, garbage 비교는 gc profiler(jmh { profilers = ['gc'] })의 gc.alloc.rate.norm 참고
+ * (./gradlew jmh -Pjmh.includes=AccessLogBenchmark)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class AccessLogBenchmark {
+
+    private static final org.slf4j.Logger log = LoggerFactory.getLogger(AccessLogBenchmark.class);
+
+    private AccessLogWriter accessLogWriter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        Logger rootLogger = loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        rootLogger.detachAndStopAllAppenders();
+        rootLogger.setLevel(ch.qos.logback.classic.Level.INFO);
+
+        AppenderBase<ILoggingEvent> formattingAppender = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                event.getFormattedMessage();
+            }
+        };
+        formattingAppender.setContext(loggerContext);
+        formattingAppender.start();
+        rootLogger.addAppender(formattingAppender);
+
+        accessLogWriter = new AccessLogWriter(10000, 0.01);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        accessLogWriter.shutdown();
+        log.warn("Dropped access logs: {}", accessLogWriter.getDropped());
+    }
+
+    @Benchmark
+    public Object legacy() throws JsonProcessingException {
+        MockHttpServletRequest request = request();
+
+        // LoggingFilter
+        String requestId = UUID.randomUUID().toString();
+        String params = new ObjectMapper().writeValueAsString(request.getParameterMap());
+        log.info("[requestId: {}] [{}] {} | IP: {} | Member ID: {} | Params: {} | User-Agent: {}",
+                requestId, request.getMethod(), request.getRequestURI(), request.getRemoteAddr(), "1", params,
+                request.getHeader("User-Agent"));
+
+        // LogAspect
+        JSONObject jsonObject = new JSONObject();
+        Enumeration<String> parameterNames = request.getParameterNames();
+        while (parameterNames.hasMoreElements()) {
+            String param = parameterNames.nextElement();
+            jsonObject.put(param.replaceAll("\\.", "-"), request.getParameter(param));
+        }
+        log.info("[requestId: {}] Method: {}.{} | Prams: {} | Execution Time: {}ms", requestId,
+                "ChatController", "getChatMessages", jsonObject, 3);
+
+        log.info("[requestId: {}] [{}] {} | IP: {} | Member ID: {} | Status: {}", requestId,
+                request.getMethod(), request.getRequestURI(), request.getRemoteAddr(), "1", "200 OK");
+        return jsonObject;
+    }
+
+    @Benchmark
+    public Object accessLog() {
+        MockHttpServletRequest request = request();
+
+        // LoggingFilter
+        AccessLog accessLog = new AccessLog(accessLogWriter.nextRequestId(), request.getMethod(),
+                request.getRequestURI(), request.getRemoteAddr(), request.getHeader("User-Agent"));
+        accessLog.setMemberId("1");
+        if (accessLogWriter.shouldLogParams()) {
+            accessLog.setParams(accessLogWriter.formatParams(request));
+        }
+
+        // LogAspect
+        accessLog.setControllerName("ChatController");
+        accessLog.setMethodName("getChatMessages");
+        accessLog.setHandlerNanos(3_000_000);
+
+        accessLog.setStatus(200);
+        accessLog.setElapsedNanos(System.nanoTime() - accessLog.getStartNanos());
+        accessLogWriter.write(accessLog);
+        return accessLog;
+    }
+
+    // 두 방식에서 같은 비용으로 생성되는 요청
+    private MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/member/chat/uuid-1/messages");
+        request.addHeader("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64)");
+        request.addParameter("cursor", "1728000000000");
+        request.addParameter("after", "1727000000000");
+        return request;
+    }
+
+}
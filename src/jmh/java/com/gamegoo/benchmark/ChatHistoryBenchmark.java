@@ -0,0 +1,163 @@
+package com.gamegoo.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 1M개가 쌓인 채팅방의 내역 페이지 조회 지연 시간 측정 (H2 in-memory)
+ * <ul>
+ *     <li>subquery*: 기존 조회. chatroom_id index, lastJoinDate를 memberChatroom subquery로 비교, createdAt 역순 정렬</li>
+ *     <li>keyset*: (chatroom_id, timestamp) index, lastJoinDate를 파라미터로 전달, timestamp 역순 정렬</li>
+ * </ul>
+ * cursor 조회는 채팅방 내 임의 위치의 timestamp를 cursor로 사용.
+ * lastJoinDate는 채팅방 생성 시점(전체 내역 조회 가능) 또는 최근 입장(마지막 100개만 조회 가능)
+ * (./gradlew jmh -Pjmh.includes=ChatHistoryBenchmark)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ChatHistoryBenchmark {
+
+    private static final int CHAT_COUNT = 1000000;
+    private static final int PAGE_SIZE = 20;
+    private static final long CHATROOM_ID = 1;
+    private static final long MEMBER_ID = 1;
+    private static final long TIMESTAMP_MARGIN_MILLIS = 1000;
+
+    @Param({"oldest", "recent"})
+    private String lastJoin;
+
+    private Connection connection;
+    private long baseTimestamp;
+    private LocalDateTime lastJoinDate;
+    private PreparedStatement subqueryPage;
+    private PreparedStatement keysetPage;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:chatHistory" + lastJoin + ";DB_CLOSE_DELAY=-1", "sa",
+                "");
+        // 1초 간격으로 쌓인 메시지, timestamp와 createdAt은 같은 시각
+        LocalDateTime baseDate = LocalDateTime.now().minusSeconds(CHAT_COUNT + 60);
+        baseTimestamp = baseDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        lastJoinDate = "oldest".equals(lastJoin) ? baseDate : baseDate.plusSeconds(CHAT_COUNT - 100);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE member_chatroom (member_chatroom_id BIGINT PRIMARY KEY, " +
+                    "member_id BIGINT NOT NULL, chatroom_id BIGINT NOT NULL, last_view_date TIMESTAMP, " +
+                    "last_join_date TIMESTAMP)");
+            statement.execute("CREATE TABLE chat (chat_id BIGINT PRIMARY KEY, contents VARCHAR(1000) NOT NULL, " +
+                    "timestamp BIGINT NOT NULL, system_type INT, chatroom_id BIGINT NOT NULL, " +
+                    "from_member_id BIGINT NOT NULL, to_member_id BIGINT, created_at TIMESTAMP, " +
+                    "updated_at TIMESTAMP)");
+            // 기존 FK index와 추가한 composite index
+            statement.execute("CREATE INDEX idx_chat_chatroom ON chat (chatroom_id)");
+            statement.execute("CREATE INDEX idx_chat_chatroom_timestamp ON chat (chatroom_id, timestamp)");
+
+            statement.execute("INSERT INTO member_chatroom VALUES (1, " + MEMBER_ID + ", " + CHATROOM_ID + ", " +
+                    "NULL, TIMESTAMP '" + Timestamp.valueOf(lastJoinDate) + "')");
+            statement.execute("INSERT INTO chat SELECT x, 'message ' || x, " + baseTimestamp + " + x * 1000, " +
+                    "NULL, " + CHATROOM_ID + ", MOD(x, 2) + 1, NULL, " +
+                    "DATEADD('SECOND', x, TIMESTAMP '" + Timestamp.valueOf(baseDate) + "'), " +
+                    "DATEADD('SECOND', x, TIMESTAMP '" + Timestamp.valueOf(baseDate) + "') " +
+                    "FROM SYSTEM_RANGE(1, " + CHAT_COUNT + ")");
+            statement.execute("ANALYZE");
+        }
+
+        subqueryPage = connection.prepareStatement("SELECT c.* FROM chat c USE INDEX (idx_chat_chatroom) " +
+                "WHERE c.chatroom_id = ? AND c.timestamp < ? " +
+                "AND c.created_at >= (SELECT mc.last_join_date FROM member_chatroom mc " +
+                "WHERE mc.member_chatroom_id = 1) " +
+                "AND (c.to_member_id IS NULL OR c.to_member_id = ?) " +
+                "ORDER BY c.created_at DESC LIMIT " + (PAGE_SIZE + 1));
+        keysetPage = connection.prepareStatement("SELECT c.* FROM chat c " +
+                "WHERE c.chatroom_id = ? AND c.timestamp < ? AND c.timestamp >= ? AND c.created_at >= ? " +
+                "AND (c.to_member_id IS NULL OR c.to_member_id = ?) " +
+                "ORDER BY c.timestamp DESC, c.chat_id DESC LIMIT " + (PAGE_SIZE + 1));
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public int subqueryRecentPage() throws SQLException {
+        return subquery(Long.MAX_VALUE);
+    }
+
+    @Benchmark
+    public int keysetRecentPage() throws SQLException {
+        return keyset(Long.MAX_VALUE);
+    }
+
+    @Benchmark
+    public int subqueryCursorPage() throws SQLException {
+        return subquery(randomCursor());
+    }
+
+    @Benchmark
+    public int keysetCursorPage() throws SQLException {
+        return keyset(randomCursor());
+    }
+
+    private int subquery(long cursor) throws SQLException {
+        subqueryPage.setLong(1, CHATROOM_ID);
+        subqueryPage.setLong(2, cursor);
+        subqueryPage.setLong(3, MEMBER_ID);
+        return count(subqueryPage);
+    }
+
+    private int keyset(long cursor) throws SQLException {
+        keysetPage.setLong(1, CHATROOM_ID);
+        keysetPage.setLong(2, cursor);
+        keysetPage.setLong(3,
+                lastJoinDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() - TIMESTAMP_MARGIN_MILLIS);
+        keysetPage.setTimestamp(4, Timestamp.valueOf(lastJoinDate));
+        keysetPage.setLong(5, MEMBER_ID);
+        return count(keysetPage);
+    }
+
+    private long randomCursor() {
+        return baseTimestamp + (ThreadLocalRandom.current().nextInt(CHAT_COUNT) + 1) * 1000L;
+    }
+
+    private int count(PreparedStatement statement) throws SQLException {
+        int count = 0;
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+}
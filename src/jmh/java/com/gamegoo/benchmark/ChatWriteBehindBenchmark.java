@@ -0,0 +1,137 @@
+package com.gamegoo.benchmark;
+
+import com.gamegoo.service.chat.ChatWriteBehindQueue;
+import com.gamegoo.service.chat.PendingChat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 저장 처리량 비교 (H2 in-memory), 1/10/100개의 채팅방에 메시지가 번갈아 들어오는 경우
+ * <ul>
+ *     <li>perMessage: 기존 동기 저장처럼 메시지마다 한 트랜잭션에서 chat insert, unreadCount 증가, 마지막 채팅 갱신</li>
+ *     <li>writeBehind: ChatWriteBehindQueue에 적재 후 flush (multi-row insert, batch update)</li>
+ * </ul>
+ * 결과는 메시지 1개당 처리량 (./gradlew jmh -Pjmh.includes=ChatWriteBehindBenchmark)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChatWriteBehindBenchmark {
+
+    private static final int MESSAGES_PER_INVOCATION = 1000;
+
+    @Param({"1", "10", "100"})
+    private int chatrooms;
+
+    private DriverManagerDataSource dataSource;
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private ChatWriteBehindQueue chatWriteBehindQueue;
+    private long timestamp;
+
+    @Setup
+    public void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:chat" + chatrooms + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        chatWriteBehindQueue = new ChatWriteBehindQueue(jdbcTemplate, transactionTemplate, 500);
+
+        JdbcTemplate ddl = jdbcTemplate.getJdbcTemplate();
+        ddl.execute("CREATE TABLE chatroom (chatroom_id BIGINT PRIMARY KEY, last_chat_id BIGINT, " +
+                "last_chat_timestamp BIGINT, last_chat_at TIMESTAMP, last_chat_contents VARCHAR(1000))");
+        ddl.execute("CREATE TABLE member_chatroom (member_chatroom_id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "member_id BIGINT NOT NULL, chatroom_id BIGINT NOT NULL, last_view_date TIMESTAMP, " +
+                "last_join_date TIMESTAMP, unread_count INT)");
+        ddl.execute("CREATE INDEX idx_member_chatroom_chatroom ON member_chatroom (chatroom_id)");
+        ddl.execute("CREATE TABLE chat (chat_id BIGINT AUTO_INCREMENT PRIMARY KEY, contents VARCHAR(1000) NOT NULL, " +
+                "timestamp BIGINT NOT NULL, chatroom_id BIGINT NOT NULL, from_member_id BIGINT NOT NULL, " +
+                "created_at TIMESTAMP, updated_at TIMESTAMP)");
+        ddl.execute("CREATE INDEX idx_chat_chatroom ON chat (chatroom_id)");
+
+        // 채팅방마다 두 회원이 입장한 상태
+        for (long chatroomId = 1; chatroomId <= chatrooms; chatroomId++) {
+            ddl.update("INSERT INTO chatroom (chatroom_id) VALUES (?)", chatroomId);
+            ddl.update("INSERT INTO member_chatroom (member_id, chatroom_id, last_join_date, unread_count) " +
+                    "VALUES (?, ?, DATEADD('DAY', -1, LOCALTIMESTAMP), 0)", chatroomId * 2 - 1, chatroomId);
+            ddl.update("INSERT INTO member_chatroom (member_id, chatroom_id, last_join_date, unread_count) " +
+                    "VALUES (?, ?, DATEADD('DAY', -1, LOCALTIMESTAMP), 0)", chatroomId * 2, chatroomId);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        jdbcTemplate.getJdbcTemplate().execute("DROP ALL OBJECTS");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES_PER_INVOCATION)
+    public void perMessage() {
+        for (int i = 0; i < MESSAGES_PER_INVOCATION; i++) {
+            PendingChat pendingChat = nextChat(i);
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update("INSERT INTO chat (contents, timestamp, chatroom_id, from_member_id, " +
+                        "created_at, updated_at) VALUES (:contents, :timestamp, :chatroomId, :fromMemberId, " +
+                        ":createdAt, :createdAt)", params(pendingChat));
+                jdbcTemplate.update("UPDATE member_chatroom SET unread_count = unread_count + 1 " +
+                        "WHERE chatroom_id = :chatroomId AND member_id <> :fromMemberId", params(pendingChat));
+                jdbcTemplate.update("UPDATE chatroom SET last_chat_id = (SELECT MAX(c.chat_id) FROM chat c " +
+                        "WHERE c.chatroom_id = :chatroomId), last_chat_timestamp = :timestamp, " +
+                        "last_chat_at = :createdAt, last_chat_contents = :contents " +
+                        "WHERE chatroom_id = :chatroomId", params(pendingChat));
+            });
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES_PER_INVOCATION)
+    public int writeBehind() {
+        for (int i = 0; i < MESSAGES_PER_INVOCATION; i++) {
+            chatWriteBehindQueue.enqueue(nextChat(i));
+        }
+        return chatWriteBehindQueue.flush();
+    }
+
+    private PendingChat nextChat(int i) {
+        long chatroomId = i % chatrooms + 1;
+        return PendingChat.builder()
+                .chatroomId(chatroomId)
+                .fromMemberId(chatroomId * 2 - 1)
+                .contents("message " + i)
+                .timestamp(++timestamp)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private MapSqlParameterSource params(PendingChat pendingChat) {
+        return new MapSqlParameterSource()
+                .addValue("contents", pendingChat.getContents())
+                .addValue("timestamp", pendingChat.getTimestamp())
+                .addValue("chatroomId", pendingChat.getChatroomId())
+                .addValue("fromMemberId", pendingChat.getFromMemberId())
+                .addValue("createdAt", pendingChat.getCreatedAt());
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.gamegoo.benchmark;
+
+import com.gamegoo.filter.JWTFilter;
+import com.gamegoo.security.BlindMemberRegistry;
+import com.gamegoo.security.CustomUserDetails;
+import com.gamegoo.util.JWTUtil;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증된 요청 1건의 JWT 처리 지연 시간 측정 (LoggingFilter의 회원 id 추출 + JWTFilter 인증)
+ * <ul>
+ *     <li>legacy: 기존처럼 두 필터에서 각각 파서를 새로 만들어 서명 검증 (Member 조회는 제외)</li>
+ *     <li>sharedParser: 미리 만든 파서로 요청당 한 번만 검증, 검증 결과는 request attribute로 공유 (캐시 없음)</li>
+ *     <li>cachedToken: sharedParser + 최근 검증한 토큰 캐시</li>
+ * </ul>
+ * 요청 로그 출력 비용은 제외하기 위해 LoggingFilter 대신 같은 호출(JWTUtil.getId(request, token))만 수행
+ * (./gradlew jmh -Pjmh.includes=JWTFilterBenchmark)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JWTFilterBenchmark {
+
+    private static final String SECRET = "secretsecretsecretsecretsecretsecretsecretsecretsecretsecretsecretsecret";
+    private static final long MEMBER_ID = 1;
+
+    private SecretKey secretKey;
+    private String token;
+    private JWTUtil uncachedJwtUtil;
+    private JWTUtil cachedJwtUtil;
+    private JWTFilter uncachedJwtFilter;
+    private JWTFilter cachedJwtFilter;
+
+    @Setup
+    public void setUp() {
+        secretKey = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8),
+                Jwts.SIG.HS256.key().build().getAlgorithm());
+        uncachedJwtUtil = new JWTUtil(SECRET, 0);
+        cachedJwtUtil = new JWTUtil(SECRET, 10000);
+        token = cachedJwtUtil.createJwtWithId(MEMBER_ID, TimeUnit.HOURS.toMillis(1));
+
+        // 탈퇴 회원 목록은 비어있는 상태, Member 조회 없이 토큰의 회원 id로 인증
+        BlindMemberRegistry blindMemberRegistry = new BlindMemberRegistry(null, true);
+        uncachedJwtFilter = new JWTFilter(uncachedJwtUtil, List.of(), null, blindMemberRegistry, true);
+        cachedJwtFilter = new JWTFilter(cachedJwtUtil, List.of(), null, blindMemberRegistry, true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Object legacy() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/member/profile");
+        request.addHeader("Authorization", "Bearer " + token);
+
+        // LoggingFilter
+        legacyGetId(request.getHeader("Authorization").substring(7));
+        // JWTFilter
+        Long id = legacyGetId(request.getHeader("Authorization").split(" ")[1]);
+        CustomUserDetails customUserDetails = new CustomUserDetails(id);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                customUserDetails, null, customUserDetails.getAuthorities()));
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public Object sharedParser() throws ServletException, IOException {
+        return filterChain(uncachedJwtUtil, uncachedJwtFilter);
+    }
+
+    @Benchmark
+    public Object cachedToken() throws ServletException, IOException {
+        return filterChain(cachedJwtUtil, cachedJwtFilter);
+    }
+
+    private Long legacyGetId(String token) {
+        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("id", Long.class);
+    }
+
+    private Object filterChain(JWTUtil jwtUtil, JWTFilter jwtFilter) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/member/profile");
+        request.addHeader("Authorization", "Bearer " + token);
+
+        jwtUtil.getId(request, token);
+        jwtFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+}
@@ -0,0 +1,154 @@
+package com.gamegoo.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매칭 기록 이력(종료 상태, 과거 기록)이 늘어날 때 매칭 흐름에서 사용하는 MatchingRecord 조회의 지연 시간 측정 (H2 in-memory)
+ * <ul>
+ *     <li>restorePendingPool: 최근 5분 이내 대기 중인 매칭 기록 조회 (매칭 풀 복구)</li>
+ *     <li>mannerMessageTargets: 매너 평가 메시지 스케줄러 조회</li>
+ *     <li>latestMatchingRecord: 최신 매칭 기록 포인터를 통한 회원의 최신 매칭 기록 조회</li>
+ * </ul>
+ * MatchingRecord 엔티티와 같은 composite index를 사용하며, 대기 중인 기록 수는 이력 크기와 무관하게 고정.
+ * 10M 행은 힙 4GB 이상 필요 (예: ./gradlew jmh -Pjmh.includes=MatchingHistoryBenchmark, jvmArgs -Xmx6g)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class MatchingHistoryBenchmark {
+
+    private static final int MEMBER_COUNT = 100000;
+    private static final int PENDING_COUNT = 1000;
+    private static final int MANNER_TARGET_COUNT = 200;
+
+    @Param({"100000", "1000000", "10000000"})
+    private int historyRows;
+
+    private Connection connection;
+    private PreparedStatement restorePendingPool;
+    private PreparedStatement mannerMessageTargets;
+    private PreparedStatement latestMatchingRecord;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:history" + historyRows + ";DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE matching_record (" +
+                    "matching_id BIGINT PRIMARY KEY, game_mode INT NOT NULL, main_position INT, " +
+                    "sub_position INT, want_position INT, mike BOOLEAN NOT NULL, status VARCHAR(10) NOT NULL, " +
+                    "manner_message_sent BOOLEAN, member_id BIGINT NOT NULL, created_at TIMESTAMP, " +
+                    "updated_at TIMESTAMP)");
+            statement.execute("CREATE INDEX idx_matching_record_mode_status_created " +
+                    "ON matching_record (game_mode, status, created_at)");
+            statement.execute("CREATE INDEX idx_matching_record_status_manner_updated " +
+                    "ON matching_record (status, manner_message_sent, updated_at)");
+            statement.execute("CREATE TABLE latest_matching_record (" +
+                    "latest_matching_id BIGINT PRIMARY KEY, member_id BIGINT NOT NULL, game_mode INT NOT NULL, " +
+                    "matching_id BIGINT NOT NULL, UNIQUE (member_id, game_mode))");
+
+            // 최근 1년에 걸친 종료 상태의 이력 (매너 평가 메시지는 모두 전송 완료)
+            statement.execute("INSERT INTO matching_record SELECT x, MOD(x, 4) + 1, MOD(x, 6), MOD(x + 1, 6), " +
+                    "MOD(x + 2, 6), MOD(x, 2) = 0, " +
+                    "CASE MOD(x, 3) WHEN 0 THEN 'SUCCESS' WHEN 1 THEN 'FAIL' ELSE 'QUIT' END, TRUE, " +
+                    "MOD(x, " + MEMBER_COUNT + ") + 1, " +
+                    "DATEADD('SECOND', -600 - MOD(x * 7919, 31536000), LOCALTIMESTAMP), " +
+                    "DATEADD('SECOND', -600 - MOD(x * 7919, 31536000), LOCALTIMESTAMP) " +
+                    "FROM SYSTEM_RANGE(1, " + historyRows + ")");
+
+            // 이력 크기와 무관하게 고정된 hot working set: 최근 대기 요청과 매너 평가 메시지 대상
+            long pendingStart = historyRows + 1L;
+            statement.execute("INSERT INTO matching_record SELECT x, MOD(x, 4) + 1, 1, 2, 3, FALSE, 'PENDING', " +
+                    "FALSE, x - " + pendingStart + " + 1, DATEADD('SECOND', -MOD(x, 240), LOCALTIMESTAMP), " +
+                    "LOCALTIMESTAMP FROM SYSTEM_RANGE(" + pendingStart + ", " + (pendingStart + PENDING_COUNT - 1) +
+                    ")");
+            long mannerStart = pendingStart + PENDING_COUNT;
+            statement.execute("INSERT INTO matching_record SELECT x, 1, 1, 2, 3, FALSE, 'SUCCESS', FALSE, " +
+                    "x - " + mannerStart + " + 1, DATEADD('HOUR', -2, LOCALTIMESTAMP), " +
+                    "DATEADD('HOUR', -2, LOCALTIMESTAMP) FROM SYSTEM_RANGE(" + mannerStart + ", " +
+                    (mannerStart + MANNER_TARGET_COUNT - 1) + ")");
+
+            // 대기 중인 회원의 최신 매칭 기록 포인터
+            statement.execute("INSERT INTO latest_matching_record SELECT x - " + pendingStart + " + 1, " +
+                    "x - " + pendingStart + " + 1, MOD(x, 4) + 1, x FROM SYSTEM_RANGE(" + pendingStart + ", " +
+                    (pendingStart + PENDING_COUNT - 1) + ")");
+            statement.execute("ANALYZE");
+        }
+
+        restorePendingPool = connection.prepareStatement("SELECT m.* FROM matching_record m " +
+                "WHERE m.created_at > ? AND m.status = 'PENDING' AND m.game_mode = ? AND m.matching_id IN (" +
+                "SELECT MAX(mr.matching_id) FROM matching_record mr WHERE mr.created_at > ? " +
+                "AND mr.status = 'PENDING' AND mr.game_mode = ? GROUP BY mr.member_id)");
+        mannerMessageTargets = connection.prepareStatement("SELECT m.* FROM matching_record m " +
+                "WHERE m.status = 'SUCCESS' AND m.manner_message_sent = FALSE AND m.updated_at < ?");
+        latestMatchingRecord = connection.prepareStatement("SELECT m.* FROM latest_matching_record l " +
+                "JOIN matching_record m ON m.matching_id = l.matching_id WHERE l.member_id = ? AND l.game_mode = ?");
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public int restorePendingPool() throws SQLException {
+        Timestamp createdAfter = Timestamp.valueOf(LocalDateTime.now().minusMinutes(5));
+        restorePendingPool.setTimestamp(1, createdAfter);
+        restorePendingPool.setInt(2, 1);
+        restorePendingPool.setTimestamp(3, createdAfter);
+        restorePendingPool.setInt(4, 1);
+        return count(restorePendingPool);
+    }
+
+    @Benchmark
+    public int mannerMessageTargets() throws SQLException {
+        mannerMessageTargets.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now().minusSeconds(60)));
+        return count(mannerMessageTargets);
+    }
+
+    @Benchmark
+    public int latestMatchingRecord() throws SQLException {
+        int memberId = ThreadLocalRandom.current().nextInt(PENDING_COUNT) + 1;
+        latestMatchingRecord.setLong(1, memberId);
+        latestMatchingRecord.setInt(2, (historyRows + memberId) % 4 + 1);
+        return count(latestMatchingRecord);
+    }
+
+    private int count(PreparedStatement statement) throws SQLException {
+        int count = 0;
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+}
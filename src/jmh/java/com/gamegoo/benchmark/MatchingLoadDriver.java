@@ -0,0 +1,180 @@
+package com.gamegoo.benchmark;
+
+import com.gamegoo.domain.matching.MatchingType;
+import com.gamegoo.domain.member.Tier;
+import com.gamegoo.dto.matching.MatchingProposal;
+import com.gamegoo.service.matching.MatchingPool;
+import com.gamegoo.service.matching.MatchingPoolEntry;
+import com.gamegoo.service.matching.MatchingPriorityCalculator;
+import com.gamegoo.service.matching.MutualBestMatcher;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 매칭 흐름 부하 시뮬레이션. 1 tick = 1초로 보고, 매 tick 마다 새 대기 요청을 넣은 뒤 두 가지 방식으로 매칭
+ * <ul>
+ *     <li>CLIENT_POLLING: 기존 흐름. 대기 중인 각 클라이언트가 매 tick 우선순위 리스트를 다시 계산해 가장 높은 상대에게 매칭을 시도하고,
+ *     같은 상대를 먼저 잡은 클라이언트가 있으면 다음 tick에 재시도</li>
+ *     <li>MUTUAL_BEST_BATCH: 매 tick gameMode 별 대기 풀 전체에서 서로가 최선인 쌍을 한 번에 계산</li>
+ * </ul>
+ * 실행: java -cp (jmh classpath) com.gamegoo.benchmark.MatchingLoadDriver [arrivalsPerTick] [ticks] [seed]
+ */
+public class MatchingLoadDriver {
+
+    private static final int EXPIRATION_TICKS = (int) (MatchingPool.EXPIRATION_MINUTES * 60);
+
+    enum Strategy {
+        CLIENT_POLLING, MUTUAL_BEST_BATCH
+    }
+
+    public static void main(String[] args) {
+        int arrivalsPerTick = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        int ticks = args.length > 1 ? Integer.parseInt(args[1]) : 600;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+
+        for (Strategy strategy : Strategy.values()) {
+            Result result = simulate(strategy, arrivalsPerTick, ticks, seed);
+            System.out.printf(
+                    "%-18s arrivals/tick=%d ticks=%d pairs=%d matches/sec=%.2f waitP50=%ds waitP90=%ds expired=%d "
+                            + "computeMs=%d%n",
+                    strategy, arrivalsPerTick, ticks, result.pairs, (double) result.pairs / ticks,
+                    percentile(result.waits, 0.5), percentile(result.waits, 0.9), result.expired,
+                    result.computeNanos / 1_000_000);
+        }
+    }
+
+    static Result simulate(Strategy strategy, int arrivalsPerTick, int ticks, long seed) {
+        Random random = new Random(seed);
+        Map<Integer, List<MatchingPoolEntry>> waiting = new HashMap<>();
+        Map<Long, Integer> arrivalTicks = new HashMap<>();
+        Result result = new Result();
+        long nextMemberId = 1;
+
+        for (int tick = 0; tick < ticks; tick++) {
+            // 새 대기 요청 추가
+            for (int i = 0; i < arrivalsPerTick; i++) {
+                MatchingPoolEntry entry = randomEntry(random, nextMemberId++);
+                waiting.computeIfAbsent(entry.getGameMode(), key -> new ArrayList<>()).add(entry);
+                arrivalTicks.put(entry.getMemberId(), tick);
+            }
+
+            for (List<MatchingPoolEntry> entries : waiting.values()) {
+                // 유효 시간이 지난 요청 제거
+                int currentTick = tick;
+                int before = entries.size();
+                entries.removeIf(entry -> currentTick - arrivalTicks.get(entry.getMemberId()) >= EXPIRATION_TICKS);
+                result.expired += before - entries.size();
+
+                long startedAt = System.nanoTime();
+                List<long[]> pairs = strategy==Strategy.CLIENT_POLLING
+                        ? clientPolling(entries, random)
+                        : mutualBestBatch(entries);
+                result.computeNanos += System.nanoTime() - startedAt;
+
+                Set<Long> matchedMemberIds = new HashSet<>();
+                for (long[] pair : pairs) {
+                    result.pairs++;
+                    for (long memberId : pair) {
+                        matchedMemberIds.add(memberId);
+                        result.waits.add(tick - arrivalTicks.get(memberId));
+                    }
+                }
+                entries.removeIf(entry -> matchedMemberIds.contains(entry.getMemberId()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 기존 흐름: 클라이언트마다 우선순위 리스트를 새로 계산하고 최상위 상대에게 매칭 시도, 상대가 이미 잡혔으면 실패
+     */
+    private static List<long[]> clientPolling(List<MatchingPoolEntry> entries, Random random) {
+        List<MatchingPoolEntry> clients = new ArrayList<>(entries);
+        Collections.shuffle(clients, random);
+
+        Set<Long> claimed = new HashSet<>();
+        List<long[]> pairs = new ArrayList<>();
+        for (MatchingPoolEntry client : clients) {
+            if (claimed.contains(client.getMemberId())) {
+                continue;
+            }
+
+            MatchingPoolEntry best = null;
+            int bestPriority = 0;
+            for (MatchingPoolEntry candidate : entries) {
+                if (candidate.getMemberId()==client.getMemberId()) {
+                    continue;
+                }
+                int priority = MatchingPriorityCalculator.calculatePriority(client, candidate);
+                int targetPriority = MatchingPriorityCalculator.calculatePriority(candidate, client);
+                if (priority > bestPriority && targetPriority > 0) {
+                    best = candidate;
+                    bestPriority = priority;
+                }
+            }
+
+            // 최상위 상대를 다른 클라이언트가 먼저 잡은 경우 다음 tick에 재시도
+            if (best==null || claimed.contains(best.getMemberId())) {
+                continue;
+            }
+            claimed.add(client.getMemberId());
+            claimed.add(best.getMemberId());
+            pairs.add(new long[]{client.getMemberId(), best.getMemberId()});
+        }
+        return pairs;
+    }
+
+    private static List<long[]> mutualBestBatch(List<MatchingPoolEntry> entries) {
+        List<long[]> pairs = new ArrayList<>();
+        for (MatchingProposal proposal : MutualBestMatcher.match(entries, Map.of())) {
+            pairs.add(new long[]{proposal.getMemberId(), proposal.getTargetMemberId()});
+        }
+        return pairs;
+    }
+
+    private static MatchingPoolEntry randomEntry(Random random, long memberId) {
+        int mainPosition = random.nextInt(6);
+        int subPosition = random.nextInt(6);
+        return MatchingPoolEntry.builder()
+                .matchingRecordId(memberId)
+                .memberId(memberId)
+                .gameMode(random.nextInt(4) + 1)
+                .mainPosition(mainPosition)
+                .subPosition(subPosition)
+                .wantPosition(random.nextInt(6))
+                .mike(random.nextBoolean())
+                .tier(Tier.values()[random.nextInt(Tier.values().length)])
+                .rank(random.nextInt(4) + 1)
+                .mannerLevel(random.nextInt(5) + 1)
+                .matchingType(random.nextInt(4)==0 ? MatchingType.PRECISE : MatchingType.BASIC)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static int percentile(List<Integer> values, double percentile) {
+        if (values.isEmpty()) {
+            return 0;
+        }
+        List<Integer> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        return sorted.get((int) Math.min(sorted.size() - 1, Math.floor(sorted.size() * percentile)));
+    }
+
+    static class Result {
+
+        long pairs;
+        long expired;
+        long computeNanos;
+        List<Integer> waits = new ArrayList<>();
+
+    }
+
+}
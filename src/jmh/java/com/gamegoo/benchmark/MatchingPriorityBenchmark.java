@@ -0,0 +1,76 @@
+package com.gamegoo.benchmark;
+
+import com.gamegoo.domain.matching.MatchingRecord;
+import com.gamegoo.integration.matching.LegacyMatchingPriorityCalculator;
+import com.gamegoo.integration.matching.MatchingRecordSamples;
+import com.gamegoo.service.matching.MatchingPoolEntry;
+import com.gamegoo.service.matching.MatchingPriorityCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 10,000개의 합성 매칭 기록 쌍에 대해 기존 엔티티 기반 우선순위 계산과 primitive 스냅샷 기반 계산 비교 (양방향 계산)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MatchingPriorityBenchmark {
+
+    private static final int PAIR_COUNT = 10000;
+
+    private MatchingRecord[] myRecords;
+    private MatchingRecord[] otherRecords;
+    private MatchingPoolEntry[] myEntries;
+    private MatchingPoolEntry[] otherEntries;
+
+    @Setup
+    public void setUp() {
+        List<MatchingRecord[]> pairs = MatchingRecordSamples.generatePairs(PAIR_COUNT, 42L);
+
+        myRecords = new MatchingRecord[PAIR_COUNT];
+        otherRecords = new MatchingRecord[PAIR_COUNT];
+        myEntries = new MatchingPoolEntry[PAIR_COUNT];
+        otherEntries = new MatchingPoolEntry[PAIR_COUNT];
+        for (int i = 0; i < PAIR_COUNT; i++) {
+            myRecords[i] = pairs.get(i)[0];
+            otherRecords[i] = pairs.get(i)[1];
+            myEntries[i] = MatchingPoolEntry.from(myRecords[i]);
+            otherEntries[i] = MatchingPoolEntry.from(otherRecords[i]);
+        }
+    }
+
+    @Benchmark
+    public long legacyEntityScoring() {
+        long sum = 0;
+        for (int i = 0; i < PAIR_COUNT; i++) {
+            sum += LegacyMatchingPriorityCalculator.calculatePriority(myRecords[i], otherRecords[i]);
+            sum += LegacyMatchingPriorityCalculator.calculatePriority(otherRecords[i], myRecords[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long primitiveSnapshotScoring() {
+        long sum = 0;
+        for (int i = 0; i < PAIR_COUNT; i++) {
+            sum += MatchingPriorityCalculator.calculatePriority(myEntries[i], otherEntries[i]);
+            sum += MatchingPriorityCalculator.calculatePriority(otherEntries[i], myEntries[i]);
+        }
+        return sum;
+    }
+
+}
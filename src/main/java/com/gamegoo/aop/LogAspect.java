@@ -1,65 +1,136 @@
 package com.gamegoo.aop;
 
+import com.gamegoo.config.metrics.QueryBudget;
+import com.gamegoo.config.metrics.QueryBudgetExceededException;
+import com.gamegoo.config.metrics.QueryBudgetProperties;
+import com.gamegoo.config.metrics.QueryCountInspector;
+import com.gamegoo.filter.AccessLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
-import org.jboss.logging.MDC;
-import org.json.JSONObject;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-import javax.servlet.http.HttpServletRequest;
-import java.util.Enumeration;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 @Aspect
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class LogAspect {
 
+    private final MeterRegistry meterRegistry;
+    private final QueryBudgetProperties queryBudgetProperties;
+    // controller 메소드별 실행 시간, 쿼리 수 지표 및 쿼리 수 제한
+    private final Map<Method, ControllerMeters> controllerMeters = new ConcurrentHashMap<>();
+
     @Pointcut("execution(* com.gamegoo.controller..*.*(..))")
     public void controller() {
     }
 
+    /**
+     * controller 메소드의 실행 시간, 실행된 쿼리 수를 지표로 기록하고 요청의 access log에 추가
+     * 로그는 LoggingFilter에서 요청당 한 줄로 출력
+     * 실행된 쿼리 수가 제한을 넘은 경우 경고 로그 기록, query-budget.fail-on-exceed인 경우 예외 발생 (N+1 쿼리 검출)
+     * 검사는 controller 메소드가 끝난 후, 즉 service 트랜잭션이 커밋된 후에 이루어지므로 예외가 발생해도 변경 내용은
+     * 롤백되지 않고 응답만 실패함. 운영에서는 보고(경고 로그, 지표) 용도로만 사용
+     *
+     * @param joinPoint
+     * @return
+     * @throws Throwable
+     */
     @Around("controller()")
     public Object logMethodExecution(ProceedingJoinPoint joinPoint) throws Throwable {
-        HttpServletRequest request =
-                ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest();
+        ControllerMeters meters = controllerMeters.computeIfAbsent(
+                ((MethodSignature) joinPoint.getSignature()).getMethod(), this::createMeters);
 
-        // requestId가 없을 경우 기본값 설정
-        String requestId = (String) MDC.get("requestId");
-        if (requestId == null || requestId.isEmpty()) {
-            requestId = "N/A";  // requestId가 없을 경우 기본값을 설정
-        }
+        long startQueryCount = QueryCountInspector.currentCount();
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            checkQueryBudget(joinPoint, meters, QueryCountInspector.currentCount() - startQueryCount);
+            return result;
+        } finally {
+            long elapsedNanos = System.nanoTime() - start;
+            long queryCount = QueryCountInspector.currentCount() - startQueryCount;
 
-        String controllerName = joinPoint.getSignature().getDeclaringType().getSimpleName();
-        String methodName = joinPoint.getSignature().getName();
+            meters.latency().record(elapsedNanos, TimeUnit.NANOSECONDS);
+            meters.queries().record(queryCount);
 
-        long start = System.currentTimeMillis();
-        Object result = joinPoint.proceed();
+            // access log가 없는 요청(LoggingFilter 제외 경로 등)은 지표만 기록
+            AccessLog accessLog = getAccessLog();
+            if (accessLog != null) {
+                accessLog.setControllerName(joinPoint.getSignature().getDeclaringType().getSimpleName());
+                accessLog.setMethodName(joinPoint.getSignature().getName());
+                accessLog.setHandlerNanos(elapsedNanos);
+                accessLog.setQueryCount(queryCount);
+            }
+        }
+    }
 
-        long executionTime = System.currentTimeMillis() - start;
+    private void checkQueryBudget(ProceedingJoinPoint joinPoint, ControllerMeters meters, long queryCount) {
+        int queryBudget = meters.queryBudget() != null ? meters.queryBudget() : queryBudgetProperties.getMaxQueries();
+        if (queryCount <= queryBudget) {
+            return;
+        }
 
-        log.info("[requestId: {}] Method: {}.{} | Prams: {} | Execution Time: {}ms",
-                requestId,
-                controllerName, methodName, getParams(request), executionTime);
+        meters.budgetExceeded().increment();
+        String handler = joinPoint.getSignature().getDeclaringType().getSimpleName() + "."
+                + joinPoint.getSignature().getName();
+        if (queryBudgetProperties.isFailOnExceed()) {
+            throw new QueryBudgetExceededException(handler, queryCount, queryBudget);
+        }
+        log.warn("Query budget exceeded - {}: {} queries (budget: {})", handler, queryCount, queryBudget);
+    }
 
-        return result;
+    private AccessLog getAccessLog() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        return requestAttributes instanceof ServletRequestAttributes servletRequestAttributes
+                ? AccessLog.from(servletRequestAttributes.getRequest())
+                : null;
     }
 
-    private static JSONObject getParams(HttpServletRequest request) {
-        JSONObject jsonObject = new JSONObject();
-        Enumeration<String> params = request.getParameterNames();
+    private ControllerMeters createMeters(Method method) {
+        String controllerName = method.getDeclaringClass().getSimpleName();
+        String methodName = method.getName();
+        Timer latency = Timer.builder("gamegoo.controller")
+                .description("controller 메소드 실행 시간")
+                .tag("controller", controllerName)
+                .tag("method", methodName)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        DistributionSummary queries = DistributionSummary.builder("gamegoo.controller.queries")
+                .description("controller 메소드 실행 중 실행된 SQL 수")
+                .tag("controller", controllerName)
+                .tag("method", methodName)
+                .register(meterRegistry);
+        Counter budgetExceeded = Counter.builder("gamegoo.controller.query.budget.exceeded")
+                .description("controller 메소드의 SQL 수가 제한을 넘은 횟수")
+                .tag("controller", controllerName)
+                .tag("method", methodName)
+                .register(meterRegistry);
 
-        while (params.hasMoreElements()) {
-            String param = params.nextElement();
-            String replaceParam = param.replaceAll("\\.", "-");
-            jsonObject.put(replaceParam, request.getParameter(param));
-        }
+        // @QueryBudget이 없는 메소드는 null, 검사 시점의 query-budget.max-queries 적용
+        QueryBudget queryBudget = method.getAnnotation(QueryBudget.class);
+        return new ControllerMeters(latency, queries, budgetExceeded,
+                queryBudget != null ? queryBudget.value() : null);
+    }
 
-        return jsonObject;
+    private record ControllerMeters(Timer latency, DistributionSummary queries, Counter budgetExceeded,
+                                    Integer queryBudget) {
     }
 
 }
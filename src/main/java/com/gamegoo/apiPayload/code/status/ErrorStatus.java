@@ -57,6 +57,7 @@ public enum ErrorStatus implements BaseErrorCode {
     MATCHING_FAILED_BY_BLOCK(HttpStatus.BAD_REQUEST, "MATCH403", "차단된 사용자끼리의 매칭은 불가능합니다."),
     MATCHING_POSITION_NOT_FOUND(HttpStatus.NOT_FOUND, "MATCH404", "포지션 정보가 없습니다."),
     MATCHING_STATUS_ONLY_PENDING(HttpStatus.BAD_REQUEST, "MATCH405", "매칭 status는 무조건 pending 상태에서만 변경이 가능합니다"),
+    MATCHING_STATUS_CONFLICT(HttpStatus.CONFLICT, "MATCH409", "다른 요청에 의해 매칭 상태가 이미 변경되었습니다."),
 
     // Riot 관련 에러
     RIOT_NOT_FOUND(HttpStatus.NOT_FOUND, "RIOT404", "해당 Riot 계정이 존재하지 않습니다."),
@@ -144,6 +145,8 @@ public enum ErrorStatus implements BaseErrorCode {
             "채팅 상대 회원을 차단한 상태입니다. 채팅 메시지 전송이 불가능합니다."),
     CHAT_ADD_FAILED_BLOCKED_BY_CHAT_TARGET(HttpStatus.FORBIDDEN, "CHAT409",
             "채팅 상대 회원이 나를 차단했습니다. 채팅 메시지 전송이 불가능합니다."),
+    CHATROOM_CREATE_CONFLICT(HttpStatus.CONFLICT, "CHAT414",
+            "상대 회원과의 채팅방이 동시에 생성되었습니다. 다시 시도해주세요."),
 
 
     // 친구 관련 에러
@@ -1,14 +1,17 @@
 package com.gamegoo.config;
 
+import com.gamegoo.filter.AccessLogWriter;
 import com.gamegoo.filter.JWTExceptionHandlerFilter;
 import com.gamegoo.filter.JWTFilter;
 import com.gamegoo.filter.LoggingFilter;
 import com.gamegoo.filter.LoginFilter;
 import com.gamegoo.repository.member.MemberRepository;
 import com.gamegoo.repository.member.RefreshTokenRepository;
+import com.gamegoo.security.BlindMemberRegistry;
 import com.gamegoo.security.CustomUserDetailService;
 import com.gamegoo.util.JWTUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -39,6 +42,11 @@ public class SecurityConfig {
     private final CustomUserDetailService customUserDetailService;
     private final MemberRepository memberRepository;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final BlindMemberRegistry blindMemberRegistry;
+    private final AccessLogWriter accessLogWriter;
+
+    @Value("${spring.jwt.stateless-principal:false}")
+    private boolean statelessPrincipal;
 
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration configuration) throws Exception {
@@ -51,9 +59,10 @@ public class SecurityConfig {
                 "/v1/member/join", "/v1/member/login", "/v1/member/email", "/v1/member/refresh",
                 "/v1/member/riot", "/v1/posts/list", "/v1/posts/list/{boardId}",
                 "/v1/test/chatroom/create/matched", "/v1/member/password/reset",
-                "/v1/internal");
+                "/v1/internal", "/actuator");
 
-        return new JWTFilter(jwtUtil, excludedPaths, customUserDetailService);
+        return new JWTFilter(jwtUtil, excludedPaths, customUserDetailService, blindMemberRegistry,
+                statelessPrincipal);
     }
 
     @Bean
@@ -74,10 +83,11 @@ public class SecurityConfig {
                                 "/v1/test/chatroom/create/matched", "/v1/member/password/reset",
                                 "/v1/member/profile/other").permitAll()
                         .antMatchers("/v1/internal/**").permitAll()
+                        .antMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                         .antMatchers("/", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
                         .anyRequest().authenticated())
                 .addFilterBefore(new JWTExceptionHandlerFilter(), UsernamePasswordAuthenticationFilter.class)
-                .addFilterAfter(new LoggingFilter(jwtUtil), JWTExceptionHandlerFilter.class)
+                .addFilterAfter(new LoggingFilter(jwtUtil, accessLogWriter), JWTExceptionHandlerFilter.class)
                 .addFilterAt(new LoginFilter(authenticationManager(authenticationConfiguration), jwtUtil,
                         memberRepository, refreshTokenRepository), UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(jwtFilter(), LoginFilter.class)
@@ -0,0 +1,59 @@
+package com.gamegoo.config.http;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호출 대상별 동시 호출 수 제한 (bulkhead) 및 호출 지표 기록
+ * 제한을 넘은 호출은 대기하지 않고 IOException으로 거부되며, RestTemplate에서 ResourceAccessException으로 전달됨
+ */
+public class HttpClientBulkheadInterceptor implements ClientHttpRequestInterceptor {
+
+    private final Semaphore permits;
+    private final long waitMillis;
+    private final HttpClientMetrics metrics;
+
+    public HttpClientBulkheadInterceptor(int maxConcurrentCalls, long waitMillis, HttpClientMetrics metrics) {
+        this.permits = new Semaphore(maxConcurrentCalls);
+        this.waitMillis = waitMillis;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        acquire();
+
+        metrics.recordStart();
+        long startNanos = System.nanoTime();
+        boolean error = true;
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            error = response.getStatusCode().isError();
+            return response;
+        } finally {
+            metrics.recordFinish(System.nanoTime() - startNanos, error);
+            permits.release();
+        }
+    }
+
+    private void acquire() throws IOException {
+        try {
+            if (!permits.tryAcquire(waitMillis, TimeUnit.MILLISECONDS)) {
+                metrics.recordRejected();
+                throw new IOException("Too many concurrent calls to " + metrics.getName());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for " + metrics.getName());
+        }
+    }
+
+}
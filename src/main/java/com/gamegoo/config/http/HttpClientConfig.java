@@ -0,0 +1,83 @@
+package com.gamegoo.config.http;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 API 호출 대상별 RestTemplate
+ * 대상마다 connection pool, timeout, 동시 호출 수 제한을 따로 두어 한 대상의 장애가 다른 호출이나 요청 처리 스레드로 번지지 않도록 함
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(HttpClientProperties.class)
+public class HttpClientConfig {
+
+    private static final long IDLE_CONNECTION_TIMEOUT_SECONDS = 30;
+
+    private final HttpClientProperties httpClientProperties;
+
+    @Bean
+    public HttpClientMetrics socketHttpClientMetrics() {
+        return new HttpClientMetrics("socket");
+    }
+
+    @Bean
+    public HttpClientMetrics riotHttpClientMetrics() {
+        return new HttpClientMetrics("riot");
+    }
+
+    /**
+     * SOCKET 서버 호출용 RestTemplate
+     *
+     * @return
+     */
+    @Bean
+    public RestTemplate socketRestTemplate() {
+        return createRestTemplate(httpClientProperties.getSocket(), socketHttpClientMetrics());
+    }
+
+    /**
+     * Riot API 호출용 RestTemplate
+     *
+     * @return
+     */
+    @Bean
+    public RestTemplate riotRestTemplate() {
+        return createRestTemplate(httpClientProperties.getRiot(), riotHttpClientMetrics());
+    }
+
+    private RestTemplate createRestTemplate(HttpClientProperties.Destination destination, HttpClientMetrics metrics) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(destination.getMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(destination.getMaxConnections());
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(destination.getConnectTimeout())
+                .setSocketTimeout(destination.getReadTimeout())
+                .setConnectionRequestTimeout(destination.getConnectionRequestTimeout())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(IDLE_CONNECTION_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .build();
+
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        restTemplate.getInterceptors().add(new HttpClientBulkheadInterceptor(destination.getMaxConcurrentCalls(),
+                destination.getBulkheadWait(), metrics));
+        return restTemplate;
+    }
+
+}
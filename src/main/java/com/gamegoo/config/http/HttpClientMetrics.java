@@ -0,0 +1,93 @@
+package com.gamegoo.config.http;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 외부 API 호출 대상별 진행 중인 호출 수, 응답 시간, 실패 및 거부 횟수
+ * MeterBinder bean으로 등록되어 gamegoo.http.client.* 지표로 조회 (응답 시간 분포는 gamegoo.http.client histogram)
+ */
+public class HttpClientMetrics implements MeterBinder {
+
+    @Getter
+    private final String name;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private volatile Timer latencyTimer;
+
+    public HttpClientMetrics(String name) {
+        this.name = name;
+    }
+
+    public void recordStart() {
+        inFlight.incrementAndGet();
+    }
+
+    /**
+     * 호출 종료 기록, 응답을 받지 못했거나 4xx, 5xx 응답인 경우 error
+     *
+     * @param elapsedNanos
+     * @param error
+     */
+    public void recordFinish(long elapsedNanos, boolean error) {
+        inFlight.decrementAndGet();
+        requests.increment();
+        if (error) {
+            errors.increment();
+        }
+
+        Timer timer = latencyTimer;
+        if (timer != null) {
+            timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("gamegoo.http.client.in.flight", inFlight, AtomicInteger::get)
+                .tag("destination", name)
+                .register(registry);
+        FunctionCounter.builder("gamegoo.http.client.errors", errors, LongAdder::sum)
+                .tag("destination", name)
+                .register(registry);
+        FunctionCounter.builder("gamegoo.http.client.rejected", rejected, LongAdder::sum)
+                .tag("destination", name)
+                .register(registry);
+        latencyTimer = Timer.builder("gamegoo.http.client")
+                .description("외부 API 호출 응답 시간")
+                .tag("destination", name)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    public void recordRejected() {
+        rejected.increment();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+}
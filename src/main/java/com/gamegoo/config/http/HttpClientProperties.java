@@ -0,0 +1,31 @@
+package com.gamegoo.config.http;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 외부 API 호출 대상별 connection pool, timeout, 동시 호출 수 제한 설정 (http-client.socket, http-client.riot)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "http-client")
+public class HttpClientProperties {
+
+    private Destination socket = new Destination();
+    private Destination riot = new Destination();
+
+    @Getter
+    @Setter
+    public static class Destination {
+
+        private int connectTimeout = 1000;           // 연결 timeout(ms)
+        private int readTimeout = 3000;              // 응답 대기 timeout(ms)
+        private int connectionRequestTimeout = 500;  // pool에서 connection을 얻기까지 대기 시간(ms)
+        private int maxConnections = 20;             // pool의 최대 connection 수
+        private int maxConcurrentCalls = 20;         // 동시에 진행할 수 있는 최대 호출 수 (bulkhead)
+        private long bulkheadWait = 0;               // 동시 호출 수가 가득 찬 경우 대기 시간(ms), 초과 시 호출 거부
+
+    }
+
+}
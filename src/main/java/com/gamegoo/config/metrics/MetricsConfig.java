@@ -0,0 +1,24 @@
+package com.gamegoo.config.metrics;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * controller 외의 오래 걸릴 수 있는 service 메소드의 실행 시간은 @Timed로 기록
+ * controller 메소드의 실행 시간 및 쿼리 수는 LogAspect, 외부 API 호출은 HttpClientMetrics,
+ * connection pool, Hibernate 통계는 actuator 자동 설정으로 기록되며 /actuator/prometheus로 조회
+ * controller 메소드의 SQL 수 제한은 QueryBudgetProperties, @QueryBudget으로 설정
+ */
+@Configuration
+@EnableConfigurationProperties(QueryBudgetProperties.class)
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.gamegoo.config.metrics;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * controller 메소드 1회 실행 중 허용하는 최대 SQL 수, 지정하지 않은 메소드는 query-budget.max-queries 적용
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int value();
+
+}
@@ -0,0 +1,12 @@
+package com.gamegoo.config.metrics;
+
+/**
+ * query-budget.fail-on-exceed 설정 시 controller 메소드의 SQL 수가 제한을 넘은 경우 발생
+ */
+public class QueryBudgetExceededException extends IllegalStateException {
+
+    public QueryBudgetExceededException(String handler, long queryCount, int queryBudget) {
+        super(String.format("%s executed %d queries (budget: %d)", handler, queryCount, queryBudget));
+    }
+
+}
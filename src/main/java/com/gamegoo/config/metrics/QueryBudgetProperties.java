@@ -0,0 +1,19 @@
+package com.gamegoo.config.metrics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * controller 메소드별 SQL 수 제한 설정 (query-budget)
+ * 제한은 service 트랜잭션이 커밋된 후 검사하므로, fail-on-exceed로 예외가 발생해도 이미 커밋된 변경은 롤백되지 않음
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "query-budget")
+public class QueryBudgetProperties {
+
+    private int maxQueries = 30;            // @QueryBudget이 없는 controller 메소드의 최대 SQL 수
+    private boolean failOnExceed = false;   // true인 경우 초과 시 예외 발생 (테스트), false인 경우 경고 로그만 기록
+
+}
@@ -0,0 +1,24 @@
+package com.gamegoo.config.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 실행하는 SQL 수를 스레드별로 집계
+ * 집계 값은 계속 증가하므로, 구간 전후 값의 차이로 해당 구간에서 실행된 쿼리 수를 계산
+ * (spring.jpa.properties.hibernate.session_factory.statement_inspector로 등록)
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<long[]> QUERY_COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    public static long currentCount() {
+        return QUERY_COUNT.get()[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        QUERY_COUNT.get()[0]++;
+        return sql;
+    }
+
+}
@@ -3,9 +3,7 @@ package com.gamegoo.controller;
 import com.gamegoo.apiPayload.ApiResponse;
 import com.gamegoo.apiPayload.code.status.ErrorStatus;
 import com.gamegoo.apiPayload.exception.handler.MatchingHandler;
-import com.gamegoo.converter.ChatConverter;
 import com.gamegoo.converter.MatchingConverter;
-import com.gamegoo.domain.chat.Chat;
 import com.gamegoo.domain.matching.MatchingType;
 import com.gamegoo.domain.member.Member;
 import com.gamegoo.dto.chat.ChatRequest;
@@ -63,9 +61,7 @@ public class InternalController {
             @PathVariable(name = "memberId") Long memberId,
             @PathVariable(name = "chatroomUuid") String chatroomUuid,
             @RequestBody @Valid ChatRequest.ChatCreateRequest request) {
-        Chat chat = chatCommandService.addChat(request, chatroomUuid, memberId);
-
-        return ApiResponse.onSuccess(ChatConverter.toChatCreateResultDTO(chat));
+        return ApiResponse.onSuccess(chatCommandService.addChatFromSocket(request, chatroomUuid, memberId));
     }
 
 
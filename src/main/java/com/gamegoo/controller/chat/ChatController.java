@@ -1,6 +1,7 @@
 package com.gamegoo.controller.chat;
 
 import com.gamegoo.apiPayload.ApiResponse;
+import com.gamegoo.config.metrics.QueryBudget;
 import com.gamegoo.converter.ChatConverter;
 import com.gamegoo.domain.chat.Chat;
 import com.gamegoo.dto.chat.ChatRequest;
@@ -14,7 +15,6 @@ import io.swagger.v3.oas.annotations.Parameters;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Slice;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -51,6 +51,7 @@ public class ChatController {
     @Parameter(name = "cursor",
             description = "페이징을 위한 커서, 이전 페이지의 마지막 채팅방의 lastMsgTimestamp입니다. 13자리 timestamp integer를 보내주세요.")
     @GetMapping("/member/chatroom")
+    @QueryBudget(6)
     public ApiResponse<ChatResponse.ChatroomViewListDTO> getChatroom(
             @RequestParam(name = "cursor", required = false) Long cursor) {
         Long memberId = JWTUtil.getCurrentUserId();
@@ -109,17 +110,34 @@ public class ChatController {
     @Operation(summary = "채팅 내역 조회 API",
             description = "특정 채팅방의 메시지 내역을 조회하는 API 입니다.\n\n" +
                     "cursor 파라미터를 보내면, 해당 timestamp 이전에 전송된 메시지 최대 20개를 조회합니다.\n\n" +
-                    "cursor 파라미터를 보내지 않으면, 해당 채팅방의 가장 최근 메시지 내역을 조회합니다.")
+                    "after 파라미터를 보내면, 해당 timestamp 이후에 전송된 메시지 최대 20개를 조회합니다.\n\n" +
+                    "두 파라미터를 모두 보내지 않으면, 해당 채팅방의 최근 메시지 내역을 조회합니다. " +
+                    "안읽은 메시지가 20개 이상인 경우 가장 오래된 안읽은 메시지부터 20개를 조회하며, " +
+                    "이후 메시지는 newer_cursor를 after 파라미터로 보내 조회합니다.\n\n" +
+                    "timestamp가 같은 메시지를 구분하기 위해 next_cursor_chat_id, newer_cursor_chat_id를 " +
+                    "각각 cursor_chat_id, after_chat_id 파라미터로 함께 보내주세요.")
     @GetMapping("/chat/{chatroomUuid}/messages")
-    @Parameter(name = "cursor", description = "페이징을 위한 커서, 13자리 timestamp integer를 보내주세요. (UTC 기준)")
+    @Parameters({
+            @Parameter(name = "cursor", description = "이전 메시지 페이징을 위한 커서, 13자리 timestamp integer를 보내주세요. (UTC 기준)"),
+            @Parameter(name = "cursor_chat_id", description = "이전 메시지 페이징을 위한 커서의 chat id, 응답받은 next_cursor_chat_id를 보내주세요."),
+            @Parameter(name = "after", description = "이후 메시지 페이징을 위한 커서, 13자리 timestamp integer를 보내주세요. (UTC 기준)"),
+            @Parameter(name = "after_chat_id", description = "이후 메시지 페이징을 위한 커서의 chat id, 응답받은 newer_cursor_chat_id를 보내주세요.")
+    })
     public ApiResponse<ChatResponse.ChatMessageListDTO> getChatMessages(
             @PathVariable(name = "chatroomUuid") String chatroomUuid,
-            @RequestParam(name = "cursor", required = false) Long cursor) {
+            @RequestParam(name = "cursor", required = false) Long cursor,
+            @RequestParam(name = "cursor_chat_id", required = false) Long cursorChatId,
+            @RequestParam(name = "after", required = false) Long after,
+            @RequestParam(name = "after_chat_id", required = false) Long afterChatId) {
         Long memberId = JWTUtil.getCurrentUserId();
 
-        Slice<Chat> chatMessages = chatQueryService.getChatMessagesByCursor(chatroomUuid, memberId, cursor);
+        if (after!=null) {
+            return ApiResponse.onSuccess(chatQueryService.getChatMessagesAfterCursor(chatroomUuid, memberId, after,
+                    afterChatId));
+        }
 
-        return ApiResponse.onSuccess(ChatConverter.toChatMessageListDTO(chatMessages));
+        return ApiResponse.onSuccess(chatQueryService.getChatMessagesByCursor(chatroomUuid, memberId, cursor,
+                cursorChatId));
     }
 
     @Operation(summary = "채팅 메시지 읽음 처리 API", description = "특정 채팅방의 메시지를 읽음 처리하는 API 입니다.")
@@ -155,6 +173,15 @@ public class ChatController {
         return ApiResponse.onSuccess(chatroomUuids);
     }
 
+    @Operation(summary = "안읽은 채팅방 uuid 목록 및 전체 안읽은 메시지 개수 조회 API",
+            description = "안읽은 메시지가 속한 채팅방의 uuid 목록과 전체 안읽은 메시지 개수를 조회하는 API 입니다.")
+    @GetMapping("/chat/unread/count")
+    public ApiResponse<ChatResponse.UnreadChatroomDTO> getUnreadChatroomCount() {
+        Long memberId = JWTUtil.getCurrentUserId();
+
+        return ApiResponse.onSuccess(chatQueryService.getUnreadChatroomSummary(memberId));
+    }
+
     @Operation(summary = "매칭을 통한 채팅방 시작 메소드 테스트용 API",
             description = "매칭을 통한 채팅방 시작 메소드를 테스트하기 위한 API 입니다.\n\n" +
                     "대상 회원과의 채팅방이 이미 존재하는 경우, 해당 채팅방 uuid를 리턴합니다.\n\n" +
@@ -1,7 +1,9 @@
 package com.gamegoo.converter;
 
 import com.gamegoo.domain.chat.Chat;
+import com.gamegoo.domain.member.Member;
 import com.gamegoo.dto.chat.ChatResponse;
+import com.gamegoo.service.chat.PendingChat;
 import com.gamegoo.util.DatetimeUtil;
 import org.springframework.data.domain.Slice;
 
@@ -21,8 +23,32 @@ public class ChatConverter {
                 .build();
     }
 
+    public static ChatResponse.ChatCreateResultDTO toChatCreateResultDTO(Member fromMember, PendingChat pendingChat) {
+        return ChatResponse.ChatCreateResultDTO.builder()
+                .senderId(fromMember.getId())
+                .senderProfileImg(fromMember.getProfileImage())
+                .senderName(fromMember.getGameName())
+                .message(pendingChat.getContents())
+                .createdAt(DatetimeUtil.toKSTString(pendingChat.getCreatedAt()))
+                .timestamp(pendingChat.getTimestamp())
+                .build();
+    }
+
     public static ChatResponse.ChatMessageListDTO toChatMessageListDTO(Slice<Chat> chat) {
-        List<ChatResponse.ChatMessageDTO> chatMessageDtoList = chat
+        return toChatMessageListDTO(chat.getContent(), chat.hasNext(), false);
+    }
+
+    /**
+     * timestamp 오름차순 chat list로 ChatMessageListDTO 생성
+     *
+     * @param chats
+     * @param hasOlder 이전 메시지가 있는지 여부
+     * @param hasNewer 이후 메시지가 있는지 여부
+     * @return
+     */
+    public static ChatResponse.ChatMessageListDTO toChatMessageListDTO(List<Chat> chats, boolean hasOlder,
+                                                                       boolean hasNewer) {
+        List<ChatResponse.ChatMessageDTO> chatMessageDtoList = chats
                 .stream()
                 .map(chatElement -> {
                     if (chatElement.getFromMember().getId().equals(0L)) { // 해당 메시지가 시스템 메시지인 경우
@@ -35,11 +61,26 @@ public class ChatConverter {
         return ChatResponse.ChatMessageListDTO.builder()
                 .chatMessageDtoList(chatMessageDtoList)
                 .list_size(chatMessageDtoList.size())
-                .has_next(chat.hasNext())
+                .has_next(hasOlder)
                 // next cursor를 현재 chat list의 가장 오래된 chat의 timestamp로 주기
                 .next_cursor(
-                        chat.hasNext()
-                                ? chat.getContent().get(0).getTimestamp()
+                        hasOlder
+                                ? chats.get(0).getTimestamp()
+                                : null)
+                // timestamp가 같은 chat을 구분하기 위해 chat id도 함께 주기
+                .next_cursor_chat_id(
+                        hasOlder
+                                ? chats.get(0).getId()
+                                : null)
+                .has_newer(hasNewer)
+                // newer cursor를 현재 chat list의 가장 최근 chat의 timestamp로 주기
+                .newer_cursor(
+                        hasNewer
+                                ? chats.get(chats.size() - 1).getTimestamp()
+                                : null)
+                .newer_cursor_chat_id(
+                        hasNewer
+                                ? chats.get(chats.size() - 1).getId()
                                 : null)
                 .build();
     }
@@ -16,15 +16,21 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.PrePersist;
+import javax.persistence.Table;
 
 @Entity
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
+@Table(indexes = {
+        // 채팅 내역 keyset 페이징: chatroom_id 일치 + timestamp 역순 탐색
+        @Index(name = "idx_chat_chatroom_timestamp", columnList = "chatroom_id, timestamp")
+})
 public class Chat extends BaseDateTimeEntity {
 
     @Id
@@ -14,14 +14,25 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
 
 @Entity
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
+@Table(indexes = {
+        // 채팅 API의 uuid -> 채팅방 조회
+        @Index(name = "idx_chatroom_uuid", columnList = "uuid")
+}, uniqueConstraints = {
+        // 두 회원 간 채팅방 조회 및 동시 생성 시 중복 채팅방 방지
+        @UniqueConstraint(name = "uk_chatroom_member_pair", columnNames = {"min_member_id", "max_member_id"})
+})
 public class Chatroom extends BaseDateTimeEntity {
 
     @Id
@@ -35,4 +46,32 @@ public class Chatroom extends BaseDateTimeEntity {
     @JoinColumn(name = "start_member_id")
     private Member startMember;
 
+    // 채팅방 두 회원의 id 중 작은 값, 큰 값 (회원 순서와 무관한 채팅방 key)
+    @Column(name = "min_member_id")
+    private Long minMemberId;
+
+    @Column(name = "max_member_id")
+    private Long maxMemberId;
+
+    // 채팅방 목록 정렬 및 커서 조회를 위한 마지막 채팅 정보
+    private Long lastChatId;
+
+    private Long lastChatTimestamp;
+
+    private LocalDateTime lastChatAt;
+
+    @Column(length = 1000)
+    private String lastChatContents;
+
+    // 더 최근의 채팅인 경우에만 마지막 채팅 정보 갱신
+    public void updateLastChat(Chat chat) {
+        if (this.lastChatAt != null && chat.getCreatedAt().isBefore(this.lastChatAt)) {
+            return;
+        }
+        this.lastChatId = chat.getId();
+        this.lastChatTimestamp = chat.getTimestamp();
+        this.lastChatAt = chat.getCreatedAt();
+        this.lastChatContents = chat.getContents();
+    }
+
 }
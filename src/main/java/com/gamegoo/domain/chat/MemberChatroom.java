@@ -7,6 +7,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -18,7 +19,9 @@ import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import java.time.LocalDateTime;
 
+// unreadCount는 DB에서 원자적으로 증가시키므로, 다른 컬럼 변경 시 조회 시점의 unreadCount로 덮어쓰지 않도록 변경된 컬럼만 update
 @Entity
+@DynamicUpdate
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -34,6 +37,9 @@ public class MemberChatroom extends BaseDateTimeEntity {
 
     private LocalDateTime lastJoinDate;
 
+    // 내가 읽지 않은 메시지 개수, null인 경우 아직 집계되지 않은 상태
+    private Integer unreadCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id", nullable = false)
     private Member member;
@@ -58,4 +64,8 @@ public class MemberChatroom extends BaseDateTimeEntity {
         this.lastJoinDate = lastJoinDate;
     }
 
+    public void updateUnreadCount(Integer unreadCount) {
+        this.unreadCount = unreadCount;
+    }
+
 }
@@ -0,0 +1,56 @@
+package com.gamegoo.domain.matching;
+
+import com.gamegoo.domain.common.BaseDateTimeEntity;
+import com.gamegoo.domain.member.Member;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToOne;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+// 회원의 게임 모드별 가장 최신 매칭 기록을 가리키는 포인터
+@Entity
+@Table(name = "LatestMatchingRecord", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_latest_matching_member_game_mode", columnNames = {"member_id", "game_mode"})
+})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class LatestMatchingRecord extends BaseDateTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "latest_matching_id", nullable = false)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false)
+    private Member member;
+
+    // 1: 빠른 대전, 2: 솔로 랭크, 3: 자유 랭크, 4: 칼바람 나락
+    @Column(name = "game_mode", nullable = false)
+    private Integer gameMode;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "matching_id", nullable = false)
+    private MatchingRecord matchingRecord;
+
+    // 최신 매칭 기록 변경
+    public void updateMatchingRecord(MatchingRecord matchingRecord) {
+        this.matchingRecord = matchingRecord;
+    }
+
+}
@@ -17,12 +17,22 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
+import javax.persistence.Version;
 
 @Entity
-@Table(name = "MatchingRecord")
+@Table(name = "MatchingRecord", indexes = {
+        // 매칭 풀 복구: gameMode, status, createdAt 범위 조회
+        @Index(name = "idx_matching_record_mode_status_created", columnList = "game_mode, status, createdAt"),
+        // 매너 평가 메시지 스케줄러: status, mannerMessageSent, updatedAt 범위 조회
+        @Index(name = "idx_matching_record_status_manner_updated",
+                columnList = "status, mannerMessageSent, updatedAt"),
+        // 최신 매칭 기록 포인터가 없는 회원의 최신 매칭 기록 조회
+        @Index(name = "idx_matching_record_member_mode_updated", columnList = "member_id, game_mode, updatedAt")
+})
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -82,6 +92,11 @@ public class MatchingRecord extends BaseDateTimeEntity {
     @JoinColumn(name = "target_member_id")
     private Member targetMember;
 
+    // status 변경 시 동시 수정 감지를 위한 버전
+    @Version
+    @Column(name = "version", columnDefinition = "bigint default 0 not null")
+    private Long version;
+
     // status 변경
     public void updateStatus(MatchingStatus status) {
         this.status = status;
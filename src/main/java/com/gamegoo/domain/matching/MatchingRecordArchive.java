@@ -0,0 +1,89 @@
+package com.gamegoo.domain.matching;
+
+import com.gamegoo.domain.member.Tier;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지난 종료 상태(SUCCESS, FAIL, QUIT)의 매칭 기록 보관용 테이블. MatchingRecordArchiver 가 JDBC로 직접 옮기며,
+ * 회원 탈퇴 등과 무관하게 보관되도록 회원 FK 없이 id만 저장
+ */
+@Entity
+@Table(name = "MatchingRecordArchive", indexes = {
+        // 보관 일자 단위로 조회 및 삭제
+        @Index(name = "idx_matching_record_archive_archived_date", columnList = "archivedDate"),
+        @Index(name = "idx_matching_record_archive_member", columnList = "member_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MatchingRecordArchive {
+
+    // 원본 MatchingRecord의 id
+    @Id
+    @Column(name = "matching_id", nullable = false)
+    private Long id;
+
+    @Column(name = "game_mode", nullable = false)
+    private Integer gameMode;
+
+    @Column(name = "main_position")
+    private Integer mainPosition;
+
+    @Column(name = "sub_position")
+    private Integer subPosition;
+
+    @Column(name = "want_position")
+    private Integer wantPosition;
+
+    @Column(name = "mike", nullable = false)
+    private Boolean mike;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tier", columnDefinition = "VARCHAR(20)")
+    private Tier tier;
+
+    @Column(name = "rank", columnDefinition = "VARCHAR(10)")
+    private Integer rank;
+
+    @Column(name = "winrate")
+    private Double winRate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, columnDefinition = "VARCHAR(10)")
+    private MatchingStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "matching_type", nullable = false, columnDefinition = "VARCHAR(20)")
+    private MatchingType matchingType;
+
+    @Column(name = "manner_level")
+    private Integer mannerLevel;
+
+    private Boolean mannerMessageSent;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "target_member_id")
+    private Long targetMemberId;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    // 보관 테이블로 옮겨진 날짜
+    @Column(nullable = false)
+    private LocalDate archivedDate;
+
+}
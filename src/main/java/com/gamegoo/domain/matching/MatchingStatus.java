@@ -1,5 +1,19 @@
 package com.gamegoo.domain.matching;
 
 public enum MatchingStatus {
-    FAIL, SUCCESS, FOUND, QUIT, PENDING
+    FAIL, SUCCESS, FOUND, QUIT, PENDING;
+
+    /**
+     * 현재 상태에서 next 상태로 변경 가능한지 여부 (PENDING -> FOUND -> SUCCESS/FAIL, 대기 및 FOUND 상태에서는 취소 가능)
+     *
+     * @param next
+     * @return
+     */
+    public boolean canTransitionTo(MatchingStatus next) {
+        return switch (this) {
+            case PENDING -> next==FOUND || next==QUIT || next==FAIL;
+            case FOUND -> next==SUCCESS || next==FAIL || next==QUIT || next==PENDING;
+            default -> false;
+        };
+    }
 }
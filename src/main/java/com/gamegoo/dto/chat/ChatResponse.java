@@ -87,6 +87,10 @@ public class ChatResponse {
         Integer list_size;
         Boolean has_next;
         Long next_cursor;
+        Long next_cursor_chat_id;
+        Boolean has_newer;
+        Long newer_cursor;
+        Long newer_cursor_chat_id;
 
     }
 
@@ -131,6 +135,17 @@ public class ChatResponse {
 
     }
 
+    @Builder
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UnreadChatroomDTO {
+
+        List<String> chatroomUuids;
+        Integer totalUnreadCount;
+
+    }
+
     @Builder
     @Getter
     @NoArgsConstructor
@@ -0,0 +1,22 @@
+package com.gamegoo.dto.matching;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 매치메이커가 제안한 두 회원의 매칭 쌍
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class MatchingProposal {
+
+    private Integer gameMode;
+    private Long memberId;
+    private Long matchingRecordId;
+    private Long targetMemberId;
+    private Long targetMatchingRecordId;
+    private int priorityValue; // 양방향 우선순위 중 작은 값
+
+}
@@ -1,5 +1,6 @@
 package com.gamegoo.dto.matching;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -48,6 +49,7 @@ public class MatchingRequest {
 
     @Getter
     @NoArgsConstructor
+    @AllArgsConstructor
     public static class ModifyMatchingRequestDTO {
 
         @NotBlank(message = "status는 비워둘 수 없습니다")
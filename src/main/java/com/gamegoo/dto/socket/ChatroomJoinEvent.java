@@ -0,0 +1,18 @@
+package com.gamegoo.dto.socket;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 소켓 서버에 전달할 회원 socket의 채팅방 join 요청
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class ChatroomJoinEvent {
+
+    private Long memberId;
+    private String chatroomUuid;
+
+}
@@ -0,0 +1,20 @@
+package com.gamegoo.dto.socket;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 소켓 서버에 전달할 시스템 메시지 전송 요청
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class SystemMessageEvent {
+
+    private Long memberId;
+    private String chatroomUuid;
+    private String content;
+    private Long timestamp;
+
+}
@@ -0,0 +1,64 @@
+package com.gamegoo.filter;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * 요청 1건의 access log 정보, LoggingFilter에서 생성해 request attribute로 공유하고 LogAspect가 controller 정보를 채움
+ * 요청 스레드에서는 값만 담고, 로그 문자열은 AccessLogWriter 스레드에서 생성
+ */
+@Getter
+@Setter
+public class AccessLog {
+
+    static final String ATTRIBUTE = AccessLog.class.getName();
+
+    private final String requestId;
+    private final long startNanos;
+    private final String method;
+    private final String uri;
+    private final String clientIp;
+    private final String userAgent;
+    private String memberId;
+    private String params;
+    private String controllerName;
+    private String methodName;
+    private long handlerNanos;
+    private long queryCount;
+    private long elapsedNanos;
+    private int status;
+    private String error;
+
+    public AccessLog(String requestId, String method, String uri, String clientIp, String userAgent) {
+        this.requestId = requestId;
+        this.startNanos = System.nanoTime();
+        this.method = method;
+        this.uri = uri;
+        this.clientIp = clientIp;
+        this.userAgent = userAgent;
+    }
+
+    public static AccessLog from(HttpServletRequest request) {
+        return (AccessLog) request.getAttribute(ATTRIBUTE);
+    }
+
+    void appendTo(StringBuilder builder) {
+        builder.append("[requestId: ").append(requestId).append("] [").append(method).append("] ").append(uri)
+                .append(" | IP: ").append(clientIp)
+                .append(" | Member ID: ").append(memberId)
+                .append(" | Status: ").append(error != null ? error : status)
+                .append(" | Time: ").append(elapsedNanos / 1_000_000).append("ms");
+        if (controllerName != null) {
+            builder.append(" | Method: ").append(controllerName).append('.').append(methodName)
+                    .append(" (").append(handlerNanos / 1_000_000).append("ms, ").append(queryCount)
+                    .append(" queries)");
+        }
+        if (params != null) {
+            builder.append(" | Params: ").append(params);
+        }
+        builder.append(" | User-Agent: ").append(userAgent);
+    }
+
+}
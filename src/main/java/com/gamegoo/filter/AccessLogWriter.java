@@ -0,0 +1,133 @@
+package com.gamegoo.filter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import javax.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * access log를 요청 스레드 밖의 전용 스레드에서 한 줄로 기록
+ * 큐가 가득 찬 경우 요청 처리를 지연시키지 않도록 기록하지 않고 개수만 집계
+ * 요청 파라미터는 com.gamegoo.access 로거가 DEBUG인 경우 또는 param-sample-rate 비율로 샘플링한 요청만 기록
+ */
+@Slf4j(topic = "com.gamegoo.access")
+@Component
+public class AccessLogWriter {
+
+    private final double paramSampleRate;
+    private final BlockingQueue<AccessLog> queue;
+    private final Thread writerThread;
+    // 서버 인스턴스 구분용 prefix + 순번으로 requestId 생성 (UUID 생성 비용 제거)
+    private final String requestIdPrefix = Long.toString(ThreadLocalRandom.current().nextLong(1L << 32), 36);
+    private final AtomicLong requestSequence = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean running = true;
+
+    public AccessLogWriter(@Value("${logging.access.queue-size:10000}") int queueSize,
+                           @Value("${logging.access.param-sample-rate:0.01}") double paramSampleRate) {
+        this.paramSampleRate = paramSampleRate;
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.writerThread = new Thread(this::run, "access-log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    public String nextRequestId() {
+        return requestIdPrefix + "-" + Long.toString(requestSequence.incrementAndGet(), 36);
+    }
+
+    /**
+     * 요청 파라미터를 기록할 요청인지 여부
+     *
+     * @return
+     */
+    public boolean shouldLogParams() {
+        return log.isDebugEnabled() || ThreadLocalRandom.current().nextDouble() < paramSampleRate;
+    }
+
+    /**
+     * 요청 파라미터를 {name=value, ...} 형태로 변환, 요청 객체는 재사용되므로 요청 스레드에서 변환
+     *
+     * @param request
+     * @return
+     */
+    public String formatParams(HttpServletRequest request) {
+        Map<String, String[]> parameterMap = request.getParameterMap();
+        if (parameterMap.isEmpty()) {
+            return null;
+        }
+
+        StringBuilder builder = new StringBuilder("{");
+        parameterMap.forEach((name, values) -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(name).append('=').append(values.length == 1 ? values[0] : String.join(",", values));
+        });
+        return builder.append('}').toString();
+    }
+
+    public void write(AccessLog accessLog) {
+        if (!queue.offer(accessLog)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writerThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void run() {
+        List<AccessLog> batch = new ArrayList<>();
+        StringBuilder builder = new StringBuilder(256);
+        long reportedDropped = 0;
+        while (running || !queue.isEmpty()) {
+            try {
+                AccessLog first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch);
+
+                if (log.isInfoEnabled()) {
+                    for (AccessLog accessLog : batch) {
+                        builder.setLength(0);
+                        accessLog.appendTo(builder);
+                        log.info(builder.toString());
+                    }
+                }
+                batch.clear();
+
+                long droppedCount = dropped.get();
+                if (droppedCount > reportedDropped) {
+                    log.warn("Access log queue full, dropped {} records", droppedCount - reportedDropped);
+                    reportedDropped = droppedCount;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Failed to write access log", e);
+                batch.clear();
+            }
+        }
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.gamegoo.filter;
 
+import com.gamegoo.security.BlindMemberRegistry;
 import com.gamegoo.security.CustomUserDetailService;
 import com.gamegoo.security.CustomUserDetails;
 import com.gamegoo.util.JWTUtil;
@@ -24,12 +25,18 @@ public class JWTFilter extends OncePerRequestFilter {
     private final JWTUtil jwtUtil;
     private final List<String> excludedPaths;
     private final CustomUserDetailService customUserDetailService;
+    private final BlindMemberRegistry blindMemberRegistry;
+    // true인 경우 Member 조회 없이 토큰의 회원 id로 인증하고, 탈퇴 여부는 blindMemberRegistry로 확인
+    private final boolean statelessPrincipal;
 
     @Autowired
-    public JWTFilter(JWTUtil jwtUtil, List<String> excludedPaths, CustomUserDetailService customUserDetailService) {
+    public JWTFilter(JWTUtil jwtUtil, List<String> excludedPaths, CustomUserDetailService customUserDetailService,
+                     BlindMemberRegistry blindMemberRegistry, boolean statelessPrincipal) {
         this.jwtUtil = jwtUtil;
         this.excludedPaths = excludedPaths;
         this.customUserDetailService = customUserDetailService;
+        this.blindMemberRegistry = blindMemberRegistry;
+        this.statelessPrincipal = statelessPrincipal;
     }
 
     @Override
@@ -55,11 +62,11 @@ public class JWTFilter extends OncePerRequestFilter {
         // Bearer 부분 제거 후 순수 토큰만 획득
         String token = authorization.split(" ")[1];
         try {
-            // jwt 토큰에서 id 획득
-            Long id = jwtUtil.getId(token);
+            // jwt 토큰에서 id 획득, LoggingFilter에서 검증한 결과가 있으면 재사용
+            Long id = jwtUtil.getId(request, token);
 
             // UserDetails에 회원 정보 객체 담기
-            CustomUserDetails customUserDetails = (CustomUserDetails) customUserDetailService.loadUserById(id);
+            CustomUserDetails customUserDetails = loadUserDetails(id);
 
             // 스프링 시큐리티 인증 토큰 생성
             Authentication authToken = new UsernamePasswordAuthenticationToken(customUserDetails, null,
@@ -76,4 +83,15 @@ public class JWTFilter extends OncePerRequestFilter {
         }
     }
 
+    private CustomUserDetails loadUserDetails(Long id) {
+        if (!statelessPrincipal) {
+            return (CustomUserDetails) customUserDetailService.loadUserById(id);
+        }
+
+        if (blindMemberRegistry.isBlind(id)) {
+            throw new JwtException("No Member");
+        }
+        return new CustomUserDetails(id);
+    }
+
 }
@@ -1,12 +1,9 @@
 package com.gamegoo.filter;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gamegoo.util.JWTUtil;
 import io.jsonwebtoken.JwtException;
 import lombok.extern.slf4j.Slf4j;
 import org.jboss.logging.MDC;
-import org.springframework.http.HttpStatus;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import javax.servlet.FilterChain;
@@ -14,15 +11,16 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.UUID;
 
 @Slf4j
 public class LoggingFilter extends OncePerRequestFilter {
 
     private final JWTUtil jwtUtil;
+    private final AccessLogWriter accessLogWriter;
 
-    public LoggingFilter(JWTUtil jwtUtil) {
+    public LoggingFilter(JWTUtil jwtUtil, AccessLogWriter accessLogWriter) {
         this.jwtUtil = jwtUtil;
+        this.accessLogWriter = accessLogWriter;
     }
 
     @Override
@@ -35,59 +33,48 @@ public class LoggingFilter extends OncePerRequestFilter {
             return;
         }
 
-        String requestId = UUID.randomUUID().toString();  // 고유한 requestId 생성
+        String requestId = accessLogWriter.nextRequestId();  // 고유한 requestId 생성
+
+        // 요청 정보 추출
+        AccessLog accessLog = new AccessLog(requestId, request.getMethod(), requestUrl, getClientIp(request),
+                getUserAgent(request));
+        accessLog.setMemberId(getMemberId(request));
+        if (accessLogWriter.shouldLogParams()) {
+            accessLog.setParams(accessLogWriter.formatParams(request));
+        }
+        request.setAttribute(AccessLog.ATTRIBUTE, accessLog);
 
         try {
             MDC.put("requestId", requestId);
 
-            // 요청 정보 추출
-            String httpMethod = request.getMethod(); // HTTP 메소드 추출
-            String clientIp = getClientIp(request);
-            String jwtToken = extractJwtToken(request);
-            String memberId = null;
-            boolean jwtTokenPresent = jwtToken != null;
-            String params = getParamsAsString(request);
-            String userAgent = getUserAgent(request);  // 클라이언트 기기 및 브라우저 정보 추출
-
-            // 토큰이 있을 경우 사용자 ID 추출
-            if (jwtTokenPresent) {
-                try {
-                    memberId = jwtUtil.getId(jwtToken).toString();
-                } catch (JwtException e) {
-                    log.error("JWT Exception: {}", e.getMessage());
-                    memberId = "Invalid JWT";  // JWT 에러가 있을 경우
-                }
-            } else {
-                memberId = "Unauthenticated";  // 비로그인 사용자
-            }
-
-            // 요청 로그 기록
-            // 요청 로그 기록
-            if (params != null && !params.isEmpty() && !params.equals("{}")) {
-                log.info("[requestId: {}] [{}] {} | IP: {} | Member ID: {} | Params: {} | User-Agent: {}",
-                        requestId, httpMethod, requestUrl, clientIp, memberId, params, userAgent);
-            } else {
-                log.info("[requestId: {}] [{}] {} | IP: {} | Member ID: {} | User-Agent: {}",
-                        requestId, httpMethod, requestUrl, clientIp, memberId, userAgent);
-            }
-
-            // 실행 시간 측정을 위한 시작 시간
-//        long startTime = System.currentTimeMillis();
-
             // 요청 처리
             filterChain.doFilter(request, response);
-
-            // 응답 정보 추출
-//        long executionTime = System.currentTimeMillis() - startTime;
-            int statusCode = response.getStatus();
-            String statusMessage = getStatusMessage(statusCode);
-
-            // 응답 로그 기록
-            log.info("[requestId: {}] [{}] {} | IP: {} | Member ID: {} | Status: {}", requestId,
-                    httpMethod, requestUrl,
-                    clientIp, memberId, statusMessage);
+        } catch (ServletException | IOException | RuntimeException e) {
+            // 에러 응답은 앞선 JWTExceptionHandlerFilter 등에서 작성되므로 예외 종류를 함께 기록
+            accessLog.setError(e.getClass().getSimpleName());
+            throw e;
         } finally {
             MDC.remove("requestId");
+
+            // 응답 정보 기록, 요청당 한 줄의 access log
+            accessLog.setStatus(response.getStatus());
+            accessLog.setElapsedNanos(System.nanoTime() - accessLog.getStartNanos());
+            accessLogWriter.write(accessLog);
+        }
+    }
+
+    // 토큰이 있을 경우 사용자 ID 추출
+    private String getMemberId(HttpServletRequest request) {
+        String jwtToken = extractJwtToken(request);
+        if (jwtToken == null) {
+            return "Unauthenticated";  // 비로그인 사용자
+        }
+
+        try {
+            return jwtUtil.getId(request, jwtToken).toString();
+        } catch (JwtException e) {
+            log.error("JWT Exception: {}", e.getMessage());
+            return "Invalid JWT";  // JWT 에러가 있을 경우
         }
     }
 
@@ -109,23 +96,6 @@ public class LoggingFilter extends OncePerRequestFilter {
         return request.getRemoteAddr();
     }
 
-    // 상태 코드에 맞는 메시지 반환
-    private String getStatusMessage(int statusCode) {
-        HttpStatus httpStatus = HttpStatus.resolve(statusCode);
-        return httpStatus != null
-                ? statusCode + " " + httpStatus.getReasonPhrase()
-                : String.valueOf(statusCode);
-    }
-
-    private String getParamsAsString(HttpServletRequest request) {
-        ObjectMapper objectMapper = new ObjectMapper();
-        try {
-            return objectMapper.writeValueAsString(request.getParameterMap());
-        } catch (JsonProcessingException e) {
-            return "Unable to parse parameters";
-        }
-    }
-
     // User-Agent 헤더에서 브라우저 및 기기 정보를 추출하는 메소드
     private String getUserAgent(HttpServletRequest request) {
         return request.getHeader("User-Agent");
@@ -4,14 +4,22 @@ import com.gamegoo.domain.chat.Chat;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
+import java.time.LocalDateTime;
+
 public interface ChatRepositoryCustom {
 
     Integer countUnreadChats(Long chatroomId, Long memberChatroomId, Long memberId);
 
-    Slice<Chat> findRecentChats(Long chatroomId, Long memberChatroomId, Long memberId);
+    Slice<Chat> findRecentChats(Long chatroomId, LocalDateTime lastJoinDate, Long memberId);
+
+    Slice<Chat> findUnreadChats(Long chatroomId, LocalDateTime lastJoinDate, LocalDateTime lastViewDate,
+                                Long memberId, Pageable pageable);
+
+    Slice<Chat> findChatsByCursor(Long cursor, Long cursorChatId, Long chatroomId, LocalDateTime lastJoinDate,
+                                  Long memberId, Pageable pageable);
 
-    Slice<Chat> findChatsByCursor(Long cursor, Long chatroomId, Long memberChatroomId, Long memberId,
-                                  Pageable pageable);
+    Slice<Chat> findChatsAfterCursor(Long cursor, Long cursorChatId, Long chatroomId, LocalDateTime lastJoinDate,
+                                     Long memberId, Pageable pageable);
 
 
 }
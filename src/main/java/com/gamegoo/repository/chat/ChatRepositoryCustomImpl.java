@@ -12,6 +12,8 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -23,6 +25,7 @@ import static com.gamegoo.domain.chat.QMemberChatroom.memberChatroom;
 public class ChatRepositoryCustomImpl implements ChatRepositoryCustom {
 
     private final static int PAGE_SIZE = 20;
+    private final static long TIMESTAMP_MARGIN_MILLIS = 1000;
     private final JPAQueryFactory queryFactory;
 
     @Override
@@ -42,76 +45,83 @@ public class ChatRepositoryCustomImpl implements ChatRepositoryCustom {
     }
 
     @Override
-    public Slice<Chat> findRecentChats(Long chatroomId, Long memberChatroomId, Long memberId) {
-        Pageable pageable = PageRequest.of(0, PAGE_SIZE);
+    public Slice<Chat> findRecentChats(Long chatroomId, LocalDateTime lastJoinDate, Long memberId) {
+        return findChatsByCursor(null, null, chatroomId, lastJoinDate, memberId, PageRequest.of(0, PAGE_SIZE));
+    }
+
+    @Override
+    public Slice<Chat> findUnreadChats(Long chatroomId, LocalDateTime lastJoinDate, LocalDateTime lastViewDate,
+                                       Long memberId, Pageable pageable) {
+        return findChatsAfter(null, null, lastViewDate, chatroomId, lastJoinDate, memberId, pageable);
+    }
 
-        // 안읽은 메시지 모두 조회
-        List<Chat> unreadChats = queryFactory.selectFrom(chat)
+    @Override
+    public Slice<Chat> findChatsAfterCursor(Long cursor, Long cursorChatId, Long chatroomId,
+                                            LocalDateTime lastJoinDate, Long memberId, Pageable pageable) {
+        return findChatsAfter(cursor, cursorChatId, null, chatroomId, lastJoinDate, memberId, pageable);
+    }
+
+    @Override
+    public Slice<Chat> findChatsByCursor(Long cursor, Long cursorChatId, Long chatroomId, LocalDateTime lastJoinDate,
+                                         Long memberId, Pageable pageable) {
+        // 퇴장 상태인 경우 조회할 메시지 없음
+        if (lastJoinDate == null) {
+            return new SliceImpl<>(new ArrayList<>(), pageable, false);
+        }
+
+        // (chatroom_id, timestamp) index를 cursor부터 역순으로 탐색, timestamp가 같은 경우 chat_id로 구분
+        List<Chat> result = queryFactory.selectFrom(chat)
                 .where(
                         chat.chatroom.id.eq(chatroomId),
-                        createdAtGreaterThanLastViewDateSubQuery(memberChatroomId),
-                        createdAtGreaterOrEqualThanLastJoinDateSubQuery(memberChatroomId),
+                        createdBefore(cursor, cursorChatId),
+                        createdAtOrAfter(lastJoinDate),
                         isMySystemMessageOrNoToMember(memberId)
                 )
-                .orderBy(chat.createdAt.desc())
+                .orderBy(chat.timestamp.desc(), chat.id.desc())
+                .limit(pageable.getPageSize() + 1) // 다음 페이지가 있는지 확인하기 위해 +1
                 .fetch();
 
-        if (unreadChats.size() >= 20) { // 안읽은 메시지 개수가 20개 이상인 경우, 안읽은 메시지만 모두 리턴
-            // 가장 오래된 unreadChat의 timestamp를 기준으로 추가 메시지 조회 (hasNext 여부 판단을 위함)
-            Chat oldestUnreadChat = unreadChats.get(unreadChats.size() - 1);
-            List<Chat> additionalChats = queryFactory.selectFrom(chat)
-                    .where(
-                            chat.chatroom.id.eq(oldestUnreadChat.getChatroom().getId()),
-                            createdBefore(oldestUnreadChat.getTimestamp()),
-                            createdAtGreaterOrEqualThanLastJoinDateSubQuery(memberChatroomId),
-                            isMySystemMessageOrNoToMember(memberId)
-                    )
-                    .orderBy(chat.createdAt.desc())
-                    .limit(1) // 하나의 추가 메시지만 확인하면 충분
-                    .fetch();
-
-            boolean hasNext = !additionalChats.isEmpty();
-
-            // createdAt 오름차순으로 정렬
-            Collections.reverse(unreadChats);
-
-            return new SliceImpl<>(unreadChats, Pageable.unpaged(), hasNext);
-        } else { // 안읽은 메시지가 20개 미만인 경우, 최근 메시지 20개를 조회해 리턴
-            List<Chat> chats = queryFactory.selectFrom(chat)
-                    .where(
-                            chat.chatroom.id.eq(chatroomId),
-                            createdAtGreaterOrEqualThanLastJoinDateSubQuery(memberChatroomId),
-                            isMySystemMessageOrNoToMember(memberId)
-                    )
-                    .orderBy(chat.createdAt.desc())
-                    .limit(pageable.getPageSize() + 1) // 다음 페이지가 있는지 확인하기 위해 +1
-                    .fetch();
-
-            boolean hasNext = false;
-            if (chats.size() > pageable.getPageSize()) {
-                chats.remove(pageable.getPageSize());
-                hasNext = true;
-            }
-
-            // createdAt 오름차순으로 정렬
-            Collections.reverse(chats);
-
-            return new SliceImpl<>(chats, pageable, hasNext);
+        boolean hasNext = false;
+        if (result.size() > pageable.getPageSize()) {
+            result.remove(pageable.getPageSize());
+            hasNext = true;
         }
+
+        // timestamp 오름차순으로 정렬
+        Collections.reverse(result);
+
+        return new SliceImpl<>(result, pageable, hasNext);
     }
 
-    @Override
-    public Slice<Chat> findChatsByCursor(Long cursor, Long chatroomId, Long memberChatroomId,
-                                         Long memberId,
-                                         Pageable pageable) {
+    /**
+     * cursor 또는 lastViewDate 이후의 메시지를 timestamp 오름차순으로 조회, 다음 페이지가 있는 경우 hasNext = true
+     *
+     * @param cursor
+     * @param cursorChatId cursor와 timestamp가 같은 메시지를 구분하기 위한 chat id, 없는 경우 timestamp만 비교
+     * @param lastViewDate
+     * @param chatroomId
+     * @param lastJoinDate
+     * @param memberId
+     * @param pageable
+     * @return
+     */
+    private Slice<Chat> findChatsAfter(Long cursor, Long cursorChatId, LocalDateTime lastViewDate, Long chatroomId,
+                                       LocalDateTime lastJoinDate, Long memberId, Pageable pageable) {
+        // 퇴장 상태인 경우 조회할 메시지 없음
+        if (lastJoinDate == null) {
+            return new SliceImpl<>(new ArrayList<>(), pageable, false);
+        }
+
+        // (chatroom_id, timestamp) index를 cursor 또는 lastViewDate부터 순서대로 탐색
         List<Chat> result = queryFactory.selectFrom(chat)
                 .where(
                         chat.chatroom.id.eq(chatroomId),
-                        createdBefore(cursor),
-                        createdAtGreaterOrEqualThanLastJoinDateSubQuery(memberChatroomId),
+                        createdAfter(cursor, cursorChatId),
+                        createdAfterLastViewDate(lastViewDate),
+                        createdAtOrAfter(lastJoinDate),
                         isMySystemMessageOrNoToMember(memberId)
                 )
-                .orderBy(chat.createdAt.desc())
+                .orderBy(chat.timestamp.asc(), chat.id.asc())
                 .limit(pageable.getPageSize() + 1) // 다음 페이지가 있는지 확인하기 위해 +1
                 .fetch();
 
@@ -121,9 +131,6 @@ public class ChatRepositoryCustomImpl implements ChatRepositoryCustom {
             hasNext = true;
         }
 
-        // createdAt 오름차순으로 정렬
-        Collections.reverse(result);
-
         return new SliceImpl<>(result, pageable, hasNext);
     }
 
@@ -146,8 +153,57 @@ public class ChatRepositoryCustomImpl implements ChatRepositoryCustom {
         );
     }
 
-    private BooleanExpression createdBefore(Long cursorTimestamp) {
-        return cursorTimestamp != null ? chat.timestamp.lt(cursorTimestamp) : null;
+    /**
+     * (timestamp, chat_id) < (cursorTimestamp, cursorChatId)
+     * timestamp <= cursorTimestamp를 함께 걸어 (chatroom_id, timestamp) index의 탐색 범위를 제한
+     */
+    private BooleanExpression createdBefore(Long cursorTimestamp, Long cursorChatId) {
+        if (cursorTimestamp == null) {
+            return null;
+        }
+        if (cursorChatId == null) {
+            return chat.timestamp.lt(cursorTimestamp);
+        }
+        return chat.timestamp.loe(cursorTimestamp)
+                .and(chat.timestamp.lt(cursorTimestamp).or(chat.id.lt(cursorChatId)));
+    }
+
+    /**
+     * (timestamp, chat_id) > (cursorTimestamp, cursorChatId)
+     * timestamp >= cursorTimestamp를 함께 걸어 (chatroom_id, timestamp) index의 탐색 범위를 제한
+     */
+    private BooleanExpression createdAfter(Long cursorTimestamp, Long cursorChatId) {
+        if (cursorTimestamp == null) {
+            return null;
+        }
+        if (cursorChatId == null) {
+            return chat.timestamp.gt(cursorTimestamp);
+        }
+        return chat.timestamp.goe(cursorTimestamp)
+                .and(chat.timestamp.gt(cursorTimestamp).or(chat.id.gt(cursorChatId)));
+    }
+
+    /**
+     * createdAt > lastViewDate, lastViewDate가 null인 경우 조건 없음
+     * timestamp 하한을 함께 걸어 (chatroom_id, timestamp) index의 탐색 범위를 제한
+     */
+    private BooleanExpression createdAfterLastViewDate(LocalDateTime lastViewDate) {
+        if (lastViewDate == null) {
+            return null;
+        }
+        return chat.timestamp.goe(toTimestampLowerBound(lastViewDate)).and(chat.createdAt.gt(lastViewDate));
+    }
+
+    /**
+     * createdAt >= lastJoinDate, timestamp 하한을 함께 걸어 (chatroom_id, timestamp) index의 탐색 범위를 제한
+     */
+    private BooleanExpression createdAtOrAfter(LocalDateTime lastJoinDate) {
+        return chat.timestamp.goe(toTimestampLowerBound(lastJoinDate)).and(chat.createdAt.goe(lastJoinDate));
+    }
+
+    // createdAt과 timestamp는 저장 시 각각 생성되므로 여유를 두고 timestamp 하한 계산
+    private long toTimestampLowerBound(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() - TIMESTAMP_MARGIN_MILLIS;
     }
 
     private BooleanExpression isMySystemMessageOrNoToMember(Long memberId) {
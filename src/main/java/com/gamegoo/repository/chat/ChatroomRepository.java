@@ -2,6 +2,7 @@ package com.gamegoo.repository.chat;
 
 import com.gamegoo.domain.chat.Chatroom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -14,6 +15,43 @@ public interface ChatroomRepository extends JpaRepository<Chatroom, Long>, Chatr
             ".lastJoinDate IS NOT NULL")
     List<String> findActiveChatroomUuidsByMemberId(@Param("memberId") Long memberId);
 
+    @Query("SELECT c.uuid FROM MemberChatroom mc JOIN mc.chatroom c WHERE mc.member.id = :memberId AND mc" +
+            ".lastJoinDate IS NOT NULL AND mc.unreadCount > 0")
+    List<String> findUnreadChatroomUuidsByMemberId(@Param("memberId") Long memberId);
+
+    @Query("SELECT c.uuid, mc.unreadCount FROM MemberChatroom mc JOIN mc.chatroom c WHERE mc.member.id = :memberId " +
+            "AND mc.lastJoinDate IS NOT NULL AND mc.unreadCount > 0")
+    List<Object[]> findUnreadChatroomUuidsAndCountsByMemberId(@Param("memberId") Long memberId);
+
     Optional<Chatroom> findByUuid(String uuid);
 
+    // 마지막 채팅 정보가 없는 채팅방의 lastChatId 일괄 설정
+    @Modifying
+    @Query("UPDATE Chatroom c SET c.lastChatId = (SELECT MAX(ch.id) FROM Chat ch WHERE ch.chatroom = c) " +
+            "WHERE c.lastChatId IS NULL AND EXISTS (SELECT ch.id FROM Chat ch WHERE ch.chatroom = c)")
+    int updateLastChatIdIfNull();
+
+    // lastChatId에 해당하는 채팅의 timestamp, createdAt, contents 일괄 설정
+    @Modifying
+    @Query("UPDATE Chatroom c SET " +
+            "c.lastChatTimestamp = (SELECT ch.timestamp FROM Chat ch WHERE ch.id = c.lastChatId), " +
+            "c.lastChatAt = (SELECT ch.createdAt FROM Chat ch WHERE ch.id = c.lastChatId), " +
+            "c.lastChatContents = (SELECT ch.contents FROM Chat ch WHERE ch.id = c.lastChatId) " +
+            "WHERE c.lastChatId IS NOT NULL AND c.lastChatAt IS NULL")
+    int updateLastChatIfNull();
+
+    // 두 회원 id key가 없는 기존 채팅방의 (chatroomId, minMemberId, maxMemberId), 두 회원이 모두 있는 채팅방만 대상
+    @Query("SELECT mc.chatroom.id, MIN(mc.member.id), MAX(mc.member.id) FROM MemberChatroom mc " +
+            "WHERE mc.chatroom.minMemberId IS NULL GROUP BY mc.chatroom.id HAVING COUNT(mc) = 2 " +
+            "ORDER BY mc.chatroom.id")
+    List<Object[]> findMemberPairsWithoutKey();
+
+    boolean existsByMinMemberIdAndMaxMemberId(Long minMemberId, Long maxMemberId);
+
+    @Modifying
+    @Query("UPDATE Chatroom c SET c.minMemberId = :minMemberId, c.maxMemberId = :maxMemberId " +
+            "WHERE c.id = :chatroomId")
+    int updateMemberPair(@Param("chatroomId") Long chatroomId, @Param("minMemberId") Long minMemberId,
+                         @Param("maxMemberId") Long maxMemberId);
+
 }
@@ -18,6 +18,8 @@ public class ChatroomRepositoryCustomImpl implements ChatroomRepositoryCustom {
 
     /**
      * memberId1, memberId2에 해당하는 chatroom 엔티티를 반환
+     * 회원 순서와 무관하도록 (minMemberId, maxMemberId) unique key로 조회
+     * key가 아직 채워지지 않은 채팅방(배포 중 이전 버전 서버가 생성했거나 backfill 전인 채팅방)을 놓치지 않도록, 없는 경우 MemberChatroom 기준으로 다시 조회
      *
      * @param memberId1
      * @param memberId2
@@ -26,15 +28,41 @@ public class ChatroomRepositoryCustomImpl implements ChatroomRepositoryCustom {
     @Override
     public Optional<Chatroom> findChatroomByMemberIds(Long memberId1, Long memberId2) {
         Chatroom chatroomEntity = queryFactory
+                .selectFrom(chatroom)
+                .where(
+                        chatroom.minMemberId.eq(Math.min(memberId1, memberId2)),
+                        chatroom.maxMemberId.eq(Math.max(memberId1, memberId2))
+                )
+                .fetchOne();
+
+        if (chatroomEntity==null) {
+            chatroomEntity = findChatroomWithoutKeyByMemberIds(memberId1, memberId2);
+        }
+
+        return Optional.ofNullable(chatroomEntity);
+    }
+
+    /**
+     * (minMemberId, maxMemberId) key가 비어있는 채팅방 중 memberId1, memberId2가 참여한 채팅방 조회
+     * 여러 개인 경우 backfill과 동일하게 가장 먼저 생성된 채팅방 반환
+     *
+     * @param memberId1
+     * @param memberId2
+     * @return
+     */
+    private Chatroom findChatroomWithoutKeyByMemberIds(Long memberId1, Long memberId2) {
+        return queryFactory
                 .select(chatroom)
                 .from(memberChatroom)
                 .join(chatroom).on(memberChatroom.chatroom.id.eq(chatroom.id))
-                .where(memberChatroom.member.id.in(memberId1, memberId2))
+                .where(
+                        memberChatroom.member.id.in(memberId1, memberId2),
+                        chatroom.minMemberId.isNull()
+                )
                 .groupBy(memberChatroom.chatroom.id)
                 .having(memberChatroom.member.id.count().eq(2L))
+                .orderBy(memberChatroom.chatroom.id.asc())
                 .fetchFirst();
-
-        return Optional.ofNullable(chatroomEntity);
     }
 
 }
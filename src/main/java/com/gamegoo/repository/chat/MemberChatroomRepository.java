@@ -3,9 +3,12 @@ package com.gamegoo.repository.chat;
 import com.gamegoo.domain.chat.MemberChatroom;
 import com.gamegoo.domain.member.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberChatroomRepository extends JpaRepository<MemberChatroom, Long>, MemberChatroomRepositoryCustom {
@@ -16,4 +19,31 @@ public interface MemberChatroomRepository extends JpaRepository<MemberChatroom,
 
     Optional<MemberChatroom> findByMemberIdAndChatroomId(Long memberId, Long chatroomId);
 
+    List<MemberChatroom> findAllByChatroomId(Long chatroomId);
+
+    // 채팅방 uuid에 해당하는 memberChatroom id, 회원 id, 채팅방 id 조회
+    @Query("SELECT mc.id, mc.member.id, mc.chatroom.id FROM MemberChatroom mc WHERE mc.chatroom.uuid = :uuid")
+    List<Object[]> findMembershipByChatroomUuid(@Param("uuid") String uuid);
+
+    // unreadCount가 집계되지 않은 memberChatroom의 읽지 않은 메시지 개수 일괄 설정. ChatRepository의 countUnreadChats 조건과 동일
+    @Modifying
+    @Query("UPDATE MemberChatroom mc SET mc.unreadCount = (SELECT COUNT(ch) FROM Chat ch " +
+            "WHERE ch.chatroom = mc.chatroom " +
+            "AND (mc.lastViewDate IS NULL OR ch.createdAt > mc.lastViewDate) " +
+            "AND ch.createdAt >= mc.lastJoinDate " +
+            "AND (ch.toMember IS NULL OR ch.toMember = mc.member)) " +
+            "WHERE mc.unreadCount IS NULL")
+    int updateUnreadCountIfNull();
+
+    // 새 채팅을 읽지 않은 memberChatroom의 unreadCount를 읽지 않고 DB에서 1 증가, 동시에 등록된 채팅의 증가분이 유실되지 않도록 함
+    // 보낸 회원은 채팅 등록 시 읽음 처리되므로 제외, toMemberId가 있는 시스템 메시지는 해당 회원만 증가
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE MemberChatroom mc SET mc.unreadCount = COALESCE(mc.unreadCount, 0) + 1 " +
+            "WHERE mc.chatroom.id = :chatroomId AND mc.member.id <> :fromMemberId " +
+            "AND mc.lastJoinDate IS NOT NULL AND mc.lastJoinDate <= :createdAt " +
+            "AND (mc.lastViewDate IS NULL OR mc.lastViewDate < :createdAt) " +
+            "AND (:toMemberId IS NULL OR mc.member.id = :toMemberId)")
+    int increaseUnreadCount(@Param("chatroomId") Long chatroomId, @Param("fromMemberId") Long fromMemberId,
+                            @Param("toMemberId") Long toMemberId, @Param("createdAt") LocalDateTime createdAt);
+
 }
@@ -11,4 +11,6 @@ public interface MemberChatroomRepositoryCustom {
 
     List<MemberChatroom> findAllActiveMemberChatroom(Long memberId);
 
+    List<MemberChatroom> findTargetMemberChatroomsByChatroomIds(List<Long> chatroomIds, Long memberId);
+
 }
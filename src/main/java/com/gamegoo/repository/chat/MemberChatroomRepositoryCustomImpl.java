@@ -5,8 +5,7 @@ import com.gamegoo.domain.chat.QChatroom;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.Coalesce;
-import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.core.types.dsl.CaseBuilder;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,12 +13,11 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
-import static com.gamegoo.domain.chat.QChat.chat;
 import static com.gamegoo.domain.chat.QChatroom.chatroom;
 import static com.gamegoo.domain.chat.QMemberChatroom.memberChatroom;
+import static com.gamegoo.domain.member.QMember.member;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -39,7 +37,7 @@ public class MemberChatroomRepositoryCustomImpl implements MemberChatroomReposit
     public Slice<MemberChatroom> findActiveMemberChatroomByCursorOrderByLastChat(Long memberId, Long cursor,
                                                                                  Integer pageSize) {
         List<MemberChatroom> result = queryFactory.selectFrom(memberChatroom)
-                .join(memberChatroom.chatroom, chatroom)
+                .join(memberChatroom.chatroom, chatroom).fetchJoin()
                 .where(
                         memberChatroom.member.id.eq(memberId),
                         memberChatroom.lastJoinDate.isNotNull(),
@@ -47,13 +45,10 @@ public class MemberChatroomRepositoryCustomImpl implements MemberChatroomReposit
                 )
                 .orderBy(new OrderSpecifier<>(
                                 Order.DESC,
-                                new Coalesce<LocalDateTime>()
-                                        .add(JPAExpressions.select(chat.createdAt.max())
-                                                .from(chat)
-                                                .where(
-                                                        chat.chatroom.eq(chatroom),
-                                                        chat.createdAt.goe(memberChatroom.lastJoinDate)))
-                                        .add(memberChatroom.lastJoinDate) // 해당 채팅방에 대화 내역이 없는 경우, lastJoinDate를 기준으로 정렬
+                                new CaseBuilder()
+                                        .when(chatroom.lastChatAt.goe(memberChatroom.lastJoinDate))
+                                        .then(chatroom.lastChatAt)
+                                        .otherwise(memberChatroom.lastJoinDate) // 입장 이후 대화 내역이 없는 경우, lastJoinDate를 기준으로 정렬
                         )
                 )
                 .limit(pageSize + 1) // 다음 페이지가 있는지 확인하기 위해 +1
@@ -87,17 +82,31 @@ public class MemberChatroomRepositoryCustomImpl implements MemberChatroomReposit
                 .fetch();
     }
 
+    /**
+     * 채팅방 id 목록에 해당하는 채팅방들의 상대 회원 memberChatroom 조회, 상대 회원 fetch join
+     *
+     * @param chatroomIds
+     * @param memberId
+     * @return
+     */
+    @Override
+    public List<MemberChatroom> findTargetMemberChatroomsByChatroomIds(List<Long> chatroomIds, Long memberId) {
+        return queryFactory.selectFrom(memberChatroom)
+                .join(memberChatroom.member, member).fetchJoin()
+                .where(
+                        memberChatroom.chatroom.id.in(chatroomIds),
+                        memberChatroom.member.id.ne(memberId)
+                )
+                .fetch();
+    }
+
     //--- BooleanExpression ---//
     private BooleanExpression lastMsgLessThanCursor(Long cursor, QChatroom chatroom) {
         if (cursor == null) {
             return null; // null 처리
         }
 
-        return JPAExpressions.select(chat.timestamp.max())
-                .from(chat)
-                .where(
-                        chat.chatroom.eq(chatroom)
-                ).lt(cursor);
+        return chatroom.lastChatTimestamp.lt(cursor);
     }
 
 }
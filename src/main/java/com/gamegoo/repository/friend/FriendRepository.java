@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,4 +27,17 @@ public interface FriendRepository extends JpaRepository<Friend, Long>, FriendRep
             ":member2 AND f.toMember = :member1)")
     List<Friend> findBothDirections(@Param("member1") Member member1, @Param("member2") Member member2);
 
+    /**
+     * targetMemberIds 중 memberId에 해당하는 회원과 서로 친구 관계인 회원 id 목록 조회
+     *
+     * @param memberId
+     * @param targetMemberIds
+     * @return
+     */
+    @Query("SELECT f.toMember.id FROM Friend f WHERE f.fromMember.id = :memberId AND f.toMember.id IN " +
+            ":targetMemberIds AND EXISTS (SELECT f2 FROM Friend f2 WHERE f2.fromMember.id = f.toMember.id AND " +
+            "f2.toMember.id = :memberId)")
+    List<Long> findFriendMemberIds(@Param("memberId") Long memberId,
+                                   @Param("targetMemberIds") Collection<Long> targetMemberIds);
+
 }
@@ -4,7 +4,10 @@ import com.gamegoo.domain.friend.FriendRequestStatus;
 import com.gamegoo.domain.friend.FriendRequests;
 import com.gamegoo.domain.member.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,4 +20,19 @@ public interface FriendRequestsRepository extends JpaRepository<FriendRequests,
 
     List<FriendRequests> findAllByToMemberAndStatus(Member toMember, FriendRequestStatus status);
 
+    /**
+     * memberId에 해당하는 회원과 targetMemberIds에 해당하는 회원들 사이의 해당 status인 친구 요청 조회
+     *
+     * @param memberId
+     * @param targetMemberIds
+     * @param status
+     * @return {요청을 보낸 회원 id, 요청을 받은 회원 id} 목록
+     */
+    @Query("SELECT fr.fromMember.id, fr.toMember.id FROM FriendRequests fr WHERE fr.status = :status AND (" +
+            "(fr.fromMember.id = :memberId AND fr.toMember.id IN :targetMemberIds) OR " +
+            "(fr.toMember.id = :memberId AND fr.fromMember.id IN :targetMemberIds))")
+    List<Object[]> findFriendRequestsBetween(@Param("memberId") Long memberId,
+                                             @Param("targetMemberIds") Collection<Long> targetMemberIds,
+                                             @Param("status") FriendRequestStatus status);
+
 }
@@ -0,0 +1,22 @@
+package com.gamegoo.repository.matching;
+
+import com.gamegoo.domain.matching.LatestMatchingRecord;
+import com.gamegoo.domain.matching.MatchingRecord;
+import com.gamegoo.domain.member.Member;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface LatestMatchingRecordRepository extends JpaRepository<LatestMatchingRecord, Long> {
+
+    Optional<LatestMatchingRecord> findByMemberAndGameMode(Member member, Integer gameMode);
+
+    @Query("SELECT l.matchingRecord FROM LatestMatchingRecord l WHERE l.member = :member AND l.gameMode = :gameMode")
+    Optional<MatchingRecord> findMatchingRecordByMemberAndGameMode(
+            @Param("member") Member member,
+            @Param("gameMode") Integer gameMode
+    );
+
+}
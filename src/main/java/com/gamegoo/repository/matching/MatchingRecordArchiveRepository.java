@@ -0,0 +1,8 @@
+package com.gamegoo.repository.matching;
+
+import com.gamegoo.domain.matching.MatchingRecordArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MatchingRecordArchiveRepository extends JpaRepository<MatchingRecordArchive, Long> {
+
+}
@@ -3,13 +3,49 @@ package com.gamegoo.repository.member;
 import com.gamegoo.domain.Block;
 import com.gamegoo.domain.member.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface BlockRepository extends JpaRepository<Block, Long> {
 
     boolean existsByBlockerMemberAndBlockedMember(Member blockerMember, Member blockedMember);
 
+    /**
+     * memberId에 해당하는 회원이 차단했거나, memberId에 해당하는 회원을 차단한 회원 id 목록 조회
+     *
+     * @param memberId
+     * @return
+     */
+    @Query("SELECT CASE WHEN b.blockerMember.id = :memberId THEN b.blockedMember.id ELSE b.blockerMember.id END "
+            + "FROM Block b WHERE b.blockerMember.id = :memberId OR b.blockedMember.id = :memberId")
+    List<Long> findBlockRelatedMemberIds(@Param("memberId") Long memberId);
+
+    /**
+     * memberIds에 해당하는 회원들 사이의 차단 관계 조회
+     *
+     * @param memberIds
+     * @return {차단한 회원 id, 차단된 회원 id} 목록
+     */
+    @Query("SELECT b.blockerMember.id, b.blockedMember.id FROM Block b "
+            + "WHERE b.blockerMember.id IN :memberIds AND b.blockedMember.id IN :memberIds")
+    List<Object[]> findBlockRelationsAmongMembers(@Param("memberIds") Collection<Long> memberIds);
+
+    /**
+     * blockerMemberIds 중 blockedMemberId에 해당하는 회원을 차단한 회원 id 목록 조회
+     *
+     * @param blockedMemberId
+     * @param blockerMemberIds
+     * @return
+     */
+    @Query("SELECT b.blockerMember.id FROM Block b "
+            + "WHERE b.blockedMember.id = :blockedMemberId AND b.blockerMember.id IN :blockerMemberIds")
+    List<Long> findBlockerMemberIds(@Param("blockedMemberId") Long blockedMemberId,
+                                    @Param("blockerMemberIds") Collection<Long> blockerMemberIds);
+
     Optional<Block> findByBlockerMemberAndBlockedMember(Member blockerMember, Member blockedMember);
 
 }
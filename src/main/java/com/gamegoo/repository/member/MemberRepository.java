@@ -33,4 +33,7 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     long countByMannerScoreGreaterThanAndBlindFalse(Integer mannerScore);
 
+    @Query("SELECT m.id FROM Member m WHERE m.blind = true")
+    List<Long> findIdsByBlindTrue();
+
 }
@@ -0,0 +1,98 @@
+package com.gamegoo.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 보관 기간이 지난 종료 상태의 매칭 기록을 MatchingRecordArchive 테이블로 옮겨, 매칭에 사용되는 MatchingRecord 테이블을 작게 유지
+ * <ul>
+ *     <li>SUCCESS, FAIL, QUIT 상태이면서 updatedAt이 retention-days 이전인 기록만 대상</li>
+ *     <li>최신 매칭 기록 포인터(LatestMatchingRecord)가 가리키는 기록은 제외</li>
+ *     <li>chunk-size 개씩 한 트랜잭션에서 복사 후 삭제</li>
+ * </ul>
+ * matching.archive.enabled=true 인 경우에만 동작
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "matching.archive.enabled", havingValue = "true")
+public class MatchingRecordArchiver {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${matching.archive.retention-days:30}")
+    private int retentionDays;
+
+    @Value("${matching.archive.chunk-size:1000}")
+    private int chunkSize;
+
+    private static final String COLUMNS = "matching_id, game_mode, main_position, sub_position, want_position, mike, " +
+            "tier, rank, winrate, status, matching_type, manner_level, manner_message_sent, member_id, " +
+            "target_member_id, created_at, updated_at";
+
+    private static final String SELECT_ARCHIVE_TARGET_IDS = "SELECT m.matching_id FROM matching_record m " +
+            "WHERE m.status IN ('SUCCESS', 'FAIL', 'QUIT') AND m.updated_at < :updatedAt " +
+            "AND NOT EXISTS (SELECT 1 FROM latest_matching_record l WHERE l.matching_id = m.matching_id) " +
+            "ORDER BY m.matching_id LIMIT :limit";
+
+    private static final String INSERT_ARCHIVE = "INSERT INTO matching_record_archive (" + COLUMNS +
+            ", archived_date) SELECT " + COLUMNS + ", :archivedDate FROM matching_record WHERE matching_id IN (:ids)";
+
+    private static final String DELETE_ARCHIVED = "DELETE FROM matching_record WHERE matching_id IN (:ids)";
+
+    /**
+     * 매일 05:00 보관 대상 매칭 기록 이동
+     */
+    @Scheduled(cron = "${matching.archive.cron:0 0 5 * * *}")
+    public void run() {
+        archive(LocalDateTime.now().minusDays(retentionDays));
+    }
+
+    /**
+     * updatedAt이 기준 시각 이전인 종료 상태의 매칭 기록을 chunk 단위로 보관 테이블로 이동
+     *
+     * @param updatedBefore
+     * @return 이동한 매칭 기록 수
+     */
+    public int archive(LocalDateTime updatedBefore) {
+        LocalDate archivedDate = LocalDate.now();
+        int archivedCount = 0;
+        int chunkCount;
+        do {
+            chunkCount = transactionTemplate.execute(status -> archiveChunk(updatedBefore, archivedDate));
+            archivedCount += chunkCount;
+        } while (chunkCount==chunkSize);
+
+        log.info("Matching record archive completed, updatedBefore: {}, archived: {}", updatedBefore, archivedCount);
+        return archivedCount;
+    }
+
+    private int archiveChunk(LocalDateTime updatedBefore, LocalDate archivedDate) {
+        List<Long> ids = jdbcTemplate.queryForList(SELECT_ARCHIVE_TARGET_IDS, new MapSqlParameterSource()
+                .addValue("updatedAt", updatedBefore)
+                .addValue("limit", chunkSize), Long.class);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("archivedDate", archivedDate);
+        jdbcTemplate.update(INSERT_ARCHIVE, params);
+        jdbcTemplate.update(DELETE_ARCHIVED, params);
+        return ids.size();
+    }
+
+}
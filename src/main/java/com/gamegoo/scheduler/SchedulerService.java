@@ -15,7 +15,7 @@ import com.gamegoo.repository.member.MemberChampionRepository;
 import com.gamegoo.repository.member.MemberRepository;
 import com.gamegoo.service.chat.ChatCommandService;
 import com.gamegoo.service.chat.ChatQueryService;
-import com.gamegoo.service.socket.SocketService;
+import com.gamegoo.service.socket.SocketEventBus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -41,7 +41,7 @@ public class SchedulerService {
     private final MemberRepository memberRepository;
     private final ChatCommandService chatCommandService;
     private final ChatQueryService chatQueryService;
-    private final SocketService socketService;
+    private final SocketEventBus socketEventBus;
     private final ChampionRepository championRepository;
     private final MemberChampionRepository memberChampionRepository;
 
@@ -49,7 +49,7 @@ public class SchedulerService {
     private static final String MANNER_SYSTEM_MESSAGE = "매칭은 어떠셨나요? 상대방의 매너를 평가해주세요!";
 
     // RIOT
-    private final RestTemplate restTemplate;
+    private final RestTemplate riotRestTemplate;
 
     @Value("${spring.riot.api.key}")
     private String riotAPIKey;
@@ -99,8 +99,8 @@ public class SchedulerService {
                         // 매너 평가 메시지 전송 여부 업데이트
                         matchingRecord.updateMannerMessageSent(true);
 
-                        // socket 서버에게 메시지 전송 API 요청
-                        socketService.sendSystemMessage(matchingRecord.getMember().getId(), chatroom.getUuid(),
+                        // 커밋 이후 socket 서버에게 메시지 전송 API 요청
+                        socketEventBus.sendSystemMessage(matchingRecord.getMember().getId(), chatroom.getUuid(),
                                 MANNER_SYSTEM_MESSAGE, createdChat.getTimestamp());
                     },
                     () -> log.info("Chatroom not found, member ID: {}, target member ID: {}",
@@ -129,19 +129,19 @@ public class SchedulerService {
                         // 1. puuid 조회
                         String url = String.format(RIOT_ACCOUNT_API_URL_TEMPLATE, gameName, tag, riotAPIKey);
                         RiotResponse.RiotAccountDTO accountResponse = null;
-                        accountResponse = restTemplate.getForObject(url, RiotResponse.RiotAccountDTO.class);
+                        accountResponse = riotRestTemplate.getForObject(url, RiotResponse.RiotAccountDTO.class);
                         String puuid = accountResponse.getPuuid();
 
                         // 2. encryptedSummonerId 조회
                         String summonerUrl = String.format(RIOT_SUMMONER_API_URL_TEMPLATE, puuid, riotAPIKey);
                         RiotResponse.RiotSummonerDTO summonerResponse = null;
-                        summonerResponse = restTemplate.getForObject(summonerUrl, RiotResponse.RiotSummonerDTO.class);
+                        summonerResponse = riotRestTemplate.getForObject(summonerUrl, RiotResponse.RiotSummonerDTO.class);
                         String encryptedSummonerId = summonerResponse.getId();
 
                         // 3. tier, rank, winrate 조회
                         //    (1) account id로 티어, 랭크, 불러오기
                         String leagueUrl = String.format(RIOT_LEAGUE_API_URL_TEMPLATE, encryptedSummonerId, riotAPIKey);
-                        RiotResponse.RiotLeagueEntryDTO[] leagueEntries = restTemplate.getForObject(leagueUrl,
+                        RiotResponse.RiotLeagueEntryDTO[] leagueEntries = riotRestTemplate.getForObject(leagueUrl,
                                 RiotResponse.RiotLeagueEntryDTO[].class);
 
                         //    (2) tier, rank, gameCount 정보 저장
@@ -173,7 +173,7 @@ public class SchedulerService {
                         // 4-1. 최근 플레이한 챔피언 리스트 조회
                         while ((recentChampionIds==null || recentChampionIds.size() < 3) && count <= 100) {
                             String matchUrl = String.format(RIOT_MATCH_API_URL_TEMPLATE, puuid, count, riotAPIKey);
-                            String[] matchIds = restTemplate.getForObject(matchUrl, String[].class);
+                            String[] matchIds = riotRestTemplate.getForObject(matchUrl, String[].class);
                             List<String> recentMatchIds = Arrays.asList(Objects.requireNonNull(matchIds));
 
                             recentChampionIds = recentMatchIds
@@ -229,7 +229,7 @@ public class SchedulerService {
     public Integer getChampionIdFromMatch(String matchId, String gameName) {
         // 매치 정보 가져오기
         String matchInfoUrl = String.format(RIOT_MATCH_INFO_API_URL_TEMPLATE, matchId, riotAPIKey);
-        RiotResponse.MatchDTO matchResponse = restTemplate.getForObject(matchInfoUrl, RiotResponse.MatchDTO.class);
+        RiotResponse.MatchDTO matchResponse = riotRestTemplate.getForObject(matchInfoUrl, RiotResponse.MatchDTO.class);
 
         // 참가자 정보에서 gameName과 일치하는 사용자의 champion ID 찾기
         return matchResponse.getInfo().getParticipants()
@@ -0,0 +1,56 @@
+package com.gamegoo.scripts;
+
+import com.gamegoo.repository.chat.ChatroomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatroomMemberPairInitializer implements ApplicationListener<ApplicationReadyEvent> {
+
+    private final ChatroomRepository chatroomRepository;
+
+    /**
+     * 두 회원 id key(minMemberId, maxMemberId)가 비어있는 기존 채팅방 채우기
+     * 같은 두 회원의 채팅방이 여러 개인 경우 가장 먼저 생성된 채팅방에만 key를 설정하고, 나머지는 비워둠
+     * 값이 없는 row만 대상으로 하므로, 한 번 채워진 이후에는 변경되는 row 없음
+     *
+     * @param event
+     */
+    @Override
+    @Transactional
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        List<Object[]> memberPairs = chatroomRepository.findMemberPairsWithoutKey();
+
+        Set<String> keyedPairs = new HashSet<>();
+        int updatedCount = 0;
+        int duplicatedCount = 0;
+        for (Object[] memberPair : memberPairs) {
+            Long chatroomId = (Long) memberPair[0];
+            Long minMemberId = (Long) memberPair[1];
+            Long maxMemberId = (Long) memberPair[2];
+
+            if (!keyedPairs.add(minMemberId + ":" + maxMemberId)
+                    || chatroomRepository.existsByMinMemberIdAndMaxMemberId(minMemberId, maxMemberId)) {
+                duplicatedCount++;
+                continue;
+            }
+            updatedCount += chatroomRepository.updateMemberPair(chatroomId, minMemberId, maxMemberId);
+        }
+
+        if (updatedCount > 0 || duplicatedCount > 0) {
+            log.info("Chatroom member pair initialized - updated: {}, duplicated: {}", updatedCount,
+                    duplicatedCount);
+        }
+    }
+
+}
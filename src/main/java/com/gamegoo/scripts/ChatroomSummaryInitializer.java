@@ -0,0 +1,39 @@
+package com.gamegoo.scripts;
+
+import com.gamegoo.repository.chat.ChatroomRepository;
+import com.gamegoo.repository.chat.MemberChatroomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatroomSummaryInitializer implements ApplicationListener<ApplicationReadyEvent> {
+
+    private final ChatroomRepository chatroomRepository;
+    private final MemberChatroomRepository memberChatroomRepository;
+
+    /**
+     * 채팅방의 마지막 채팅 정보 및 memberChatroom의 unreadCount가 비어있는 기존 데이터 채우기
+     * 값이 없는 row만 대상으로 하므로, 한 번 채워진 이후에는 변경되는 row 없음
+     *
+     * @param event
+     */
+    @Override
+    @Transactional
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        int lastChatIdCount = chatroomRepository.updateLastChatIdIfNull();
+        int lastChatCount = chatroomRepository.updateLastChatIfNull();
+        int unreadCount = memberChatroomRepository.updateUnreadCountIfNull();
+
+        if (lastChatIdCount > 0 || lastChatCount > 0 || unreadCount > 0) {
+            log.info("Chatroom summary initialized - lastChatId: {}, lastChat: {}, unreadCount: {}",
+                    lastChatIdCount, lastChatCount, unreadCount);
+        }
+    }
+
+}
@@ -6,16 +6,18 @@ import com.gamegoo.domain.matching.MatchingType;
 import com.gamegoo.domain.member.Member;
 import com.gamegoo.repository.matching.MatchingRecordRepository;
 import com.gamegoo.repository.member.MemberRepository;
+import com.gamegoo.scripts.replay.RandomMatchingReplayGenerator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.ApplicationListener;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 @Component
 @RequiredArgsConstructor
@@ -33,31 +35,36 @@ public class MatchingRecordInitializer implements ApplicationListener<Applicatio
     @Override
     public void onApplicationEvent(ApplicationReadyEvent event) {
         if (isUpdateMode(event)) {
-            // MatchingRecord 테이블을 TRUNCATE
-            jdbcTemplate.execute("TRUNCATE TABLE matching_record");
+            // MatchingRecord 테이블 비우기 (LatestMatchingRecord가 참조하므로 TRUNCATE 대신 먼저 삭제)
+            jdbcTemplate.execute("DELETE FROM latest_matching_record");
+            jdbcTemplate.execute("DELETE FROM matching_record");
 
             // Member ID가 29~35인 멤버들을 가져오기
             List<Member> members = memberRepository.findAllByIdBetween(29L, 35L);
 
             if (!members.isEmpty()) {
-                // 20개의 랜덤 매칭 레코드 생성
-                Random random = new Random();
-                List<MatchingRecord> records = IntStream.range(0, 20)
-                        .mapToObj(i -> {
-                            Member randomMember = members.get(random.nextInt(members.size()));
+                // 20개의 랜덤 매칭 요청으로 매칭 레코드 생성
+                Map<Long, Member> memberMap = members.stream()
+                        .collect(Collectors.toMap(Member::getId, Function.identity()));
+                List<MatchingRecord> records = RandomMatchingReplayGenerator
+                        .requestsOnly(new ArrayList<>(memberMap.keySet()), 20)
+                        .generate()
+                        .stream()
+                        .map(replayEvent -> {
+                            Member randomMember = memberMap.get(replayEvent.getMemberId());
 
                             return MatchingRecord.builder()
                                     .member(randomMember)
-                                    .gameMode(1) // Example game mode
-                                    .mainPosition(random.nextInt(6))
-                                    .subPosition(random.nextInt(6))
-                                    .wantPosition(random.nextInt(6))
-                                    .mike(random.nextBoolean())
+                                    .gameMode(replayEvent.getGameMode())
+                                    .mainPosition(replayEvent.getMainP())
+                                    .subPosition(replayEvent.getSubP())
+                                    .wantPosition(replayEvent.getWantP())
+                                    .mike(replayEvent.getMike())
                                     .tier(randomMember.getTier()) // Member의 tier 사용
                                     .rank(randomMember.getRank()) // Member의 rank 사용
                                     .winRate(randomMember.getWinRate()) // Member의 winRate 사용
                                     .status(MatchingStatus.FAIL)
-                                    .matchingType(i % 2 == 0 ? MatchingType.BASIC : MatchingType.PRECISE)
+                                    .matchingType(MatchingType.valueOf(replayEvent.getMatchingType()))
                                     .mannerLevel(randomMember.getMannerLevel()) // Member의 mannerLevel 사용
                                     .build();
                         })
@@ -0,0 +1,50 @@
+package com.gamegoo.scripts.replay;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 기록된 매칭 요청 및 status 변경 이벤트를 JSONL 파일에서 읽어오는 생성기
+ */
+public class JsonlMatchingReplayGenerator implements MatchingReplayGenerator {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final Path path;
+
+    public JsonlMatchingReplayGenerator(Path path) {
+        this.path = path;
+    }
+
+    @Override
+    public List<MatchingReplayEvent> generate() {
+        try (Stream<String> lines = Files.lines(path)) {
+            return lines
+                    .filter(line -> !line.isBlank())
+                    .map(JsonlMatchingReplayGenerator::parse)
+                    .sorted(Comparator.comparingLong(MatchingReplayEvent::getAt))
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static MatchingReplayEvent parse(String line) {
+        try {
+            return OBJECT_MAPPER.readValue(line, MatchingReplayEvent.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Invalid replay event: " + line, e);
+        }
+    }
+
+}
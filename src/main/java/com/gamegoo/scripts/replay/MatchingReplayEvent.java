@@ -0,0 +1,77 @@
+package com.gamegoo.scripts.replay;
+
+import com.gamegoo.domain.member.Tier;
+import com.gamegoo.dto.matching.MatchingRequest;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+
+/**
+ * 매칭 리플레이 이벤트. JSONL 한 줄이 이벤트 하나에 대응
+ * <pre>
+ * {"at":0,"type":"REQUEST","memberId":1,"tier":"GOLD","rank":2,"mannerLevel":1,"gameMode":1,"mike":false,
+ *  "matchingType":"BASIC","mainP":1,"subP":2,"wantP":3}
+ * {"at":30000,"type":"STATUS","memberId":1,"gameMode":1,"status":"QUIT"}
+ * </pre>
+ * memberId는 리플레이 내에서만 사용하는 회원 식별자이며, 실제 회원 id와는 무관
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchingReplayEvent {
+
+    public enum Type {
+        REQUEST, STATUS
+    }
+
+    // 리플레이 시작 시점으로부터의 경과 시간(ms)
+    private long at;
+
+    private Type type;
+
+    private Long memberId;
+
+    // REQUEST: 회원 정보 (리플레이 회원을 처음 만들 때 사용)
+    private Tier tier;
+
+    private Integer rank;
+
+    private Integer mannerLevel;
+
+    // REQUEST: 매칭 요청 정보
+    private Integer gameMode;
+
+    private Boolean mike;
+
+    private String matchingType;
+
+    private Integer mainP;
+
+    private Integer subP;
+
+    private Integer wantP;
+
+    // STATUS: 변경할 매칭 status
+    private String status;
+
+    public MatchingRequest.InitializingMatchingRequestDTO toRequestDTO() {
+        MatchingRequest.InitializingMatchingRequestDTO request = new MatchingRequest.InitializingMatchingRequestDTO();
+        request.setGameMode(gameMode);
+        request.setMike(mike);
+        request.setMatchingType(matchingType);
+        request.setMainP(mainP);
+        request.setSubP(subP);
+        request.setWantP(wantP);
+        request.setGameStyleIdList(new ArrayList<>());
+        return request;
+    }
+
+    public MatchingRequest.ModifyMatchingRequestDTO toModifyRequestDTO() {
+        return new MatchingRequest.ModifyMatchingRequestDTO(status, gameMode);
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.gamegoo.scripts.replay;
+
+import java.util.List;
+
+/**
+ * 매칭 리플레이 이벤트 생성기. 반환하는 이벤트는 at 오름차순으로 정렬되어 있어야 함
+ */
+public interface MatchingReplayGenerator {
+
+    List<MatchingReplayEvent> generate();
+
+}
@@ -0,0 +1,86 @@
+package com.gamegoo.scripts.replay;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 매칭 리플레이 결과. 우선순위 계산 지연 시간은 실제 시간(ns), 매칭 대기 시간은 리플레이 시간(ms) 기준
+ */
+@Getter
+public class MatchingReplayReport {
+
+    private int requests;
+    private int statusChanges;
+    private int pairs;
+    private int conflicts;
+    private int expired;
+    private int unmatched;
+    private long pairPrioritySum;
+    private final List<Long> priorityLatencyNanos = new ArrayList<>();
+    private final List<Long> timeToMatchMillis = new ArrayList<>();
+
+    void addRequest(long priorityLatencyNanos) {
+        requests++;
+        this.priorityLatencyNanos.add(priorityLatencyNanos);
+    }
+
+    void addStatusChange() {
+        statusChanges++;
+    }
+
+    void addPair(int priority, long memberWaitMillis, long targetWaitMillis) {
+        pairs++;
+        pairPrioritySum += priority;
+        timeToMatchMillis.add(memberWaitMillis);
+        timeToMatchMillis.add(targetWaitMillis);
+    }
+
+    void addConflict() {
+        conflicts++;
+    }
+
+    void addExpired() {
+        expired++;
+    }
+
+    void setUnmatched(int unmatched) {
+        this.unmatched = unmatched;
+    }
+
+    public long priorityLatencyPercentileMicros(double percentile) {
+        return percentile(priorityLatencyNanos, percentile) / 1000;
+    }
+
+    public long timeToMatchPercentileMillis(double percentile) {
+        return percentile(timeToMatchMillis, percentile);
+    }
+
+    public double averagePairPriority() {
+        return pairs==0 ? 0 : (double) pairPrioritySum / pairs;
+    }
+
+    private static long percentile(List<Long> values, double percentile) {
+        if (values.isEmpty()) {
+            return 0;
+        }
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("requests=%d statusChanges=%d pairs=%d conflicts=%d expired=%d unmatched=%d "
+                        + "priorityLatencyP50=%dus priorityLatencyP99=%dus timeToMatchP50=%dms timeToMatchP90=%dms "
+                        + "timeToMatchP99=%dms avgPairPriority=%.1f",
+                requests, statusChanges, pairs, conflicts, expired, unmatched,
+                priorityLatencyPercentileMicros(0.5), priorityLatencyPercentileMicros(0.99),
+                timeToMatchPercentileMillis(0.5), timeToMatchPercentileMillis(0.9),
+                timeToMatchPercentileMillis(0.99), averagePairPriority());
+    }
+
+}
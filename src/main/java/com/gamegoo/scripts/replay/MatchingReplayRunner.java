@@ -0,0 +1,147 @@
+package com.gamegoo.scripts.replay;
+
+import com.gamegoo.apiPayload.exception.handler.MatchingHandler;
+import com.gamegoo.domain.member.LoginType;
+import com.gamegoo.domain.member.Member;
+import com.gamegoo.domain.member.Tier;
+import com.gamegoo.dto.matching.MatchingRequest;
+import com.gamegoo.dto.matching.MemberPriority;
+import com.gamegoo.repository.member.MemberRepository;
+import com.gamegoo.service.matching.MatchingPool;
+import com.gamegoo.service.matching.MatchingService;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 매칭 리플레이 실행기. 이벤트를 순서대로 MatchingService에 적용하며 기존 클라이언트 흐름을 재현
+ * <ul>
+ *     <li>REQUEST: 우선순위 계산(지연 시간 측정) 후 매칭 기록 저장. 우선순위 리스트에서 가장 높은 대기 중인 상대와
+ *     FOUND, SUCCESS 순으로 매칭</li>
+ *     <li>STATUS: 회원의 최신 매칭 기록 상태 변경</li>
+ * </ul>
+ * 리플레이 시간 기준으로 {@link MatchingPool#EXPIRATION_MINUTES} 이상 대기한 요청은 매칭 대상에서 제외하고 만료로 집계
+ */
+@Slf4j
+public class MatchingReplayRunner {
+
+    private static final long EXPIRATION_MILLIS = MatchingPool.EXPIRATION_MINUTES * 60 * 1000;
+
+    private final MatchingService matchingService;
+    private final MemberRepository memberRepository;
+
+    // 리플레이 회원 id -> 실제 회원 id
+    private final Map<Long, Long> memberIds = new HashMap<>();
+    // 실제 회원 id -> 리플레이 회원 id
+    private final Map<Long, Long> replayMemberIds = new HashMap<>();
+    // (실제 회원 id, gameMode) -> 매칭 요청 시각(리플레이 시간)
+    private final Map<String, Long> waitingSince = new HashMap<>();
+    private final String runId = UUID.randomUUID().toString().substring(0, 8);
+
+    public MatchingReplayRunner(MatchingService matchingService, MemberRepository memberRepository) {
+        this.matchingService = matchingService;
+        this.memberRepository = memberRepository;
+    }
+
+    public MatchingReplayReport run(MatchingReplayGenerator generator) {
+        List<MatchingReplayEvent> events = generator.generate();
+        log.info("Matching replay started, runId: {}, events: {}", runId, events.size());
+
+        MatchingReplayReport report = new MatchingReplayReport();
+        for (MatchingReplayEvent event : events) {
+            switch (event.getType()) {
+                case REQUEST -> replayRequest(event, report);
+                case STATUS -> replayStatus(event, report);
+            }
+        }
+        report.setUnmatched(waitingSince.size());
+
+        log.info("Matching replay completed, runId: {}, {}", runId, report);
+        return report;
+    }
+
+    private void replayRequest(MatchingReplayEvent event, MatchingReplayReport report) {
+        Long memberId = memberIds.computeIfAbsent(event.getMemberId(), replayMemberId -> createMember(event));
+        MatchingRequest.InitializingMatchingRequestDTO request = event.toRequestDTO();
+
+        long startNanos = System.nanoTime();
+        Map<String, List<MemberPriority>> priorityLists = matchingService.calculatePriorityList(request, memberId);
+        report.addRequest(System.nanoTime() - startNanos);
+
+        matchingService.save(request, memberId);
+        waitingSince.put(waitingKey(memberId, event.getGameMode()), event.getAt());
+
+        for (MemberPriority memberPriority : priorityLists.get("myPriorityList")) {
+            Long targetMemberId = memberPriority.getMemberId();
+            Long targetWaitingSince = waitingSince.get(waitingKey(targetMemberId, event.getGameMode()));
+            if (targetWaitingSince==null || !replayMemberIds.containsKey(targetMemberId)) {
+                continue;
+            }
+            if (event.getAt() - targetWaitingSince >= EXPIRATION_MILLIS) {
+                waitingSince.remove(waitingKey(targetMemberId, event.getGameMode()));
+                report.addExpired();
+                continue;
+            }
+
+            try {
+                matchingService.foundMatching(memberId, targetMemberId, event.getGameMode());
+                matchingService.successMatching(memberId, targetMemberId, event.getGameMode());
+            } catch (MatchingHandler e) {
+                report.addConflict();
+                continue;
+            }
+            waitingSince.remove(waitingKey(memberId, event.getGameMode()));
+            waitingSince.remove(waitingKey(targetMemberId, event.getGameMode()));
+            report.addPair(memberPriority.getPriorityValue(), 0, event.getAt() - targetWaitingSince);
+            break;
+        }
+    }
+
+    private void replayStatus(MatchingReplayEvent event, MatchingReplayReport report) {
+        Long memberId = memberIds.get(event.getMemberId());
+        if (memberId==null) {
+            return;
+        }
+
+        try {
+            matchingService.updateMyStatus(event.toModifyRequestDTO(), memberId);
+            report.addStatusChange();
+        } catch (MatchingHandler e) {
+            report.addConflict();
+            return;
+        }
+        if (!"PENDING".equalsIgnoreCase(event.getStatus())) {
+            waitingSince.remove(waitingKey(memberId, event.getGameMode()));
+        }
+    }
+
+    private Long createMember(MatchingReplayEvent event) {
+        Member member = memberRepository.save(Member.builder()
+                .email("replay-" + runId + "-" + event.getMemberId() + "@gamegoo.replay")
+                .password("replay")
+                .loginType(LoginType.GENERAL)
+                .profileImage(1)
+                .blind(false)
+                .mike(Boolean.TRUE.equals(event.getMike()))
+                .mannerLevel(event.getMannerLevel()!=null ? event.getMannerLevel() : 1)
+                .gameName("replay" + event.getMemberId())
+                .tier(event.getTier()!=null ? event.getTier() : Tier.UNRANKED)
+                .rank(event.getRank()!=null ? event.getRank() : 0)
+                .isAgree(true)
+                .blockList(new ArrayList<>())
+                .memberChatroomList(new ArrayList<>())
+                .memberGameStyleList(new ArrayList<>())
+                .build());
+        replayMemberIds.put(member.getId(), event.getMemberId());
+        return member.getId();
+    }
+
+    private static String waitingKey(Long memberId, Integer gameMode) {
+        return memberId + ":" + gameMode;
+    }
+
+}
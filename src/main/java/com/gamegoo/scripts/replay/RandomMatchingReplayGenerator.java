@@ -0,0 +1,84 @@
+package com.gamegoo.scripts.replay;
+
+import com.gamegoo.domain.matching.MatchingType;
+import com.gamegoo.domain.member.Tier;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 임의의 매칭 요청 이벤트 생성기. 회원 목록에서 임의로 고른 회원이 intervalMillis 간격으로 매칭을 요청하고,
+ * quitRate 확률로 요청 후 quitAfterMillis 뒤에 매칭을 취소(QUIT)함
+ */
+public class RandomMatchingReplayGenerator implements MatchingReplayGenerator {
+
+    private final List<Long> memberIds;
+    private final int count;
+    private final int[] gameModes;
+    private final long intervalMillis;
+    private final double quitRate;
+    private final long quitAfterMillis;
+    private final Random random;
+
+    public RandomMatchingReplayGenerator(List<Long> memberIds, int count, int[] gameModes, long intervalMillis,
+                                         double quitRate, long quitAfterMillis, long seed) {
+        this.memberIds = memberIds;
+        this.count = count;
+        this.gameModes = gameModes;
+        this.intervalMillis = intervalMillis;
+        this.quitRate = quitRate;
+        this.quitAfterMillis = quitAfterMillis;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * 취소 없이 gameMode 1의 매칭 요청만 생성
+     *
+     * @param memberIds
+     * @param count
+     * @return
+     */
+    public static RandomMatchingReplayGenerator requestsOnly(List<Long> memberIds, int count) {
+        return new RandomMatchingReplayGenerator(memberIds, count, new int[]{1}, 0, 0, 0, System.nanoTime());
+    }
+
+    @Override
+    public List<MatchingReplayEvent> generate() {
+        List<MatchingReplayEvent> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            long at = i * intervalMillis;
+            Long memberId = memberIds.get(random.nextInt(memberIds.size()));
+            int gameMode = gameModes[random.nextInt(gameModes.length)];
+
+            events.add(MatchingReplayEvent.builder()
+                    .at(at)
+                    .type(MatchingReplayEvent.Type.REQUEST)
+                    .memberId(memberId)
+                    .tier(Tier.values()[random.nextInt(Tier.values().length)])
+                    .rank(random.nextInt(4) + 1)
+                    .mannerLevel(random.nextInt(5) + 1)
+                    .gameMode(gameMode)
+                    .mike(random.nextBoolean())
+                    .matchingType(i % 2==0 ? MatchingType.BASIC.name() : MatchingType.PRECISE.name())
+                    .mainP(random.nextInt(6))
+                    .subP(random.nextInt(6))
+                    .wantP(random.nextInt(6))
+                    .build());
+
+            if (random.nextDouble() < quitRate) {
+                events.add(MatchingReplayEvent.builder()
+                        .at(at + quitAfterMillis)
+                        .type(MatchingReplayEvent.Type.STATUS)
+                        .memberId(memberId)
+                        .gameMode(gameMode)
+                        .status("QUIT")
+                        .build());
+            }
+        }
+        events.sort(Comparator.comparingLong(MatchingReplayEvent::getAt));
+        return events;
+    }
+
+}
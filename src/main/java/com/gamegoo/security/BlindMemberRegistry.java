@@ -0,0 +1,75 @@
+package com.gamegoo.security;
+
+import com.gamegoo.repository.member.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 탈퇴(blind) 처리된 회원 id 목록을 메모리에 보관
+ * JWT 인증 시 Member 조회 없이 탈퇴한 회원의 토큰을 거부하기 위해 사용
+ * 다른 서버 인스턴스에서 탈퇴한 회원은 주기적으로 DB에서 다시 불러와 반영 (그 전까지는 해당 회원의 토큰이 인증됨)
+ * DB에서 삭제된 회원은 목록에 없으므로 거부하지 않음
+ * spring.jwt.stateless-principal=false 인 경우 JWT 인증 시 Member를 조회하므로 DB에서 다시 불러오지 않음
+ */
+@Slf4j
+@Component
+public class BlindMemberRegistry {
+
+    private final MemberRepository memberRepository;
+    private final boolean statelessPrincipal;
+    private final Set<Long> blindMemberIds = ConcurrentHashMap.newKeySet();
+
+    public BlindMemberRegistry(MemberRepository memberRepository,
+                               @Value("${spring.jwt.stateless-principal:false}") boolean statelessPrincipal) {
+        this.memberRepository = memberRepository;
+        this.statelessPrincipal = statelessPrincipal;
+    }
+
+    public boolean isBlind(Long memberId) {
+        return blindMemberIds.contains(memberId);
+    }
+
+    /**
+     * 탈퇴한 회원 id 등록, 트랜잭션 안에서는 커밋된 경우에만 등록
+     *
+     * @param memberId
+     */
+    public void add(Long memberId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    blindMemberIds.add(memberId);
+                }
+            });
+        } else {
+            blindMemberIds.add(memberId);
+        }
+    }
+
+    // 탈퇴 처리는 되돌리지 않으므로 DB의 blind 회원 id를 추가만 함
+    @Scheduled(fixedDelayString = "${spring.jwt.blind-refresh-interval:60000}")
+    public void refresh() {
+        if (!statelessPrincipal) {
+            return;
+        }
+
+        List<Long> memberIds = memberRepository.findIdsByBlindTrue();
+        int before = blindMemberIds.size();
+        blindMemberIds.addAll(memberIds);
+
+        if (blindMemberIds.size() > before) {
+            log.info("Blind member registry refreshed - added: {}, total: {}", blindMemberIds.size() - before,
+                    blindMemberIds.size());
+        }
+    }
+
+}
@@ -1,7 +1,6 @@
 package com.gamegoo.security;
 
 import com.gamegoo.domain.member.Member;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
@@ -9,10 +8,28 @@ import java.util.ArrayList;
 import java.util.Collection;
 
 // UserDetails 오버라이딩해서 Spring Security의 Login Filter에 사용하는 클래스
-@RequiredArgsConstructor
 public class CustomUserDetails implements UserDetails {
 
-    private final Member member;
+    private final Long id;
+    private final String email;
+    private final String password;
+
+    public CustomUserDetails(Member member) {
+        this.id = member.getId();
+        this.email = member.getEmail();
+        this.password = member.getPassword();
+    }
+
+    /**
+     * JWT 토큰의 회원 id만 담은 객체, Member 조회 없이 인증할 때 사용
+     *
+     * @param id
+     */
+    public CustomUserDetails(Long id) {
+        this.id = id;
+        this.email = null;
+        this.password = null;
+    }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
@@ -27,16 +44,16 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public String getPassword() {
-        return member.getPassword();
+        return password;
     }
 
     @Override
     public String getUsername() {
-        return member.getEmail();
+        return email;
     }
 
     public Long getId() {
-        return member.getId();
+        return id;
     }
 
     @Override
@@ -21,17 +21,22 @@ import com.gamegoo.repository.chat.MemberChatroomRepository;
 import com.gamegoo.repository.member.MemberRepository;
 import com.gamegoo.service.member.FriendService;
 import com.gamegoo.service.member.ProfileService;
-import com.gamegoo.service.socket.SocketService;
+import com.gamegoo.service.socket.SocketEventBus;
 import com.gamegoo.util.MemberUtils;
+import com.gamegoo.util.TimestampUtil;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Slice;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
@@ -40,12 +45,16 @@ public class ChatCommandService {
 
     private final ProfileService profileService;
     private final FriendService friendService;
-    private final SocketService socketService;
+    private final SocketEventBus socketEventBus;
     private final MemberRepository memberRepository;
     private final MemberChatroomRepository memberChatroomRepository;
     private final ChatroomRepository chatroomRepository;
     private final ChatRepository chatRepository;
     private final BoardRepository boardRepository;
+    private final Optional<ChatWriteBehindQueue> chatWriteBehindQueue;
+    private final ChatroomMembershipCache chatroomMembershipCache;
+    private final ChatQueryService chatQueryService;
+    private final TransactionTemplate transactionTemplate;
 
     private static final String POST_SYSTEM_MESSAGE_TO_MEMBER_INIT = "상대방이 게시한 글을 보고 말을 걸었어요. 대화를 시작해보세요~";
     private static final String POST_SYSTEM_MESSAGE_TO_MEMBER = "상대방이 게시한 글을 보고 말을 걸었어요.";
@@ -60,37 +69,41 @@ public class ChatCommandService {
      * @param memberId
      * @return
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ChatResponse.ChatroomEnterDTO startChatroomByMemberId(Long memberId, Long targetMemberId) {
-        // 대상 회원 검증 및 에러 처리
-        validateDifferentMembers(memberId, targetMemberId);
+        return executeWithChatroomCreateRetry(() -> {
+            // 대상 회원 검증 및 에러 처리
+            validateDifferentMembers(memberId, targetMemberId);
 
-        Member member = profileService.findMember(memberId);
+            Member member = profileService.findMember(memberId);
 
-        // 채팅 대상 회원의 존재 여부 검증
-        Member targetMember = validateAndGetTargetMember(targetMemberId);
+            // 채팅 대상 회원의 존재 여부 검증
+            Member targetMember = validateAndGetTargetMember(targetMemberId);
 
-        // 내가 상대 회원 차단했는지 검증
-        validateBlockedTargetMember(member, targetMember);
+            // 내가 상대 회원 차단했는지 검증
+            validateBlockedTargetMember(member, targetMember);
 
-        return chatroomRepository.findChatroomByMemberIds(member.getId(), targetMember.getId())
-                // 기존 채팅방 존재하는 경우, 해당 채팅방에 입장
-                .map(existingChatroom -> enterExistingChatroom(member, targetMember, existingChatroom, null))
-                .orElseGet(() -> {
-                    // 기존에 채팅방이 존재하지 않는 경우
-                    // 상대가 나를 차단했는지 검증
-                    validateBlockedByTargetMember(member, targetMember);
+            return chatroomRepository.findChatroomByMemberIds(member.getId(), targetMember.getId())
+                    // 기존 채팅방 존재하는 경우, 해당 채팅방에 입장
+                    .map(existingChatroom -> enterExistingChatroom(member, targetMember, existingChatroom, null))
+                    .orElseGet(() -> {
+                        // 기존에 채팅방이 존재하지 않는 경우
+                        // 상대가 나를 차단했는지 검증
+                        validateBlockedByTargetMember(member, targetMember);
 
-                    // 상대가 탈퇴했는지 검증
-                    validateTargetMemberIsBlind(targetMember, ErrorStatus.CHAT_START_FAILED_TARGET_USER_DEACTIVATED);
+                        // 상대가 탈퇴했는지 검증
+                        validateTargetMemberIsBlind(targetMember,
+                                ErrorStatus.CHAT_START_FAILED_TARGET_USER_DEACTIVATED);
 
-                    // 새 채팅방 생성
-                    Chatroom newChatroom = createNewChatroom(member, targetMember, null);
+                        // 새 채팅방 생성
+                        Chatroom newChatroom = createNewChatroom(member, targetMember, null);
 
-                    ChatResponse.ChatMessageListDTO chatMessageListDTO = initChatMessageListDTO();
+                        ChatResponse.ChatMessageListDTO chatMessageListDTO = initChatMessageListDTO();
 
-                    return createChatroomEnterDTO(member, targetMember, newChatroom.getUuid(), null,
-                            chatMessageListDTO);
-                });
+                        return createChatroomEnterDTO(member, targetMember, newChatroom.getUuid(), null,
+                                chatMessageListDTO);
+                    });
+        });
     }
 
     /**
@@ -100,49 +113,52 @@ public class ChatCommandService {
      * @param memberId
      * @return
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ChatResponse.ChatroomEnterDTO startChatroomByBoardId(Long memberId, Long boardId) {
-        Member member = profileService.findMember(memberId);
+        return executeWithChatroomCreateRetry(() -> {
+            Member member = profileService.findMember(memberId);
 
-        // 게시글 존재 여부 검증 및 조회
-        Board board = validateAndGetBoard(boardId);
+            // 게시글 존재 여부 검증 및 조회
+            Board board = validateAndGetBoard(boardId);
 
-        // 채팅 대상 회원의 존재 여부 검증
-        Member targetMember = validateAndGetTargetMember(board.getMember().getId());
+            // 채팅 대상 회원의 존재 여부 검증
+            Member targetMember = validateAndGetTargetMember(board.getMember().getId());
 
-        // 게시글 작성자가 본인이 아닌지 검증
-        if (member.getId().equals(targetMember.getId())) {
-            throw new ChatHandler(ErrorStatus.CHAT_START_FAILED_BOARD_CREATOR_IS_SELF);
-        }
-        // 상대가 탈퇴했는지 검증
-        validateTargetMemberIsBlind(targetMember, ErrorStatus.CHAT_START_FAILED_TARGET_USER_DEACTIVATED);
-
-        // 내가 상대 회원 차단했는지 검증
-        validateBlockedTargetMember(member, targetMember);
+            // 게시글 작성자가 본인이 아닌지 검증
+            if (member.getId().equals(targetMember.getId())) {
+                throw new ChatHandler(ErrorStatus.CHAT_START_FAILED_BOARD_CREATOR_IS_SELF);
+            }
+            // 상대가 탈퇴했는지 검증
+            validateTargetMemberIsBlind(targetMember, ErrorStatus.CHAT_START_FAILED_TARGET_USER_DEACTIVATED);
 
-        return chatroomRepository.findChatroomByMemberIds(member.getId(), targetMember.getId())
-                // 기존 채팅방 존재하는 경우, 해당 채팅방에 입장 및 system 값 포함
-                .map(exitChatroom -> enterExistingChatroom(member, targetMember, exitChatroom, board.getId()))
-                .orElseGet(() -> {
-                    // 기존에 채팅방이 존재하지 않는 경우
-                    // 상대가 나를 차단했는지 검증
-                    validateBlockedByTargetMember(member, targetMember);
-
-                    // 새 채팅방 생성
-                    Chatroom newChatroom = createNewChatroom(member, targetMember, null);
-
-                    // 응답 생성
-                    // 시스템 메시지 기능을 위한 SystemFlagDTO 생성
-                    ChatResponse.SystemFlagDTO systemFlagDTO = ChatResponse.SystemFlagDTO.builder()
-                            .flag(1)
-                            .boardId(boardId)
-                            .build();
-
-                    // chatMessageListDTO 생성
-                    ChatResponse.ChatMessageListDTO chatMessageListDTO = initChatMessageListDTO();
-
-                    return createChatroomEnterDTO(member, targetMember, newChatroom.getUuid(), systemFlagDTO,
-                            chatMessageListDTO);
-                });
+            // 내가 상대 회원 차단했는지 검증
+            validateBlockedTargetMember(member, targetMember);
+
+            return chatroomRepository.findChatroomByMemberIds(member.getId(), targetMember.getId())
+                    // 기존 채팅방 존재하는 경우, 해당 채팅방에 입장 및 system 값 포함
+                    .map(exitChatroom -> enterExistingChatroom(member, targetMember, exitChatroom, board.getId()))
+                    .orElseGet(() -> {
+                        // 기존에 채팅방이 존재하지 않는 경우
+                        // 상대가 나를 차단했는지 검증
+                        validateBlockedByTargetMember(member, targetMember);
+
+                        // 새 채팅방 생성
+                        Chatroom newChatroom = createNewChatroom(member, targetMember, null);
+
+                        // 응답 생성
+                        // 시스템 메시지 기능을 위한 SystemFlagDTO 생성
+                        ChatResponse.SystemFlagDTO systemFlagDTO = ChatResponse.SystemFlagDTO.builder()
+                                .flag(1)
+                                .boardId(boardId)
+                                .build();
+
+                        // chatMessageListDTO 생성
+                        ChatResponse.ChatMessageListDTO chatMessageListDTO = initChatMessageListDTO();
+
+                        return createChatroomEnterDTO(member, targetMember, newChatroom.getUuid(), systemFlagDTO,
+                                chatMessageListDTO);
+                    });
+        });
     }
 
     /**
@@ -151,34 +167,37 @@ public class ChatCommandService {
      * @param request
      * @return
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public String startChatroomByMatching(Long memberId1, Long memberId2) {
-        // 매칭 대상 회원이 동일한 회원인 경우
-        validateDifferentMembers(memberId1, memberId2);
+        return executeWithChatroomCreateRetry(() -> {
+            // 매칭 대상 회원이 동일한 회원인 경우
+            validateDifferentMembers(memberId1, memberId2);
 
-        Member member1 = profileService.findMember(memberId1);
-        Member member2 = profileService.findMember(memberId2);
+            Member member1 = profileService.findMember(memberId1);
+            Member member2 = profileService.findMember(memberId2);
 
-        // 대상 회원의 탈퇴 여부 검증
-        validateTargetMemberIsBlind(member2, ErrorStatus.CHAT_START_FAILED_TARGET_USER_DEACTIVATED);
+            // 대상 회원의 탈퇴 여부 검증
+            validateTargetMemberIsBlind(member2, ErrorStatus.CHAT_START_FAILED_TARGET_USER_DEACTIVATED);
 
-        // 내가 상대를 차단했는지 검증
-        validateBlockedTargetMember(member1, member2);
+            // 내가 상대를 차단했는지 검증
+            validateBlockedTargetMember(member1, member2);
 
-        // 상대가 나를 차단했는지 검증
-        validateBlockedByTargetMember(member1, member2);
+            // 상대가 나를 차단했는지 검증
+            validateBlockedByTargetMember(member1, member2);
 
-        Chatroom chatroom = chatroomRepository.findChatroomByMemberIds(member1.getId(), member2.getId())
-                // 기존 채팅방 존재하는 경우, 서로의 lastJoinDate가 null이면 현재 시각으로 업데이트
-                .map(existingChatroom -> updateLastJoinDateWithOutSocket(member1, member2, existingChatroom,
-                        LocalDateTime.now()))
-                // 기존 채팅방 존재하지 않는 경우, 새로운 채팅방 생성
-                .orElseGet(() -> createNewChatroom(member1, member2, LocalDateTime.now()));
+            Chatroom chatroom = chatroomRepository.findChatroomByMemberIds(member1.getId(), member2.getId())
+                    // 기존 채팅방 존재하는 경우, 서로의 lastJoinDate가 null이면 현재 시각으로 업데이트
+                    .map(existingChatroom -> updateLastJoinDateWithOutSocket(member1, member2, existingChatroom,
+                            LocalDateTime.now()))
+                    // 기존 채팅방 존재하지 않는 경우, 새로운 채팅방 생성
+                    .orElseGet(() -> createNewChatroom(member1, member2, LocalDateTime.now()));
 
-        // 두 회원에게 매칭 시스템 메시지 생성 및 저장
-        createAndSaveSystemChat(chatroom, member1, MATCHING_SYSTEM_MESSAGE, null, 0);
-        createAndSaveSystemChat(chatroom, member2, MATCHING_SYSTEM_MESSAGE, null, 0);
+            // 두 회원에게 매칭 시스템 메시지 생성 및 저장
+            createAndSaveSystemChat(chatroom, member1, MATCHING_SYSTEM_MESSAGE, null, 0);
+            createAndSaveSystemChat(chatroom, member2, MATCHING_SYSTEM_MESSAGE, null, 0);
 
-        return chatroom.getUuid();
+            return chatroom.getUuid();
+        });
     }
 
     /**
@@ -192,16 +211,12 @@ public class ChatCommandService {
     public ChatResponse.ChatroomEnterDTO enterChatroom(String chatroomUuid, Long memberId) {
         Member member = profileService.findMember(memberId);
 
-        // chatroom 엔티티 조회 및 해당 회원의 채팅방이 맞는지 검증
-        Chatroom chatroom = chatroomRepository.findByUuid(chatroomUuid)
-                .orElseThrow(() -> new ChatHandler(ErrorStatus.CHATROOM_NOT_EXIST));
-
-        memberChatroomRepository.findByMemberIdAndChatroomId(memberId, chatroom.getId())
-                .orElseThrow(() -> new ChatHandler(ErrorStatus.CHATROOM_ACCESS_DENIED));
+        // 채팅방 참여 정보 조회 및 해당 회원의 채팅방이 맞는지 검증
+        ChatroomMembership membership = chatroomMembershipCache.getMembership(chatroomUuid, memberId);
+        Chatroom chatroom = chatroomRepository.getReferenceById(membership.getChatroomId());
 
         // 채팅 상대 회원 조회
-        Member targetMember = memberChatroomRepository.findTargetMemberByChatroomIdAndMemberId(chatroom.getId(),
-                memberId);
+        Member targetMember = memberRepository.getReferenceById(membership.getTargetMemberId(memberId));
 
         // 내가 채팅 상대 회원을 차단한 경우
         validateBlockedTargetMember(member, targetMember);
@@ -220,24 +235,16 @@ public class ChatCommandService {
     public Chat addChat(ChatRequest.ChatCreateRequest request, String chatroomUuid, Long memberId) {
         Member member = profileService.findMember(memberId);
 
-        // 채팅방 조회 및 존재 여부 검증
-        Chatroom chatroom = chatroomRepository.findByUuid(chatroomUuid)
-                .orElseThrow(() -> new ChatHandler(ErrorStatus.CHATROOM_NOT_EXIST));
-
-        // 해당 채팅방이 회원의 것이 맞는지 검증
-        MemberChatroom memberChatroom = memberChatroomRepository.findByMemberIdAndChatroomId(memberId, chatroom.getId())
-                .orElseThrow(() -> new ChatHandler(ErrorStatus.CHATROOM_ACCESS_DENIED));
+        // 채팅방 참여 정보 조회 및 해당 채팅방이 회원의 것이 맞는지 검증
+        ChatroomMembership membership = chatroomMembershipCache.getMembership(chatroomUuid, memberId);
+        Chatroom chatroom = chatroomRepository.getReferenceById(membership.getChatroomId());
+        MemberChatroom memberChatroom = memberChatroomRepository.getReferenceById(
+                membership.getMemberChatroomId(memberId));
+        MemberChatroom targetMemberChatroom = memberChatroomRepository.getReferenceById(
+                membership.getTargetMemberChatroomId(memberId));
 
         // 회원 간 차단 여부 및 탈퇴 여부 검증
-        // 대화 상대 회원 조회
-        Member targetMember = memberChatroomRepository.findTargetMemberByChatroomIdAndMemberId(chatroom.getId(),
-                memberId);
-
-        // 상대 탈퇴 여부 검증
-        validateTargetMemberIsBlind(targetMember, ErrorStatus.CHAT_ADD_FAILED_TARGET_USER_DEACTIVATED);
-
-        MemberUtils.validateBlocked(member, targetMember, ErrorStatus.CHAT_ADD_FAILED_CHAT_TARGET_IS_BLOCKED);
-        MemberUtils.validateBlocked(targetMember, member, ErrorStatus.CHAT_ADD_FAILED_BLOCKED_BY_CHAT_TARGET);
+        Member targetMember = validateAndGetChatTargetMember(member, membership);
 
         // 등록해야 할 시스템 메시지가 있는 경우
         if (request.getSystem()!=null) {
@@ -255,7 +262,7 @@ public class ChatCommandService {
             Chat systemChatToTargetMember = createAndSaveSystemChat(chatroom, targetMember,
                     POST_SYSTEM_MESSAGE_TO_TARGET_MEMBER, board.orElse(null), 0);
 
-            updateLastJoinDateBySystemChat(memberChatroom, systemChatToMember.getCreatedAt(),
+            updateLastJoinDateBySystemChat(memberChatroom, targetMemberChatroom, systemChatToMember.getCreatedAt(),
                     systemChatToTargetMember.getCreatedAt());
         }
 
@@ -266,17 +273,64 @@ public class ChatCommandService {
                 .fromMember(member)
                 .build();
 
-        // MemberChatroom의 lastViewDate 업데이트
+        // 채팅방의 마지막 채팅 정보 및 읽지 않은 메시지 개수 갱신
         Chat savedChat = chatRepository.save(chat);
+        updateChatroomByNewChat(savedChat);
+
+        // MemberChatroom의 lastViewDate 업데이트
         if (request.getSystem()==null) {
-            updateLastViewDateByAddChat(memberChatroom, savedChat.getCreatedAt());
+            updateLastViewDateByAddChat(memberChatroom, targetMemberChatroom, savedChat.getCreatedAt());
         } else {
-            memberChatroom.updateLastViewDate(savedChat.getCreatedAt());
+            readAllChats(memberChatroom, savedChat.getCreatedAt());
         }
 
         return savedChat;
     }
 
+    /**
+     * 소켓 서버를 통한 채팅 등록. write-behind 모드이고 시스템 메시지가 없는 경우, 검증 및 lastViewDate 업데이트 후 채팅은 큐에 적재하고
+     * timestamp를 바로 응답. 그 외의 경우(큐가 가득 찬 경우 포함) addChat으로 동기 저장
+     *
+     * @param request
+     * @param chatroomUuid
+     * @param memberId
+     * @return
+     */
+    @Transactional
+    public ChatResponse.ChatCreateResultDTO addChatFromSocket(ChatRequest.ChatCreateRequest request,
+                                                              String chatroomUuid, Long memberId) {
+        if (request.getSystem()!=null || chatWriteBehindQueue.map(ChatWriteBehindQueue::isFull).orElse(true)) {
+            return ChatConverter.toChatCreateResultDTO(addChat(request, chatroomUuid, memberId));
+        }
+
+        Member member = profileService.findMember(memberId);
+
+        // 채팅방 참여 정보 조회 및 해당 채팅방이 회원의 것이 맞는지 검증
+        ChatroomMembership membership = chatroomMembershipCache.getMembership(chatroomUuid, memberId);
+        MemberChatroom memberChatroom = memberChatroomRepository.getReferenceById(
+                membership.getMemberChatroomId(memberId));
+        MemberChatroom targetMemberChatroom = memberChatroomRepository.getReferenceById(
+                membership.getTargetMemberChatroomId(memberId));
+
+        // 회원 간 차단 여부 및 탈퇴 여부 검증
+        validateAndGetChatTargetMember(member, membership);
+
+        PendingChat pendingChat = PendingChat.builder()
+                .chatroomId(membership.getChatroomId())
+                .fromMemberId(member.getId())
+                .contents(request.getMessage())
+                .timestamp(TimestampUtil.getNowUtcTimeStamp())
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        // MemberChatroom의 lastViewDate 업데이트, 상대 회원의 unreadCount와 채팅방의 마지막 채팅은 큐에서 저장할 때 갱신
+        updateLastViewDateByAddChat(memberChatroom, targetMemberChatroom, pendingChat.getCreatedAt());
+
+        chatWriteBehindQueue.get().enqueue(pendingChat);
+
+        return ChatConverter.toChatCreateResultDTO(member, pendingChat);
+    }
+
     /**
      * memberChatroom의 lastViewDate을 업데이트
      *
@@ -288,13 +342,11 @@ public class ChatCommandService {
     public void readChatMessages(String chatroomUuid, Long timestamp, Long memberId) {
         Member member = profileService.findMember(memberId);
 
-        // chatroom 엔티티 조회 및 해당 회원의 채팅방이 맞는지 검증
-        Chatroom chatroom = chatroomRepository.findByUuid(chatroomUuid)
-                .orElseThrow(() -> new ChatHandler(ErrorStatus.CHATROOM_NOT_EXIST));
-
-        MemberChatroom memberChatroom = memberChatroomRepository.findByMemberIdAndChatroomId(member.getId(),
-                        chatroom.getId())
-                .orElseThrow(() -> new ChatHandler(ErrorStatus.CHATROOM_ACCESS_DENIED));
+        // 채팅방 참여 정보 조회 및 해당 회원의 채팅방이 맞는지 검증
+        ChatroomMembership membership = chatroomMembershipCache.getMembership(chatroomUuid, member.getId());
+        Chatroom chatroom = chatroomRepository.getReferenceById(membership.getChatroomId());
+        MemberChatroom memberChatroom = memberChatroomRepository.getReferenceById(
+                membership.getMemberChatroomId(member.getId()));
 
         // 내가 입장한 상태인지 검증
         if (memberChatroom.getLastJoinDate()==null) {
@@ -302,13 +354,22 @@ public class ChatCommandService {
         }
 
         if (timestamp==null) { // timestamp 파라미터가 넘어오지 않은 경우, lastViewDate를 현재 시각으로 업데이트
-            memberChatroom.updateLastViewDate(LocalDateTime.now());
+            readAllChats(memberChatroom, LocalDateTime.now());
 
         } else { // timestamp 파라미터가 넘어온 경우, lastViewDate를 해당 timestamp의 chat의 createdAt으로 업데이트
-            Chat chat = chatRepository.findByChatroomAndTimestamp(chatroom, timestamp)
+            // write-behind 큐에 적재되어 아직 저장되지 않은 채팅인 경우, 적재 시점에 확정된 createdAt 사용
+            // 저장 트랜잭션 커밋 후에야 큐에서 제거되므로, 큐를 먼저 조회해야 둘 다 조회되지 않는 구간이 없음
+            LocalDateTime chatCreatedAt = chatWriteBehindQueue
+                    .flatMap(queue -> queue.findPendingChat(chatroom.getId(), timestamp))
+                    .map(PendingChat::getCreatedAt)
+                    .or(() -> chatRepository.findByChatroomAndTimestamp(chatroom, timestamp)
+                            .map(Chat::getCreatedAt))
                     .orElseThrow(() -> new ChatHandler(ErrorStatus.CHAT_READ_FAILED_CHAT_MESSAGE_NOT_FOUND));
 
-            memberChatroom.updateLastViewDate(chat.getCreatedAt());
+            memberChatroom.updateLastViewDate(chatCreatedAt);
+
+            // 해당 메시지 이후의 메시지는 읽지 않은 상태로 남으므로 다시 집계
+            updateUnreadCount(memberChatroom);
         }
     }
 
@@ -322,15 +383,12 @@ public class ChatCommandService {
     public void exitChatroom(String chatroomUuid, Long memberId) {
         Member member = profileService.findMember(memberId);
 
-        // chatroom 엔티티 조회 및 해당 회원의 채팅방이 맞는지 검증
-        Chatroom chatroom = chatroomRepository.findByUuid(chatroomUuid)
-                .orElseThrow(() -> new ChatHandler(ErrorStatus.CHATROOM_NOT_EXIST));
+        // 채팅방 참여 정보 조회 및 해당 회원의 채팅방이 맞는지 검증
+        ChatroomMembership membership = chatroomMembershipCache.getMembership(chatroomUuid, member.getId());
+        MemberChatroom memberChatroom = memberChatroomRepository.getReferenceById(
+                membership.getMemberChatroomId(member.getId()));
 
-        MemberChatroom memberChatroom = memberChatroomRepository.findByMemberIdAndChatroomId(member.getId(),
-                        chatroom.getId())
-                .orElseThrow(() -> new ChatHandler(ErrorStatus.CHATROOM_ACCESS_DENIED));
-
-        memberChatroom.updateLastJoinDate(null);
+        updateLastJoinDate(memberChatroom, null);
     }
 
     /* private 메소드 */
@@ -364,7 +422,7 @@ public class ChatCommandService {
                 .orElseThrow(() -> new ChatHandler(ErrorStatus.CHATROOM_ACCESS_DENIED));
 
         if (memberChatroom.getLastJoinDate()==null) {
-            memberChatroom.updateLastJoinDate(lastJoinDate);
+            updateLastJoinDate(memberChatroom, lastJoinDate);
         }
     }
 
@@ -373,39 +431,34 @@ public class ChatCommandService {
      * 채팅 등록 시 나와 상대방의 lastViewDate 업데이트
      *
      * @param memberChatroom
+     * @param targetMemberChatroom
      * @param lastViewDate
      */
-    private void updateLastViewDateByAddChat(MemberChatroom memberChatroom, LocalDateTime lastViewDate) {
+    private void updateLastViewDateByAddChat(MemberChatroom memberChatroom, MemberChatroom targetMemberChatroom,
+                                             LocalDateTime lastViewDate) {
         // lastJoinDate가 null인 경우
         if (memberChatroom.getLastJoinDate()==null) {
             // lastViewDate 업데이트
-            memberChatroom.updateLastViewDate(lastViewDate);
+            readAllChats(memberChatroom, lastViewDate);
 
             // lastJoinDate 업데이트
             memberChatroom.updateLastJoinDate(lastViewDate);
 
             // lastJoinDate 업데이트로 인해 socket room join API 요청
-            socketService.joinSocketToChatroom(memberChatroom.getMember().getId(),
+            socketEventBus.joinSocketToChatroom(memberChatroom.getMember().getId(),
                     memberChatroom.getChatroom().getUuid());
         } else {
             // lastViewDate 업데이트
-            memberChatroom.updateLastViewDate(lastViewDate);
+            readAllChats(memberChatroom, lastViewDate);
         }
 
         // 상대 회원의 memberChatroom의 latJoinDate가 null인 경우, 상대 회원의 lastJoinDate 업데이트
-        Chatroom chatroom = memberChatroom.getChatroom();
-
-        Member targetMember = memberChatroomRepository.findTargetMemberByChatroomIdAndMemberId(chatroom.getId(),
-                memberChatroom.getMember().getId());
-        MemberChatroom targetMemberChatroom = memberChatroomRepository
-                .findByMemberIdAndChatroomId(targetMember.getId(), chatroom.getId())
-                .get();
-
         if (targetMemberChatroom.getLastJoinDate()==null) {
-            targetMemberChatroom.updateLastJoinDate(lastViewDate);
+            updateLastJoinDate(targetMemberChatroom, lastViewDate);
 
             // lastJoinDate 업데이트로 인해 socket room join API 요청
-            socketService.joinSocketToChatroom(targetMember.getId(), targetMemberChatroom.getChatroom().getUuid());
+            socketEventBus.joinSocketToChatroom(targetMemberChatroom.getMember().getId(),
+                    targetMemberChatroom.getChatroom().getUuid());
         }
     }
 
@@ -413,40 +466,37 @@ public class ChatCommandService {
      * 시스템 메시지 등록 시 나와 상대방의 lastJoinDate 업데이트
      *
      * @param memberChatroom
+     * @param targetMemberChatroom
      * @param memberSystemChatCreatedAt
      * @param targetSystemChatCreatedAt
      */
-    private void updateLastJoinDateBySystemChat(MemberChatroom memberChatroom, LocalDateTime memberSystemChatCreatedAt,
+    private void updateLastJoinDateBySystemChat(MemberChatroom memberChatroom, MemberChatroom targetMemberChatroom,
+                                                LocalDateTime memberSystemChatCreatedAt,
                                                 LocalDateTime targetSystemChatCreatedAt) {
         // lastJoinDate가 null인 경우
         if (memberChatroom.getLastJoinDate()==null) {
             // lastJoinDate 업데이트
-            memberChatroom.updateLastJoinDate(memberSystemChatCreatedAt);
+            updateLastJoinDate(memberChatroom, memberSystemChatCreatedAt);
 
             // lastJoinDate 업데이트로 인해 socket room join API 요청
-            socketService.joinSocketToChatroom(memberChatroom.getMember().getId(),
+            socketEventBus.joinSocketToChatroom(memberChatroom.getMember().getId(),
                     memberChatroom.getChatroom().getUuid());
         }
 
         // 상대 회원의 memberChatroom의 latJoinDate가 null인 경우, 상대 회원의 lastJoinDate 업데이트
-        Chatroom chatroom = memberChatroom.getChatroom();
-
-        Member targetMember = memberChatroomRepository.findTargetMemberByChatroomIdAndMemberId(chatroom.getId(),
-                memberChatroom.getMember().getId());
-        MemberChatroom targetMemberChatroom = memberChatroomRepository
-                .findByMemberIdAndChatroomId(targetMember.getId(), chatroom.getId())
-                .get();
-
         if (targetMemberChatroom.getLastJoinDate()==null) {
-            targetMemberChatroom.updateLastJoinDate(targetSystemChatCreatedAt);
+            updateLastJoinDate(targetMemberChatroom, targetSystemChatCreatedAt);
 
             // lastJoinDate 업데이트로 인해 socket room join API 요청
-            socketService.joinSocketToChatroom(targetMember.getId(), targetMemberChatroom.getChatroom().getUuid());
+            socketEventBus.joinSocketToChatroom(targetMemberChatroom.getMember().getId(),
+                    targetMemberChatroom.getChatroom().getUuid());
         }
     }
 
     /**
      * 두 회원 간 새로운 채팅방 생성
+     * 같은 두 회원의 채팅방이 동시에 생성된 경우 (minMemberId, maxMemberId) unique key 위반으로 실패하며,
+     * executeWithChatroomCreateRetry에서 새 트랜잭션으로 다시 시도해 먼저 생성된 채팅방에 입장
      *
      * @param member1
      * @param member2
@@ -460,9 +510,15 @@ public class ChatCommandService {
         Chatroom newChatroom = Chatroom.builder()
                 .uuid(uuid)
                 .startMember(null)
+                .minMemberId(Math.min(member1.getId(), member2.getId()))
+                .maxMemberId(Math.max(member1.getId(), member2.getId()))
                 .build();
 
-        chatroomRepository.save(newChatroom);
+        try {
+            chatroomRepository.save(newChatroom);
+        } catch (DataIntegrityViolationException e) {
+            throw new ChatHandler(ErrorStatus.CHATROOM_CREATE_CONFLICT);
+        }
 
         createAndSaveMemberChatroom(member1, newChatroom, lastJoinDate);
         createAndSaveMemberChatroom(member2, newChatroom, lastJoinDate);
@@ -470,6 +526,26 @@ public class ChatCommandService {
         return newChatroom;
     }
 
+    /**
+     * 채팅방 시작 로직을 트랜잭션 안에서 실행
+     * 같은 두 회원의 채팅방이 동시에 생성되어 실패한 경우, 실패한 트랜잭션은 rollback되므로 새 트랜잭션에서 한 번 더 실행해 먼저 생성된 채팅방으로 입장 처리
+     * 이미 진행 중인 트랜잭션에 참여한 경우에는 해당 트랜잭션이 rollback 대상이므로 다시 시도하지 않음
+     *
+     * @param action
+     * @return
+     */
+    private <T> T executeWithChatroomCreateRetry(Supplier<T> action) {
+        boolean participating = TransactionSynchronizationManager.isActualTransactionActive();
+        try {
+            return transactionTemplate.execute(status -> action.get());
+        } catch (ChatHandler e) {
+            if (participating || e.getCode()!=ErrorStatus.CHATROOM_CREATE_CONFLICT) {
+                throw e;
+            }
+            return transactionTemplate.execute(status -> action.get());
+        }
+    }
+
 
     /**
      * 해댕 회원 및 채팅방에 대한 MemberChatroom 엔티티 생성 및 저장
@@ -482,6 +558,7 @@ public class ChatCommandService {
         MemberChatroom memberChatroom = MemberChatroom.builder()
                 .lastViewDate(null)
                 .lastJoinDate(lastJoinDate)
+                .unreadCount(0)
                 .chatroom(chatroom)
                 .build();
         memberChatroom.setMember(member);
@@ -510,7 +587,64 @@ public class ChatCommandService {
                 .systemType(systemType)
                 .build();
 
-        return chatRepository.save(systemChat);
+        Chat savedSystemChat = chatRepository.save(systemChat);
+        updateChatroomByNewChat(savedSystemChat);
+
+        return savedSystemChat;
+    }
+
+    /**
+     * 새로운 채팅 저장 시 채팅방의 마지막 채팅 정보 및 해당 채팅을 읽지 않은 회원의 unreadCount 갱신
+     * unreadCount는 같은 채팅방에 동시에 등록된 채팅끼리 덮어쓰지 않도록 DB에서 원자적으로 증가
+     * 이미 조회된 엔티티는 다시 조회하지 않으며, @DynamicUpdate로 변경한 컬럼만 update하므로 증가된 값을 덮어쓰지 않음
+     *
+     * @param chat
+     */
+    private void updateChatroomByNewChat(Chat chat) {
+        Chatroom chatroom = chat.getChatroom();
+        chatroom.updateLastChat(chat);
+
+        Long toMemberId = chat.getToMember()!=null ? chat.getToMember().getId() : null;
+        memberChatroomRepository.increaseUnreadCount(chatroom.getId(), chat.getFromMember().getId(), toMemberId,
+                chat.getCreatedAt());
+    }
+
+    /**
+     * lastViewDate 업데이트 및 모든 메시지를 읽음 처리
+     *
+     * @param memberChatroom
+     * @param lastViewDate
+     */
+    private void readAllChats(MemberChatroom memberChatroom, LocalDateTime lastViewDate) {
+        memberChatroom.updateLastViewDate(lastViewDate);
+        memberChatroom.updateUnreadCount(0);
+    }
+
+    /**
+     * lastJoinDate 업데이트 및 unreadCount 갱신. 퇴장하는 경우 0, 입장하는 경우 입장 시각 이후의 메시지로 다시 집계
+     *
+     * @param memberChatroom
+     * @param lastJoinDate
+     */
+    private void updateLastJoinDate(MemberChatroom memberChatroom, LocalDateTime lastJoinDate) {
+        memberChatroom.updateLastJoinDate(lastJoinDate);
+
+        if (lastJoinDate==null) {
+            memberChatroom.updateUnreadCount(0);
+        } else {
+            updateUnreadCount(memberChatroom);
+        }
+    }
+
+    /**
+     * memberChatroom의 unreadCount를 다시 집계. 입장 또는 특정 메시지까지 읽음 처리하는 경우에만 사용
+     *
+     * @param memberChatroom
+     */
+    private void updateUnreadCount(MemberChatroom memberChatroom) {
+        Integer unreadCount = chatRepository.countUnreadChats(memberChatroom.getChatroom().getId(),
+                memberChatroom.getId(), memberChatroom.getMember().getId());
+        memberChatroom.updateUnreadCount(unreadCount);
     }
 
     /**
@@ -537,14 +671,11 @@ public class ChatCommandService {
         }
 
         // 최근 메시지 내역 조회
-        Slice<Chat> recentChats = chatRepository.findRecentChats(chatroom.getId(), memberChatroom.getId(),
-                member.getId());
+        ChatResponse.ChatMessageListDTO chatMessageListDTO = chatQueryService.getRecentChatMessages(
+                chatroom.getId(), memberChatroom, member.getId());
 
         // lastViewDate 업데이트
-        memberChatroom.updateLastViewDate(LocalDateTime.now());
-
-        // ChatMessageListDTO 생성
-        ChatResponse.ChatMessageListDTO chatMessageListDTO = ChatConverter.toChatMessageListDTO(recentChats);
+        readAllChats(memberChatroom, LocalDateTime.now());
 
         ChatResponse.SystemFlagDTO systemFlagDTO;
         // 시스템 플래그 생성, boardId가 null인 경우 systemFlagDTO도 null
@@ -635,6 +766,26 @@ public class ChatCommandService {
 
     //--- 검증 메소드 ---//
 
+    /**
+     * 채팅 상대 회원 조회 및 탈퇴, 차단 여부 검증
+     *
+     * @param member
+     * @param membership
+     * @return
+     */
+    private Member validateAndGetChatTargetMember(Member member, ChatroomMembership membership) {
+        // 대화 상대 회원 조회
+        Member targetMember = memberRepository.getReferenceById(membership.getTargetMemberId(member.getId()));
+
+        // 상대 탈퇴 여부 검증
+        validateTargetMemberIsBlind(targetMember, ErrorStatus.CHAT_ADD_FAILED_TARGET_USER_DEACTIVATED);
+
+        MemberUtils.validateBlocked(member, targetMember, ErrorStatus.CHAT_ADD_FAILED_CHAT_TARGET_IS_BLOCKED);
+        MemberUtils.validateBlocked(targetMember, member, ErrorStatus.CHAT_ADD_FAILED_BLOCKED_BY_CHAT_TARGET);
+
+        return targetMember;
+    }
+
     private void validateDifferentMembers(Long member1, Long member2) {
         if (member1.equals(member2)) {
             throw new ChatHandler(ErrorStatus.CHAT_START_FAILED_TARGET_USER_IS_SELF);
@@ -669,14 +820,4 @@ public class ChatCommandService {
                 .orElseThrow(() -> new ChatHandler(ErrorStatus.CHAT_START_FAILED_BOARD_NOT_FOUND));
     }
 
-    private Chatroom validateAndGetChatroom(Long memberId, String uuid) {
-        Chatroom chatroom = chatroomRepository.findByUuid(uuid)
-                .orElseThrow(() -> new ChatHandler(ErrorStatus.CHATROOM_NOT_EXIST));
-
-        MemberChatroom memberChatroom = memberChatroomRepository.findByMemberIdAndChatroomId(memberId, chatroom.getId())
-                .orElseThrow(() -> new ChatHandler(ErrorStatus.CHATROOM_NOT_EXIST));
-
-        return chatroom;
-    }
-
 }
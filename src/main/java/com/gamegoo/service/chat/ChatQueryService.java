@@ -1,28 +1,34 @@
 package com.gamegoo.service.chat;
 
-import com.gamegoo.apiPayload.code.status.ErrorStatus;
-import com.gamegoo.apiPayload.exception.handler.ChatHandler;
+import com.gamegoo.converter.ChatConverter;
 import com.gamegoo.domain.chat.Chat;
 import com.gamegoo.domain.chat.Chatroom;
 import com.gamegoo.domain.chat.MemberChatroom;
+import com.gamegoo.domain.friend.FriendRequestStatus;
 import com.gamegoo.domain.member.Member;
 import com.gamegoo.dto.chat.ChatResponse;
 import com.gamegoo.repository.chat.ChatRepository;
 import com.gamegoo.repository.chat.ChatroomRepository;
 import com.gamegoo.repository.chat.MemberChatroomRepository;
-import com.gamegoo.service.member.FriendService;
+import com.gamegoo.repository.friend.FriendRepository;
+import com.gamegoo.repository.friend.FriendRequestsRepository;
+import com.gamegoo.repository.member.BlockRepository;
 import com.gamegoo.service.member.ProfileService;
 import com.gamegoo.util.DatetimeUtil;
-import com.gamegoo.util.MemberUtils;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -34,7 +40,10 @@ public class ChatQueryService {
     private final MemberChatroomRepository memberChatroomRepository;
     private final ChatRepository chatRepository;
     private final ProfileService profileService;
-    private final FriendService friendService;
+    private final FriendRepository friendRepository;
+    private final FriendRequestsRepository friendRequestsRepository;
+    private final BlockRepository blockRepository;
+    private final ChatroomMembershipCache chatroomMembershipCache;
     private final static int CHAT_PAGE_SIZE = 20;
     private final static int PAGE_SIZE = 10;
 
@@ -54,6 +63,7 @@ public class ChatQueryService {
      * @param memberId
      * @return
      */
+    @Timed(value = "gamegoo.service", histogram = true)
     public ChatResponse.ChatroomViewListDTO getChatroomList(Long memberId, Long cursor) {
         Member member = profileService.findMember(memberId);
 
@@ -61,21 +71,57 @@ public class ChatQueryService {
         Slice<MemberChatroom> activeMemberChatroom = memberChatroomRepository
                 .findActiveMemberChatroomByCursorOrderByLastChat(member.getId(), cursor, PAGE_SIZE);
 
+        if (activeMemberChatroom.isEmpty()) {
+            return ChatResponse.ChatroomViewListDTO.builder()
+                    .chatroomViewDTOList(new ArrayList<>())
+                    .list_size(0)
+                    .has_next(false)
+                    .next_cursor(null)
+                    .build();
+        }
+
+        // 페이지에 속한 채팅방들의 상대 회원, 친구 및 차단 여부를 채팅방 개수와 무관하게 한 번씩 조회
+        // 마지막 대화와 읽지 않은 메시지 개수는 chatroom, memberChatroom에 저장된 값 사용
+        List<Long> chatroomIds = activeMemberChatroom.stream()
+                .map(memberChatroom -> memberChatroom.getChatroom().getId())
+                .collect(Collectors.toList());
+
+        // 채팅방 id -> 채팅 상대 회원
+        Map<Long, Member> targetMembers = memberChatroomRepository
+                .findTargetMemberChatroomsByChatroomIds(chatroomIds, member.getId())
+                .stream()
+                .collect(Collectors.toMap(
+                        targetMemberChatroom -> targetMemberChatroom.getChatroom().getId(),
+                        MemberChatroom::getMember,
+                        (existing, replacement) -> existing));
+        Set<Long> targetMemberIds = targetMembers.values().stream()
+                .map(Member::getId)
+                .collect(Collectors.toSet());
+
+        // 나와 서로 친구인 상대 회원, 나를 차단한 상대 회원
+        Set<Long> friendMemberIds = new HashSet<>(
+                friendRepository.findFriendMemberIds(member.getId(), targetMemberIds));
+        Set<Long> blockerMemberIds = new HashSet<>(
+                blockRepository.findBlockerMemberIds(member.getId(), targetMemberIds));
+
+        // 상대 회원 id -> 친구 요청을 보낸 회원 id. 양방향 요청이 모두 있는 경우 내가 보낸 요청 우선
+        Map<Long, Long> friendRequestMemberIds = new HashMap<>();
+        friendRequestsRepository.findFriendRequestsBetween(member.getId(), targetMemberIds,
+                        FriendRequestStatus.PENDING)
+                .forEach(friendRequest -> {
+                    Long fromMemberId = (Long) friendRequest[0];
+                    Long toMemberId = (Long) friendRequest[1];
+                    if (fromMemberId.equals(member.getId())) {
+                        friendRequestMemberIds.put(toMemberId, fromMemberId);
+                    } else {
+                        friendRequestMemberIds.putIfAbsent(fromMemberId, fromMemberId);
+                    }
+                });
+
         List<ChatResponse.ChatroomViewDTO> chatroomViewDTOList = activeMemberChatroom.stream()
                 .map(memberChatroom -> {
-                    // 채팅 상대 회원 조회
-                    Member targetMember = memberChatroomRepository
-                            .findTargetMemberByChatroomIdAndMemberId(memberChatroom.getChatroom().getId(),
-                                    member.getId());
                     Chatroom chatroom = memberChatroom.getChatroom();
-
-                    // 가장 마지막 대화 조회
-                    Optional<Chat> lastChat = chatRepository
-                            .findFirstByChatroomIdOrderByCreatedAtDesc(chatroom.getId());
-
-                    // 내가 읽지 않은 메시지 개수 조회
-                    Integer unReadCnt = chatRepository.countUnreadChats(chatroom.getId(), memberChatroom.getId(),
-                            member.getId());
+                    Member targetMember = targetMembers.get(chatroom.getId());
 
                     return ChatResponse.ChatroomViewDTO.builder()
                             .chatroomId(chatroom.getId())
@@ -86,23 +132,20 @@ public class ChatQueryService {
                                     targetMember.getBlind()
                                             ? "(탈퇴한 사용자)"
                                             : targetMember.getGameName())
-                            .friend(friendService.isFriend(member, targetMember))
-                            .blocked(MemberUtils.isBlocked(targetMember, member))
+                            .friend(friendMemberIds.contains(targetMember.getId()))
+                            .blocked(blockerMemberIds.contains(targetMember.getId()))
                             .blind(targetMember.getBlind())
-                            .friendRequestMemberId(friendService.getFriendRequestMemberId(member, targetMember))
-                            .lastMsg(
-                                    lastChat.isPresent()
-                                            ? lastChat.get().getContents()
-                                            : null)
+                            .friendRequestMemberId(friendRequestMemberIds.get(targetMember.getId()))
+                            .lastMsg(chatroom.getLastChatContents())
                             .lastMsgAt(
-                                    lastChat.isPresent()
-                                            ? DatetimeUtil.toKSTString(lastChat.get().getCreatedAt())
+                                    chatroom.getLastChatAt()!=null
+                                            ? DatetimeUtil.toKSTString(chatroom.getLastChatAt())
                                             : DatetimeUtil.toKSTString(memberChatroom.getLastJoinDate()))
-                            .notReadMsgCnt(unReadCnt)
-                            .lastMsgTimestamp(
-                                    lastChat.isPresent()
-                                            ? lastChat.get().getTimestamp()
-                                            : null)
+                            .notReadMsgCnt(
+                                    memberChatroom.getUnreadCount()!=null
+                                            ? memberChatroom.getUnreadCount()
+                                            : 0)
+                            .lastMsgTimestamp(chatroom.getLastChatTimestamp())
                             .build();
                 })
                 .collect(Collectors.toList());
@@ -121,34 +164,87 @@ public class ChatQueryService {
 
     /**
      * chatroomUuid에 해당하는 채팅방의 메시지 내역 조회, 페이징 포함
+     * cursor가 있는 경우 cursor 이전 메시지, 없는 경우 최근 메시지 내역 조회
      *
      * @param chatroomUuid
      * @param memberId
      * @param cursor
+     * @param cursorChatId cursor와 timestamp가 같은 메시지를 구분하기 위한 chat id, 없는 경우 timestamp만 비교
      * @return
      */
-    public Slice<Chat> getChatMessagesByCursor(String chatroomUuid, Long memberId, Long cursor) {
+    public ChatResponse.ChatMessageListDTO getChatMessagesByCursor(String chatroomUuid, Long memberId, Long cursor,
+                                                                   Long cursorChatId) {
         Member member = profileService.findMember(memberId);
 
-        // chatroom 엔티티 조회 및 해당 회원의 채팅방이 맞는지 검증
-        Chatroom chatroom = chatroomRepository.findByUuid(chatroomUuid)
-                .orElseThrow(() -> new ChatHandler(ErrorStatus.CHATROOM_NOT_EXIST));
-
-        MemberChatroom memberChatroom = memberChatroomRepository
-                .findByMemberIdAndChatroomId(member.getId(), chatroom.getId())
-                .orElseThrow(() -> new ChatHandler(ErrorStatus.CHATROOM_ACCESS_DENIED));
-
-        PageRequest pageRequest = PageRequest.of(0, CHAT_PAGE_SIZE);
+        // 채팅방 참여 정보 조회 및 해당 회원의 채팅방이 맞는지 검증
+        ChatroomMembership membership = chatroomMembershipCache.getMembership(chatroomUuid, member.getId());
+        Long chatroomId = membership.getChatroomId();
+        MemberChatroom memberChatroom = memberChatroomRepository.getReferenceById(
+                membership.getMemberChatroomId(member.getId()));
 
         // requestParam으로 cursor가 넘어온 경우
         if (cursor!=null) {
-            return chatRepository.findChatsByCursor(cursor, chatroom.getId(), memberChatroom.getId(), member.getId(),
-                    pageRequest);
+            Slice<Chat> chats = chatRepository.findChatsByCursor(cursor, cursorChatId, chatroomId,
+                    memberChatroom.getLastJoinDate(), member.getId(), PageRequest.of(0, CHAT_PAGE_SIZE));
+            return ChatConverter.toChatMessageListDTO(chats);
         } else { // cursor가 넘어오지 않은 경우 = 해당 chatroom의 가장 최근 chat을 조회하는 요청
-            return chatRepository.findRecentChats(chatroom.getId(), memberChatroom.getId(), member.getId());
+            return getRecentChatMessages(chatroomId, memberChatroom, member.getId());
         }
     }
 
+    /**
+     * chatroomUuid에 해당하는 채팅방의 cursor 이후 메시지 내역 조회, 페이징 포함
+     *
+     * @param chatroomUuid
+     * @param memberId
+     * @param cursor
+     * @param cursorChatId cursor와 timestamp가 같은 메시지를 구분하기 위한 chat id, 없는 경우 timestamp만 비교
+     * @return
+     */
+    public ChatResponse.ChatMessageListDTO getChatMessagesAfterCursor(String chatroomUuid, Long memberId,
+                                                                      Long cursor, Long cursorChatId) {
+        Member member = profileService.findMember(memberId);
+
+        // 채팅방 참여 정보 조회 및 해당 회원의 채팅방이 맞는지 검증
+        ChatroomMembership membership = chatroomMembershipCache.getMembership(chatroomUuid, member.getId());
+        MemberChatroom memberChatroom = memberChatroomRepository.getReferenceById(
+                membership.getMemberChatroomId(member.getId()));
+
+        Slice<Chat> chats = chatRepository.findChatsAfterCursor(cursor, cursorChatId, membership.getChatroomId(),
+                memberChatroom.getLastJoinDate(), member.getId(), PageRequest.of(0, CHAT_PAGE_SIZE));
+
+        return ChatConverter.toChatMessageListDTO(chats.getContent(), false, chats.hasNext());
+    }
+
+    /**
+     * 채팅방 입장 시 보여줄 메시지 내역 조회
+     * 안읽은 메시지가 CHAT_PAGE_SIZE개 이상인 경우 가장 오래된 안읽은 메시지부터 CHAT_PAGE_SIZE개를 리턴하고,
+     * 그 이후 메시지는 newer_cursor로 이어서 조회. 그렇지 않은 경우 최근 메시지 CHAT_PAGE_SIZE개를 리턴
+     *
+     * @param chatroomId
+     * @param memberChatroom
+     * @param memberId
+     * @return
+     */
+    public ChatResponse.ChatMessageListDTO getRecentChatMessages(Long chatroomId, MemberChatroom memberChatroom,
+                                                                 Long memberId) {
+        Slice<Chat> unreadChats = chatRepository.findUnreadChats(chatroomId, memberChatroom.getLastJoinDate(),
+                memberChatroom.getLastViewDate(), memberId, PageRequest.of(0, CHAT_PAGE_SIZE));
+
+        if (unreadChats.getNumberOfElements() < CHAT_PAGE_SIZE) {
+            return ChatConverter.toChatMessageListDTO(
+                    chatRepository.findRecentChats(chatroomId, memberChatroom.getLastJoinDate(), memberId));
+        }
+
+        // 가장 오래된 안읽은 메시지 이전 메시지가 있는지 확인
+        Chat oldestUnreadChat = unreadChats.getContent().get(0);
+        boolean hasOlder = chatRepository.findChatsByCursor(oldestUnreadChat.getTimestamp(), oldestUnreadChat.getId(),
+                        chatroomId, memberChatroom.getLastJoinDate(), memberId, PageRequest.of(0, 1))
+                .hasContent();
+
+        return ChatConverter.toChatMessageListDTO(unreadChats.getContent(), hasOlder, unreadChats.hasNext());
+    }
+
     /**
      * 해당 회원의 안읽은 메시지가 속한 채팅방의 uuid list를 리턴
      *
@@ -158,22 +254,31 @@ public class ChatQueryService {
     public List<String> getUnreadChatroomUuids(Long memberId) {
         Member member = profileService.findMember(memberId);
 
-        // 해당 회원의 모든 입장 상태인 채팅방 조회, 정렬 필요 없음
-        List<MemberChatroom> activeMemberChatroom = memberChatroomRepository
-                .findAllActiveMemberChatroom(member.getId());
+        // 입장 상태이고 unreadCount가 0보다 큰 채팅방의 uuid 조회
+        return chatroomRepository.findUnreadChatroomUuidsByMemberId(member.getId());
+    }
 
-        List<String> unreadChatroomUuids = activeMemberChatroom
-                .stream()
-                .map(memberChatroom -> {
-                    Integer unreadCnt = chatRepository.countUnreadChats(memberChatroom.getChatroom().getId(),
-                            memberChatroom.getId(), member.getId());
+    /**
+     * 해당 회원의 안읽은 메시지가 속한 채팅방의 uuid list 및 전체 안읽은 메시지 개수를 리턴
+     *
+     * @param memberId
+     * @return
+     */
+    public ChatResponse.UnreadChatroomDTO getUnreadChatroomSummary(Long memberId) {
+        Member member = profileService.findMember(memberId);
 
-                    return unreadCnt > 0 ? memberChatroom.getChatroom().getUuid() : null;
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        List<String> chatroomUuids = new ArrayList<>();
+        int totalUnreadCount = 0;
+        for (Object[] unreadChatroom : chatroomRepository.findUnreadChatroomUuidsAndCountsByMemberId(
+                member.getId())) {
+            chatroomUuids.add((String) unreadChatroom[0]);
+            totalUnreadCount += (Integer) unreadChatroom[1];
+        }
 
-        return unreadChatroomUuids;
+        return ChatResponse.UnreadChatroomDTO.builder()
+                .chatroomUuids(chatroomUuids)
+                .totalUnreadCount(totalUnreadCount)
+                .build();
     }
 
 
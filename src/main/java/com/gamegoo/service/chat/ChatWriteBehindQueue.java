@@ -0,0 +1,313 @@
+package com.gamegoo.service.chat;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅 메시지 write-behind 큐. 검증이 끝난 채팅을 메모리에 적재하고, 주기마다 multi-row insert로 한 번에 저장
+ * <ul>
+ *     <li>적재: 요청 트랜잭션이 커밋된 후 큐에 추가 (lastViewDate, lastJoinDate 변경이 먼저 반영되도록)</li>
+ *     <li>저장: batch-size 개씩 한 트랜잭션에서 chat insert, 상대 회원의 unreadCount 증가, 채팅방의 마지막 채팅 갱신</li>
+ *     <li>데이터 오류(제약 조건 위반 등)로 저장 실패 시 묶음을 나눠 다시 저장하고, 혼자서도 실패하는 채팅은 로그로 남긴 후 버림</li>
+ *     <li>그 외 저장 실패(DB 장애 등) 시 꺼낸 채팅을 큐 앞에 다시 넣고 retry-interval 후 재시도,
+ *     max-attempts 번 실패한 채팅은 로그로 남긴 후 버림</li>
+ *     <li>큐에 max-size 개가 쌓인 경우 더 적재하지 않고 동기 저장</li>
+ *     <li>적재된 채팅은 큐에서 꺼낸 후에도 저장 트랜잭션이 커밋될 때까지 (chatroomId, timestamp)로 조회 가능</li>
+ * </ul>
+ * chat.write-behind.enabled=true 인 경우에만 동작. 시스템 메시지가 포함된 채팅은 기존처럼 동기 저장
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.write-behind.enabled", havingValue = "true")
+public class ChatWriteBehindQueue {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate requiresNewTransactionTemplate;
+    private final int batchSize;
+    private final int maxSize;
+    private final int maxAttempts;
+    private final long retryInterval;
+
+    private final ConcurrentLinkedDeque<PendingChat> queue = new ConcurrentLinkedDeque<>();
+    // ConcurrentLinkedDeque의 size()는 전체를 순회하므로 개수는 따로 관리
+    private final AtomicInteger queueSize = new AtomicInteger();
+    // 큐에 있거나 저장 중인 채팅, 저장 트랜잭션 커밋 후 또는 버릴 때 제거
+    private final Map<PendingChatKey, PendingChat> pendingChats = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private volatile long retryAt;
+
+    private static final String INSERT_CHAT_COLUMNS = "INSERT INTO chat (contents, timestamp, chatroom_id, " +
+            "from_member_id, created_at, updated_at) VALUES ";
+
+    // MemberChatroomRepository의 increaseUnreadCount 조건과 동일, 보낸 회원은 적재 시점에 읽음 처리되므로 제외
+    private static final String INCREASE_UNREAD_COUNT = "UPDATE member_chatroom " +
+            "SET unread_count = COALESCE(unread_count, 0) + 1 " +
+            "WHERE chatroom_id = :chatroomId AND member_id <> :fromMemberId " +
+            "AND last_join_date IS NOT NULL AND last_join_date <= :createdAt " +
+            "AND (last_view_date IS NULL OR last_view_date < :createdAt)";
+
+    private static final String UPDATE_LAST_CHAT = "UPDATE chatroom " +
+            "SET last_chat_id = (SELECT MAX(c.chat_id) FROM chat c WHERE c.chatroom_id = :chatroomId), " +
+            "last_chat_timestamp = :timestamp, last_chat_at = :createdAt, last_chat_contents = :contents " +
+            "WHERE chatroom_id = :chatroomId AND (last_chat_at IS NULL OR last_chat_at <= :createdAt)";
+
+    public ChatWriteBehindQueue(NamedParameterJdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                @Value("${chat.write-behind.batch-size:500}") int batchSize,
+                                @Value("${chat.write-behind.max-size:100000}") int maxSize,
+                                @Value("${chat.write-behind.max-attempts:5}") int maxAttempts,
+                                @Value("${chat.write-behind.retry-interval:1000}") long retryInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxSize = maxSize;
+        this.maxAttempts = maxAttempts;
+        this.retryInterval = retryInterval;
+
+        // 요청 트랜잭션의 afterCommit에서 동기 저장할 때 사용
+        this.requiresNewTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.requiresNewTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 채팅을 큐에 적재. 트랜잭션 안에서 호출된 경우 커밋된 후 적재
+     *
+     * @param pendingChat
+     */
+    public void enqueue(PendingChat pendingChat) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    offer(pendingChat);
+                }
+            });
+        } else {
+            offer(pendingChat);
+        }
+    }
+
+    /**
+     * 큐에 max-size 개 이상 쌓였는지 여부
+     *
+     * @return
+     */
+    public boolean isFull() {
+        return queueSize.get() >= maxSize;
+    }
+
+    /**
+     * 아직 저장되지 않은 채팅 중 해당 채팅방, timestamp에 해당하는 채팅 조회
+     * 큐에서 꺼내 저장 중인 채팅도 커밋 전까지 조회됨
+     *
+     * @param chatroomId
+     * @param timestamp
+     * @return
+     */
+    public Optional<PendingChat> findPendingChat(Long chatroomId, Long timestamp) {
+        return Optional.ofNullable(pendingChats.get(new PendingChatKey(chatroomId, timestamp)));
+    }
+
+    public int size() {
+        return queueSize.get();
+    }
+
+    @Scheduled(fixedDelayString = "${chat.write-behind.interval:5}",
+            initialDelayString = "${chat.write-behind.interval:5}")
+    public void run() {
+        // 저장 실패 후 retry-interval 동안은 재시도하지 않음
+        if (System.currentTimeMillis() < retryAt) {
+            return;
+        }
+        flush();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * 큐가 빌 때까지 batch-size 개씩 저장
+     *
+     * @return 저장한 채팅 수
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            int flushedCount = 0;
+            List<PendingChat> batch;
+            while (!(batch = drain()).isEmpty()) {
+                List<PendingChat> retryChats = new ArrayList<>();
+                flushedCount += saveOrSplit(batch, retryChats);
+                if (!retryChats.isEmpty()) {
+                    // 꺼낸 순서대로 큐 앞에 다시 넣고 retry-interval 후 재시도
+                    for (int i = retryChats.size() - 1; i >= 0; i--) {
+                        queue.offerFirst(retryChats.get(i));
+                        queueSize.incrementAndGet();
+                    }
+                    retryAt = System.currentTimeMillis() + retryInterval;
+                    break;
+                }
+            }
+            return flushedCount;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 채팅 묶음을 한 트랜잭션에서 저장
+     * 데이터 오류인 경우 묶음을 반으로 나눠 다시 저장하고, 혼자서도 실패하는 채팅은 버림.
+     * 그 외 오류인 경우 실패 횟수가 max-attempts 미만인 채팅과 아직 저장하지 않은 채팅을 retryChats에 담음
+     *
+     * @param chats
+     * @param retryChats
+     * @return 저장한 채팅 수
+     */
+    private int saveOrSplit(List<PendingChat> chats, List<PendingChat> retryChats) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                save(chats);
+                // 커밋 전에 제거하면 DB와 큐 어디에서도 조회되지 않는 구간이 생기므로 커밋된 후 제거
+                List<PendingChat> savedChats = List.copyOf(chats);
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        savedChats.forEach(ChatWriteBehindQueue.this::removePendingChat);
+                    }
+                });
+            });
+            return chats.size();
+        } catch (DataIntegrityViolationException e) {
+            if (chats.size()==1) {
+                deadLetter(chats.get(0), e);
+                return 0;
+            }
+            int half = chats.size() / 2;
+            int savedCount = saveOrSplit(chats.subList(0, half), retryChats);
+            if (!retryChats.isEmpty()) {
+                retryChats.addAll(chats.subList(half, chats.size()));
+                return savedCount;
+            }
+            return savedCount + saveOrSplit(chats.subList(half, chats.size()), retryChats);
+        } catch (RuntimeException e) {
+            log.error("Chat write-behind flush failed, requeue {} chats", chats.size(), e);
+            for (PendingChat pendingChat : chats) {
+                if (pendingChat.increaseAttempts() >= maxAttempts) {
+                    deadLetter(pendingChat, e);
+                } else {
+                    retryChats.add(pendingChat);
+                }
+            }
+            return 0;
+        }
+    }
+
+    private void deadLetter(PendingChat pendingChat, RuntimeException e) {
+        removePendingChat(pendingChat);
+        log.error("Chat write-behind dropped chat: chatroomId={}, fromMemberId={}, timestamp={}, createdAt={}, " +
+                        "contents={}, cause={}", pendingChat.getChatroomId(), pendingChat.getFromMemberId(), pendingChat.getTimestamp(),
+                pendingChat.getCreatedAt(), pendingChat.getContents(), e.getMessage());
+    }
+
+    private void offer(PendingChat pendingChat) {
+        if (queueSize.incrementAndGet() > maxSize) {
+            queueSize.decrementAndGet();
+            log.warn("Chat write-behind queue is full, save chat synchronously: chatroomId={}",
+                    pendingChat.getChatroomId());
+            requiresNewTransactionTemplate.executeWithoutResult(status -> save(List.of(pendingChat)));
+            return;
+        }
+        pendingChats.put(new PendingChatKey(pendingChat.getChatroomId(), pendingChat.getTimestamp()), pendingChat);
+        queue.offer(pendingChat);
+    }
+
+    private void removePendingChat(PendingChat pendingChat) {
+        // 같은 key로 나중에 적재된 채팅은 남겨둠
+        pendingChats.remove(new PendingChatKey(pendingChat.getChatroomId(), pendingChat.getTimestamp()),
+                pendingChat);
+    }
+
+    private List<PendingChat> drain() {
+        List<PendingChat> batch = new ArrayList<>();
+        PendingChat pendingChat;
+        while (batch.size() < batchSize && (pendingChat = queue.poll())!=null) {
+            queueSize.decrementAndGet();
+            batch.add(pendingChat);
+        }
+        return batch;
+    }
+
+    private void save(List<PendingChat> chats) {
+        // chat multi-row insert
+        MapSqlParameterSource insertParams = new MapSqlParameterSource();
+        StringBuilder insertChat = new StringBuilder(INSERT_CHAT_COLUMNS);
+        for (int i = 0; i < chats.size(); i++) {
+            PendingChat pendingChat = chats.get(i);
+            insertChat.append(i==0 ? "" : ", ")
+                    .append("(:contents").append(i)
+                    .append(", :timestamp").append(i)
+                    .append(", :chatroomId").append(i)
+                    .append(", :fromMemberId").append(i)
+                    .append(", :createdAt").append(i)
+                    .append(", :createdAt").append(i).append(")");
+            insertParams.addValue("contents" + i, pendingChat.getContents())
+                    .addValue("timestamp" + i, pendingChat.getTimestamp())
+                    .addValue("chatroomId" + i, pendingChat.getChatroomId())
+                    .addValue("fromMemberId" + i, pendingChat.getFromMemberId())
+                    .addValue("createdAt" + i, pendingChat.getCreatedAt());
+        }
+        jdbcTemplate.update(insertChat.toString(), insertParams);
+
+        // 상대 회원의 unreadCount 증가
+        MapSqlParameterSource[] unreadParams = chats.stream()
+                .map(pendingChat -> new MapSqlParameterSource()
+                        .addValue("chatroomId", pendingChat.getChatroomId())
+                        .addValue("fromMemberId", pendingChat.getFromMemberId())
+                        .addValue("createdAt", pendingChat.getCreatedAt()))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INCREASE_UNREAD_COUNT, unreadParams);
+
+        // 채팅방 별 가장 마지막 채팅으로 마지막 채팅 정보 갱신
+        Map<Long, PendingChat> lastChats = chats.stream()
+                .collect(Collectors.toMap(PendingChat::getChatroomId, Function.identity(),
+                        BinaryOperator.maxBy(Comparator.comparing(PendingChat::getCreatedAt))));
+        MapSqlParameterSource[] lastChatParams = lastChats.values().stream()
+                .map(lastChat -> new MapSqlParameterSource()
+                        .addValue("chatroomId", lastChat.getChatroomId())
+                        .addValue("timestamp", lastChat.getTimestamp())
+                        .addValue("createdAt", lastChat.getCreatedAt())
+                        .addValue("contents", lastChat.getContents()))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(UPDATE_LAST_CHAT, lastChatParams);
+    }
+
+    private record PendingChatKey(Long chatroomId, Long timestamp) {
+    }
+
+}
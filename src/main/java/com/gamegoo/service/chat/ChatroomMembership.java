@@ -0,0 +1,41 @@
+package com.gamegoo.service.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 채팅방 uuid에 해당하는 채팅방 id와 참여 회원 정보. 채팅방 생성 이후 참여 회원은 바뀌지 않음
+ */
+@Getter
+@AllArgsConstructor
+public class ChatroomMembership {
+
+    private final Long chatroomId;
+
+    // 회원 id -> memberChatroom id
+    private final Map<Long, Long> memberChatroomIds;
+
+    public boolean contains(Long memberId) {
+        return memberChatroomIds.containsKey(memberId);
+    }
+
+    public Long getMemberChatroomId(Long memberId) {
+        return memberChatroomIds.get(memberId);
+    }
+
+    // 해당 회원의 채팅 상대 회원 id, 상대 회원이 없는 경우 null
+    public Long getTargetMemberId(Long memberId) {
+        return memberChatroomIds.keySet().stream()
+                .filter(chatroomMemberId -> !chatroomMemberId.equals(memberId))
+                .findFirst()
+                .orElse(null);
+    }
+
+    public Long getTargetMemberChatroomId(Long memberId) {
+        Long targetMemberId = getTargetMemberId(memberId);
+        return targetMemberId==null ? null : memberChatroomIds.get(targetMemberId);
+    }
+
+}
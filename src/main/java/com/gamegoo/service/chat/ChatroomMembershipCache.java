@@ -0,0 +1,78 @@
+package com.gamegoo.service.chat;
+
+import com.gamegoo.apiPayload.code.status.ErrorStatus;
+import com.gamegoo.apiPayload.exception.handler.ChatHandler;
+import com.gamegoo.repository.chat.MemberChatroomRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채팅방 uuid -> 채팅방 id, 참여 회원의 memberChatroom id 캐시. 최근에 사용하지 않은 채팅방부터 제거 (LRU)
+ * 참여 회원은 채팅방 생성 이후 바뀌지 않으므로 무효화 없이 사용하며, lastJoinDate, lastViewDate 등의 변경은 그대로 DB에 반영
+ */
+@Component
+public class ChatroomMembershipCache {
+
+    private final MemberChatroomRepository memberChatroomRepository;
+    private final Map<String, ChatroomMembership> cache;
+
+    public ChatroomMembershipCache(MemberChatroomRepository memberChatroomRepository,
+                                   @Value("${chat.membership-cache.max-size:10000}") int maxSize) {
+        this.memberChatroomRepository = memberChatroomRepository;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ChatroomMembership> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    /**
+     * uuid에 해당하는 채팅방의 참여 정보 조회 및 해당 회원의 채팅방이 맞는지 검증
+     *
+     * @param chatroomUuid
+     * @param memberId
+     * @return
+     */
+    public ChatroomMembership getMembership(String chatroomUuid, Long memberId) {
+        ChatroomMembership membership = cache.get(chatroomUuid);
+        if (membership==null) {
+            membership = load(chatroomUuid);
+            cache.put(chatroomUuid, membership);
+        }
+
+        if (!membership.contains(memberId)) {
+            throw new ChatHandler(ErrorStatus.CHATROOM_ACCESS_DENIED);
+        }
+        return membership;
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    private ChatroomMembership load(String chatroomUuid) {
+        List<Object[]> memberChatrooms = memberChatroomRepository.findMembershipByChatroomUuid(chatroomUuid);
+
+        // 존재하지 않는 채팅방은 캐시하지 않음
+        if (memberChatrooms.isEmpty()) {
+            throw new ChatHandler(ErrorStatus.CHATROOM_NOT_EXIST);
+        }
+
+        Map<Long, Long> memberChatroomIds = new HashMap<>();
+        memberChatrooms.forEach(memberChatroom -> memberChatroomIds.put((Long) memberChatroom[1],
+                (Long) memberChatroom[0]));
+        return new ChatroomMembership((Long) memberChatrooms.get(0)[2], Map.copyOf(memberChatroomIds));
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.gamegoo.service.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * write-behind 큐에 적재되어 아직 DB에 저장되지 않은 채팅. timestamp와 createdAt은 적재 시점에 확정
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class PendingChat {
+
+    private final Long chatroomId;
+    private final Long fromMemberId;
+    private final String contents;
+    private final Long timestamp;
+    private final LocalDateTime createdAt;
+
+    // 저장 실패 횟수, 큐의 flush 스레드에서만 변경
+    private int attempts;
+
+    int increaseAttempts() {
+        return ++attempts;
+    }
+
+}
@@ -0,0 +1,245 @@
+package com.gamegoo.service.matching;
+
+import com.gamegoo.domain.member.Tier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * gameMode 별 대기(PENDING) 매칭 요청을 메모리에 유지하는 매칭 풀. DB는 영속화 및 서버 시작 시 풀 복구 용도로만 사용
+ * <p>
+ * 각 gameMode 풀은 (티어, 주 포지션, 부 포지션) 버킷으로 인덱싱되어 있어, 호환되는 버킷만 조회 가능
+ */
+@Slf4j
+@Component
+public class MatchingPool {
+
+    public static final long EXPIRATION_MINUTES = 5L; // 매칭 요청 유효 시간(분)
+
+    public static final int MIN_TIER_ORDINAL = 0;
+    public static final int MAX_TIER_ORDINAL = Tier.values().length - 1;
+
+    private final Map<Integer, GameModePool> pools = new ConcurrentHashMap<>();
+
+    /**
+     * 매칭 풀에 엔트리 추가, 같은 gameMode에 해당 회원의 기존 엔트리가 있는 경우 교체
+     *
+     * @param entry
+     */
+    public void add(MatchingPoolEntry entry) {
+        getPool(entry.getGameMode()).add(entry);
+    }
+
+    /**
+     * 해당 회원의 풀 엔트리가 matchingRecordId에 해당하는 매칭 기록인 경우에만 풀에서 제거
+     *
+     * @param gameMode
+     * @param memberId
+     * @param matchingRecordId
+     */
+    public void remove(Integer gameMode, Long memberId, Long matchingRecordId) {
+        GameModePool pool = pools.get(gameMode);
+        if (pool==null) {
+            return;
+        }
+        pool.remove(memberId, matchingRecordId);
+    }
+
+    /**
+     * entry가 여전히 해당 회원의 유효 시간 내 대기 엔트리인지 여부
+     *
+     * @param entry
+     * @return
+     */
+    public boolean contains(MatchingPoolEntry entry) {
+        GameModePool pool = pools.get(entry.getGameMode());
+        if (pool==null) {
+            return false;
+        }
+
+        LocalDateTime expiredAt = LocalDateTime.now().minusMinutes(EXPIRATION_MINUTES);
+        return pool.contains(entry.getMemberId(), entry.getMatchingRecordId(), expiredAt);
+    }
+
+    /**
+     * 해당 gameMode의 유효 시간 내 대기 엔트리 전체 조회
+     *
+     * @param gameMode
+     * @return
+     */
+    public List<MatchingPoolEntry> getPendingEntries(Integer gameMode) {
+        return getCandidates(gameMode, MIN_TIER_ORDINAL, MAX_TIER_ORDINAL, null, null);
+    }
+
+    /**
+     * 해당 gameMode에서 티어 범위 내에 있고, 주/부 포지션 조합이 (mainPosition, subPosition)과 겹치지 않는 유효 시간 내 대기 엔트리 조회
+     *
+     * @param gameMode
+     * @param minTierOrdinal 조회할 최소 티어 ordinal
+     * @param maxTierOrdinal 조회할 최대 티어 ordinal
+     * @param mainPosition   요청자의 주 포지션, null인 경우 포지션 조합으로 거르지 않음
+     * @param subPosition    요청자의 부 포지션, null인 경우 포지션 조합으로 거르지 않음
+     * @return
+     */
+    public List<MatchingPoolEntry> getCandidates(Integer gameMode, int minTierOrdinal, int maxTierOrdinal,
+                                                 Integer mainPosition, Integer subPosition) {
+        GameModePool pool = pools.get(gameMode);
+        if (pool==null) {
+            return List.of();
+        }
+
+        LocalDateTime expiredAt = LocalDateTime.now().minusMinutes(EXPIRATION_MINUTES);
+        return pool.getCandidates(Math.max(minTierOrdinal, MIN_TIER_ORDINAL),
+                Math.min(maxTierOrdinal, MAX_TIER_ORDINAL), mainPosition, subPosition, expiredAt);
+    }
+
+    /**
+     * 해당 gameMode의 풀을 주어진 엔트리 목록으로 교체 (서버 시작 시 DB로부터 복구)
+     *
+     * @param gameMode
+     * @param entries
+     */
+    public void replace(Integer gameMode, Collection<MatchingPoolEntry> entries) {
+        GameModePool pool = new GameModePool();
+        entries.forEach(pool::add);
+        pools.put(gameMode, pool);
+    }
+
+    public void clear() {
+        pools.clear();
+    }
+
+    /**
+     * 유효 시간이 지난 엔트리 제거
+     */
+    @Scheduled(fixedDelay = 60 * 1000) // 1분 주기로 실행
+    public void evictExpired() {
+        LocalDateTime expiredAt = LocalDateTime.now().minusMinutes(EXPIRATION_MINUTES);
+        pools.values().forEach(pool -> pool.evictExpired(expiredAt));
+    }
+
+    private GameModePool getPool(Integer gameMode) {
+        return pools.computeIfAbsent(gameMode, key -> new GameModePool());
+    }
+
+    /**
+     * 하나의 gameMode에 대한 풀. memberId 인덱스와 티어 -> 주 포지션 -> 부 포지션 버킷을 함께 유지
+     */
+    private static class GameModePool {
+
+        // memberId -> 해당 회원의 가장 최신 대기 매칭 요청
+        private final Map<Long, MatchingPoolEntry> entries = new HashMap<>();
+
+        // 티어 ordinal -> 주 포지션 -> 부 포지션 -> (memberId -> 엔트리)
+        private final List<Map<Integer, Map<Integer, Map<Long, MatchingPoolEntry>>>> tierBuckets =
+                new ArrayList<>();
+
+        GameModePool() {
+            for (int tier = MIN_TIER_ORDINAL; tier <= MAX_TIER_ORDINAL; tier++) {
+                tierBuckets.add(new HashMap<>());
+            }
+        }
+
+        synchronized void add(MatchingPoolEntry entry) {
+            MatchingPoolEntry previous = entries.put(entry.getMemberId(), entry);
+            if (previous!=null) {
+                removeFromBucket(previous);
+            }
+            tierBuckets.get(entry.getTierOrdinal())
+                    .computeIfAbsent(entry.getMainPosition(), key -> new HashMap<>())
+                    .computeIfAbsent(entry.getSubPosition(), key -> new HashMap<>())
+                    .put(entry.getMemberId(), entry);
+        }
+
+        synchronized void remove(Long memberId, Long matchingRecordId) {
+            MatchingPoolEntry entry = entries.get(memberId);
+            if (entry==null || entry.getMatchingRecordId()!=matchingRecordId) {
+                return;
+            }
+            entries.remove(memberId);
+            removeFromBucket(entry);
+        }
+
+        synchronized boolean contains(long memberId, long matchingRecordId, LocalDateTime expiredAt) {
+            MatchingPoolEntry entry = entries.get(memberId);
+            return entry!=null && entry.getMatchingRecordId()==matchingRecordId
+                    && entry.getCreatedAt().isAfter(expiredAt);
+        }
+
+        synchronized List<MatchingPoolEntry> getCandidates(int minTierOrdinal, int maxTierOrdinal,
+                                                           Integer mainPosition, Integer subPosition,
+                                                           LocalDateTime expiredAt) {
+            List<MatchingPoolEntry> candidates = new ArrayList<>();
+            for (int tier = minTierOrdinal; tier <= maxTierOrdinal; tier++) {
+                for (Map.Entry<Integer, Map<Integer, Map<Long, MatchingPoolEntry>>> mainBucket :
+                        tierBuckets.get(tier).entrySet()) {
+                    for (Map.Entry<Integer, Map<Long, MatchingPoolEntry>> subBucket :
+                            mainBucket.getValue().entrySet()) {
+                        if (isSamePositionPair(mainBucket.getKey(), subBucket.getKey(), mainPosition,
+                                subPosition)) {
+                            continue;
+                        }
+                        for (MatchingPoolEntry entry : subBucket.getValue().values()) {
+                            if (entry.getCreatedAt().isAfter(expiredAt)) {
+                                candidates.add(entry);
+                            }
+                        }
+                    }
+                }
+            }
+            return candidates;
+        }
+
+        synchronized void evictExpired(LocalDateTime expiredAt) {
+            List<MatchingPoolEntry> expiredEntries = entries.values().stream()
+                    .filter(entry -> !entry.getCreatedAt().isAfter(expiredAt))
+                    .toList();
+            expiredEntries.forEach(entry -> {
+                entries.remove(entry.getMemberId());
+                removeFromBucket(entry);
+            });
+        }
+
+        private void removeFromBucket(MatchingPoolEntry entry) {
+            Map<Integer, Map<Integer, Map<Long, MatchingPoolEntry>>> tierBucket =
+                    tierBuckets.get(entry.getTierOrdinal());
+            Map<Integer, Map<Long, MatchingPoolEntry>> mainBucket = tierBucket.get(entry.getMainPosition());
+            if (mainBucket==null) {
+                return;
+            }
+            Map<Long, MatchingPoolEntry> subBucket = mainBucket.get(entry.getSubPosition());
+            if (subBucket==null) {
+                return;
+            }
+            subBucket.remove(entry.getMemberId());
+            if (subBucket.isEmpty()) {
+                mainBucket.remove(entry.getSubPosition());
+            }
+            if (mainBucket.isEmpty()) {
+                tierBucket.remove(entry.getMainPosition());
+            }
+        }
+
+        /**
+         * 버킷의 주/부 포지션 조합이 요청자의 주/부 포지션 조합과 같은지 여부 (순서가 바뀐 경우 포함, 0 또는 포지션 값이 없는 조합은 제외)
+         */
+        private static boolean isSamePositionPair(int bucketMain, int bucketSub, Integer mainPosition,
+                                                  Integer subPosition) {
+            if (mainPosition==null || subPosition==null || bucketMain <= 0 || bucketSub <= 0) {
+                return false;
+            }
+            return (bucketMain==mainPosition && bucketSub==subPosition)
+                    || (bucketMain==subPosition && bucketSub==mainPosition);
+        }
+
+    }
+
+}
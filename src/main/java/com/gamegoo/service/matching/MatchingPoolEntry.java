@@ -0,0 +1,79 @@
+package com.gamegoo.service.matching;
+
+import com.gamegoo.domain.matching.MatchingRecord;
+import com.gamegoo.domain.matching.MatchingType;
+import com.gamegoo.domain.member.Tier;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매칭 풀에 올라가 있는 대기(PENDING) 매칭 요청의 스냅샷. 우선순위 계산에 필요한 값만 primitive로 담고 있어 엔티티 lazy 로딩, unboxing 없이 사용 가능
+ * <p>
+ * null 값은 생성 시점에 변환: 포지션은 NO_POSITION, 티어는 UNRANKED, 랭크와 매너레벨은 0, 마이크는 false
+ */
+@Getter
+public class MatchingPoolEntry {
+
+    public static final int NO_POSITION = -1; // 포지션 값이 없는 경우, 어떤 포지션과도 같지 않음
+
+    private final long matchingRecordId;
+    private final long memberId;
+    private final int gameMode;
+    private final int mainPosition;
+    private final int subPosition;
+    private final int wantPosition;
+    private final boolean mike;
+    private final int tierOrdinal;
+    private final int rank;
+    private final int mannerLevel;
+    private final boolean precise; // 정밀 매칭 여부
+    private final LocalDateTime createdAt;
+
+    @Builder
+    private MatchingPoolEntry(Long matchingRecordId, Long memberId, Integer gameMode, Integer mainPosition,
+                              Integer subPosition, Integer wantPosition, Boolean mike, Tier tier, Integer rank,
+                              Integer mannerLevel, MatchingType matchingType, LocalDateTime createdAt) {
+        this.matchingRecordId = matchingRecordId==null ? 0L : matchingRecordId;
+        this.memberId = memberId;
+        this.gameMode = gameMode;
+        this.mainPosition = toPosition(mainPosition);
+        this.subPosition = toPosition(subPosition);
+        this.wantPosition = toPosition(wantPosition);
+        this.mike = Boolean.TRUE.equals(mike);
+        this.tierOrdinal = tier==null ? Tier.UNRANKED.ordinal() : tier.ordinal();
+        this.rank = rank==null ? 0 : rank;
+        this.mannerLevel = mannerLevel==null ? 0 : mannerLevel;
+        this.precise = MatchingType.PRECISE.equals(matchingType);
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * 저장된 MatchingRecord 엔티티로부터 풀 엔트리 생성
+     *
+     * @param matchingRecord
+     * @return
+     */
+    public static MatchingPoolEntry from(MatchingRecord matchingRecord) {
+        return MatchingPoolEntry.builder()
+                .matchingRecordId(matchingRecord.getId())
+                .memberId(matchingRecord.getMember().getId())
+                .gameMode(matchingRecord.getGameMode())
+                .mainPosition(matchingRecord.getMainPosition())
+                .subPosition(matchingRecord.getSubPosition())
+                .wantPosition(matchingRecord.getWantPosition())
+                .mike(matchingRecord.getMike())
+                .tier(matchingRecord.getTier())
+                .rank(matchingRecord.getRank())
+                .mannerLevel(matchingRecord.getMannerLevel())
+                .matchingType(matchingRecord.getMatchingType())
+                .createdAt(matchingRecord.getCreatedAt())
+                .build();
+    }
+
+    private static int toPosition(Integer position) {
+        return position==null ? NO_POSITION : position;
+    }
+
+}
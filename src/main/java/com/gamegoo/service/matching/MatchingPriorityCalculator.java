@@ -0,0 +1,215 @@
+package com.gamegoo.service.matching;
+
+import com.gamegoo.apiPayload.code.status.ErrorStatus;
+import com.gamegoo.apiPayload.exception.handler.MatchingHandler;
+import com.gamegoo.domain.member.Tier;
+
+import static com.gamegoo.service.matching.MatchingPoolEntry.NO_POSITION;
+
+/**
+ * 두 매칭 풀 엔트리 사이의 매칭 우선순위 계산. primitive 값만 사용하며 객체를 생성하지 않음
+ */
+public class MatchingPriorityCalculator {
+
+    // 기존 우선순위 계산의 티어 경계 (ordinal 7, 3)
+    private static final int DIAMOND_OR_ABOVE_ORDINAL = Tier.DIAMOND.ordinal();
+    private static final int SILVER_OR_BELOW_ORDINAL = Tier.SILVER.ordinal();
+
+    /**
+     * my 입장에서 other의 우선순위 계산
+     *
+     * @param my
+     * @param other
+     * @return 우선순위 값, 매칭 불가능한 경우 0
+     * @throws MatchingHandler 겜구 매칭에서 my의 포지션 값이 없는 경우
+     */
+    public static int calculatePriority(MatchingPoolEntry my, MatchingPoolEntry other) {
+        int priority = 0;
+
+        int gameMode = my.getGameMode();
+        int myMainPosition = my.getMainPosition();
+        int mySubPosition = my.getSubPosition();
+        int myWantPosition = my.getWantPosition();
+        int myTier = my.getTierOrdinal();
+
+        int otherMainPosition = other.getMainPosition();
+        int otherSubPosition = other.getSubPosition();
+        int otherWantPosition = other.getWantPosition();
+        int otherTier = other.getTierOrdinal();
+
+        // 게임 모드가 다를 경우 X
+        if (gameMode!=other.getGameMode()) {
+            return 0;
+        }
+
+        // 주/부 포지션 조합이 같을 경우 X
+        // 겹치는게 둘 중 하나라도 0일 경우는 X
+        if (otherMainPosition > 0 && otherSubPosition > 0
+                && ((otherMainPosition==myMainPosition && otherSubPosition==mySubPosition)
+                || (otherMainPosition==mySubPosition && otherSubPosition==myMainPosition))) {
+            return 0;
+        }
+
+        // 개인 랭크 예외조건
+        if (gameMode==2) {
+            // 티어 차이가 1개 이상 나면 X
+            if (Math.abs(myTier - otherTier) > 1) {
+                return 0;
+            }
+
+            // 마스터 이상은 게임 불가능
+            if (myTier >= DIAMOND_OR_ABOVE_ORDINAL || otherTier >= DIAMOND_OR_ABOVE_ORDINAL) {
+                return 0;
+            }
+        }
+
+        // 자유랭크 예외조건
+        if (gameMode==3) {
+            // 마스터 이상 플레이어는 골드 이하의 플레이어와 매칭 X
+            if (myTier >= DIAMOND_OR_ABOVE_ORDINAL && otherTier <= SILVER_OR_BELOW_ORDINAL) {
+                return 0;
+            }
+            if (otherTier >= DIAMOND_OR_ABOVE_ORDINAL && myTier <= SILVER_OR_BELOW_ORDINAL) {
+                return 0;
+            }
+        }
+
+        /**
+         * <정밀매칭>
+         * 차이가 적을수록 높은 우선순위를 갖도록 함
+         *
+         * 우선순위 : 1. 매너레벨 2. 랭크
+         * 조건
+         *      1. 마이크는 무조건 맞아야함
+         *      2. 내가 원하는 포지션이 상대 포지션이어야함
+         *      3. 티어 차이가 1개 이상 나면 X
+         *
+         * Ex) 랭크 : 36, 매너레벨 : 16 (52) vs 랭크 : 40, 매너레벨 : 12 (52)
+         *        => (랭크가 4 이상 차이나야 매너레벨 1단계 다른 것과 같은 가중치를 가짐)
+         *        => (골드 1과 실버 4는 랭크가 7 차이남)
+         *
+         */
+        if (my.isPrecise()) {
+            // 마이크가 다를 경우 우선순위 0
+            if (other.isMike()!=my.isMike()) {
+                return 0;
+            }
+
+            // 내가 원하는 포지션이 상대 포지션이 아닐 경우 return 0
+            if (myWantPosition==NO_POSITION
+                    || (otherMainPosition!=myWantPosition && otherSubPosition!=myWantPosition)) {
+                return 0;
+            }
+
+            // 티어 차이가 1개 이상 나면 X
+            if (Math.abs(myTier - otherTier) > 1) {
+                return 0;
+            }
+        } else {
+            /**
+             * <겜구매칭>
+             * 차이가 적을수록 높은 우선순위를 갖도록 함
+             *
+             * 우선순위 : 1. 매너레벨 2. 랭크, 마이크, 포지션 (개인랭크의 경우 랭크를 더 우선)
+             */
+            // 마이크 가중치
+            if (other.isMike()==my.isMike()) {
+                // 개인 랭크일 경우 랭크가 맞는게 더 중요함
+                if (gameMode==2) {
+                    priority += 2;
+                }
+                priority += 3;
+            }
+
+            // 포지션 가중치
+            // 칼바람 : 포지션 선택 제외하기 -> 포지션 점수 기본값으로 주고 시작하기
+            if (gameMode==4) {
+                priority += 6;
+            } else {
+                // 포지션 값이 없을 경우 예외처리
+                if (myMainPosition==NO_POSITION || mySubPosition==NO_POSITION || myWantPosition==NO_POSITION) {
+                    throw new MatchingHandler(ErrorStatus.POSITION_NOT_FOUND);
+                }
+
+                if (myWantPosition==otherMainPosition || myWantPosition==0 || otherMainPosition==0) {
+                    priority += 3;
+                } else if (myWantPosition==otherSubPosition || otherSubPosition==0) {
+                    priority += 2;
+                } else {
+                    priority += 1;
+                }
+
+                if (otherWantPosition==myMainPosition || otherWantPosition==0 || myMainPosition==0) {
+                    priority += 3;
+                } else if (otherWantPosition==mySubPosition || mySubPosition==0) {
+                    priority += 2;
+                } else {
+                    priority += 1;
+                }
+            }
+        }
+
+        // 랭킹 가중치
+        priority += getTierPriority(myTier, my.getRank(), otherTier, other.getRank());
+
+        //매너레벨 가중치
+        priority += getMannerPriority(my.getMannerLevel(), other.getMannerLevel());
+
+        return Math.max(priority, 0); // 우선순위가 0보다 작아지지 않도록 조정
+    }
+
+    /**
+     * 게임 모드별 티어 조건에 따라 우선순위가 0이 아닐 수 있는 상대 티어 ordinal 범위 계산 (calculatePriority의 티어 예외조건과 동일)
+     *
+     * @param my
+     * @return {최소 티어 ordinal, 최대 티어 ordinal}, 매칭 가능한 티어가 없는 경우 null
+     */
+    public static int[] getCompatibleTierRange(MatchingPoolEntry my) {
+        int myTier = my.getTierOrdinal();
+
+        // 개인 랭크: 티어 차이 1 이하, 마스터 이상은 게임 불가능
+        if (my.getGameMode()==2) {
+            if (myTier >= DIAMOND_OR_ABOVE_ORDINAL) {
+                return null;
+            }
+            return new int[]{myTier - 1, Math.min(myTier + 1, DIAMOND_OR_ABOVE_ORDINAL - 1)};
+        }
+
+        // 자유 랭크: 마스터 이상 플레이어와 골드 이하 플레이어는 매칭 X
+        if (my.getGameMode()==3) {
+            if (myTier >= DIAMOND_OR_ABOVE_ORDINAL) {
+                return new int[]{SILVER_OR_BELOW_ORDINAL + 1, MatchingPool.MAX_TIER_ORDINAL};
+            }
+            if (myTier <= SILVER_OR_BELOW_ORDINAL) {
+                return new int[]{MatchingPool.MIN_TIER_ORDINAL, DIAMOND_OR_ABOVE_ORDINAL - 1};
+            }
+        }
+
+        return new int[]{MatchingPool.MIN_TIER_ORDINAL, MatchingPool.MAX_TIER_ORDINAL};
+    }
+
+    /**
+     * <매너레벨 가중치> 최대 가중치 12 , 최소 가중치 0 (매너레벨 5, 매너레벨 1 -> (5-1)*3 = 4*3 = 12)
+     */
+    private static int getMannerPriority(int myManner, int otherManner) {
+        return 12 - Math.abs(myManner - otherManner) * 3;
+    }
+
+    /**
+     * <랭킹 가중치> 최대 가중치 40, 최소 가중치 1 (챌린저 1 - 아이언 4 = (9*4+(4-1)) - (0*4)+(4-4) = 39) 티어 차이가 너무 심해서
+     * 사실상 30점 밑일 경우 매칭 안되는게 더 좋음
+     */
+    private static int getTierPriority(int myTier, int myRank, int otherTier, int otherRank) {
+        return 40 - Math.abs(getTierRankScore(myTier, myRank) - getTierRankScore(otherTier, otherRank));
+    }
+
+    /**
+     * 티어, 랭크 계산
+     * <p>
+     * 모든 티어는 1~4의 랭크가 있음 ex) 골드 4 : 4*4 + (4-4) = 16, 골드 3 : 4*4 + (4-3) = 17, 실버 1 : 3*4 + (4-1) = 15
+     */
+    private static int getTierRankScore(int tierOrdinal, int rank) {
+        return tierOrdinal * 4 + (4 - rank);
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.gamegoo.service.matching;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 새로운 대기 매칭 요청이 매칭 풀에 등록되었을 때 발행되는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class MatchingRequestedEvent {
+
+    private final MatchingPoolEntry entry;
+
+}
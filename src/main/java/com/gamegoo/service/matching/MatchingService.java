@@ -3,29 +3,42 @@ package com.gamegoo.service.matching;
 import com.gamegoo.apiPayload.code.status.ErrorStatus;
 import com.gamegoo.apiPayload.exception.handler.MatchingHandler;
 import com.gamegoo.apiPayload.exception.handler.MemberHandler;
+import com.gamegoo.domain.matching.LatestMatchingRecord;
 import com.gamegoo.domain.matching.MatchingRecord;
 import com.gamegoo.domain.matching.MatchingStatus;
 import com.gamegoo.domain.matching.MatchingType;
 import com.gamegoo.domain.member.Member;
-import com.gamegoo.domain.member.Tier;
 import com.gamegoo.dto.matching.MatchingRequest;
 import com.gamegoo.dto.matching.MatchingResponse;
+import com.gamegoo.dto.matching.MatchingProposal;
 import com.gamegoo.dto.matching.MatchingResponse.matchingRequestResponseDTO;
 import com.gamegoo.dto.matching.MemberPriority;
+import com.gamegoo.repository.matching.LatestMatchingRecordRepository;
 import com.gamegoo.repository.matching.MatchingRecordRepository;
 import com.gamegoo.repository.member.BlockRepository;
 import com.gamegoo.repository.member.MemberRepository;
 import com.gamegoo.service.member.ProfileService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import javax.transaction.Transactional;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -34,289 +47,130 @@ public class MatchingService {
 
     private final MemberRepository memberRepository;
     private final MatchingRecordRepository matchingRecordRepository;
+    private final LatestMatchingRecordRepository latestMatchingRecordRepository;
     private final BlockRepository blockRepository;
     private final ProfileService profileService;
+    private final MatchingPool matchingPool;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 우선순위 리스트에 담을 최대 후보 수, 두 리스트는 양방향 우선순위 중 큰 값 기준 상위 후보로 같은 회원을 담음
+    private static final int PRIORITY_LIST_SIZE = 50;
+    private static final Comparator<MemberPriority> PRIORITY_LIST_COMPARATOR =
+            Comparator.comparingInt(MemberPriority::getPriorityValue);
+    private static final Comparator<CandidatePriority> CANDIDATE_COMPARATOR =
+            Comparator.comparingInt(CandidatePriority::maxPriority);
 
     /**
-     * 우선순위 계산
+     * 우선순위 계산: 매칭 풀의 대기 중인 매칭 요청을 대상으로 계산
      *
      * @param request
      * @param id
      * @throws MemberHandler
      */
     // 우선순위 계산
+    @Timed(value = "gamegoo.service", histogram = true)
     public Map<String, List<MemberPriority>> calculatePriorityList(
             MatchingRequest.InitializingMatchingRequestDTO request, Long id) {
-        LocalDateTime fiveMinutesAgo = LocalDateTime.now().minusMinutes(5);
-        log.info("Fetching matching records from the past 5 minutes");
-
-        List<MatchingRecord> matchingRecords =
-                matchingRecordRepository.findTopByCreatedAtAfterAndStatusAndGameModeGroupByMemberId(fiveMinutesAgo,
-                        MatchingStatus.PENDING, request.getGameMode());
-
         Member member = profileService.findMember(id);
 
-        MatchingRecord myMatchingRecord = MatchingRecord.builder()
-                .member(member)
+        MatchingPoolEntry myMatchingEntry = MatchingPoolEntry.builder()
+                .memberId(member.getId())
                 .mike(request.getMike())
                 .rank(member.getRank())
                 .tier(member.getTier())
-                .winRate(member.getWinRate())
-                .status(MatchingStatus.PENDING)
                 .matchingType(MatchingType.valueOf(request.getMatchingType()))
                 .mainPosition(request.getMainP())
                 .subPosition(request.getSubP())
                 .wantPosition(request.getWantP())
                 .mannerLevel(member.getMannerLevel())
                 .gameMode(request.getGameMode())
-                .targetMember(null)
                 .build();
 
-        log.debug("MatchingRecord details: memberId: {}, mike: {}, rank: {}, tier: {}, winRate: {}, status: {}, " +
-                        "matchingType: {}, mainPosition: {}, subPosition: {}, wantPosition: {}, mannerLevel: {}, " +
-                        "gameMode: {}, targetMember: {}",
-                myMatchingRecord.getMember().getId(),
-                myMatchingRecord.getMike(),
-                myMatchingRecord.getRank(),
-                myMatchingRecord.getTier(),
-                myMatchingRecord.getWinRate(),
-                myMatchingRecord.getStatus(),
-                myMatchingRecord.getMatchingType(),
-                myMatchingRecord.getMainPosition(),
-                myMatchingRecord.getSubPosition(),
-                myMatchingRecord.getWantPosition(),
-                myMatchingRecord.getMannerLevel(),
-                myMatchingRecord.getGameMode(),
-                myMatchingRecord.getTargetMember());
-
-        // 우선순위 리스트 초기화
-        List<MemberPriority> myPriorityList = new ArrayList<>();
-        List<MemberPriority> otherPriorityList = new ArrayList<>();
-
-        for (MatchingRecord record : matchingRecords) {
-            Long otherMemberId = record.getMember().getId();
-            log.debug("Evaluating matching record for otherMemberId: {}", otherMemberId);
-            if (blockRepository.existsByBlockerMemberAndBlockedMember(member, record.getMember())) {
-                log.debug("Skipping blocked member: otherMemberId: {}", otherMemberId);
-                continue;
-            }
-            if (!id.equals(otherMemberId)) {
-                int otherPriority = calculatePriority(myMatchingRecord, record);
-                myPriorityList.add(new MemberPriority(otherMemberId, otherPriority));
-                log.info("Added to myPriorityList: otherMemberId: {}, priority: {}", otherMemberId, otherPriority);
-
-                int myPriority = calculatePriority(record, myMatchingRecord);
-                otherPriorityList.add(new MemberPriority(record.getMember().getId(), myPriority));
-                log.info("Added to otherPriorityList: myMemberId: {}, priority: {}", record.getMember().getId(),
-                        myPriority);
-            }
-        }
-
-        // 두 리스트를 Map으로 반환
-        Map<String, List<MemberPriority>> priorityLists = new HashMap<>();
-        priorityLists.put("myPriorityList", myPriorityList);
-        priorityLists.put("otherPriorityList", otherPriorityList);
-        log.info("Priority calculation completed for memberId: {}", id);
-
-        return priorityLists;
-    }
-
-
-    /**
-     * 우선순위 계산
-     *
-     * @param myMatchingRecord
-     * @param otherMatchingRecord
-     * @return
-     */
-    private int calculatePriority(MatchingRecord myMatchingRecord, MatchingRecord otherMatchingRecord) {
-        int priority = 0;
-
-        Integer myRank = myMatchingRecord.getRank();
-        Tier myTier = myMatchingRecord.getTier();
-        Integer myManner = myMatchingRecord.getMannerLevel();
-        Integer myMainPosition = myMatchingRecord.getMainPosition();
-        Integer mySubPosition = myMatchingRecord.getSubPosition();
-        Integer myWantPosition = myMatchingRecord.getWantPosition();
-        Integer gameMode = myMatchingRecord.getGameMode();
-        MatchingType myMatchingType = myMatchingRecord.getMatchingType();
-        Boolean myMike = myMatchingRecord.getMike();
-
-        Integer otherRank = otherMatchingRecord.getMember().getRank();
-        Tier otherTier = otherMatchingRecord.getMember().getTier();
-        Integer otherMainPosition = otherMatchingRecord.getMainPosition();
-        Integer otherSubPosition = otherMatchingRecord.getSubPosition();
-        Integer otherWantPosition = otherMatchingRecord.getWantPosition();
-        Boolean otherMike = otherMatchingRecord.getMike();
-        Integer otherManner = otherMatchingRecord.getMannerLevel();
-        Integer otherGameMode = otherMatchingRecord.getGameMode();
-
-        // 게임 모드가 다를 경우 X (find로 한 번 걸렀지만 혹시 모르기때문에 예외처리)
-        if (!gameMode.equals(otherGameMode)) {
-            return 0;
-        }
+        log.debug("MatchingPoolEntry details: memberId: {}, mike: {}, rank: {}, tier: {}, precise: {}, " +
+                        "mainPosition: {}, subPosition: {}, wantPosition: {}, mannerLevel: {}, gameMode: {}",
+                myMatchingEntry.getMemberId(),
+                myMatchingEntry.isMike(),
+                myMatchingEntry.getRank(),
+                myMatchingEntry.getTierOrdinal(),
+                myMatchingEntry.isPrecise(),
+                myMatchingEntry.getMainPosition(),
+                myMatchingEntry.getSubPosition(),
+                myMatchingEntry.getWantPosition(),
+                myMatchingEntry.getMannerLevel(),
+                myMatchingEntry.getGameMode());
+
+        // 티어, 주/부 포지션 조합 조건에 따라 양방향 모두 우선순위가 0일 수밖에 없는 버킷은 제외하고 조회
+        int[] tierRange = MatchingPriorityCalculator.getCompatibleTierRange(myMatchingEntry);
+        List<MatchingPoolEntry> candidates = tierRange==null
+                ? List.of()
+                : matchingPool.getCandidates(request.getGameMode(), tierRange[0], tierRange[1],
+                        request.getMainP(), request.getSubP());
+        log.info("Fetched {} candidate entries from matching pool, gameMode: {}", candidates.size(),
+                request.getGameMode());
 
-        // 주/부 포지션 조합이 같을 경우 X
-        // 겹치는게 둘 중 하나라도 0일 경우는 X
-        if ((otherMainPosition.equals(myMainPosition) && otherSubPosition.equals(mySubPosition)
-                && !(otherMainPosition.equals(0) || otherSubPosition.equals(0)))
-                || (otherMainPosition.equals(mySubPosition) && otherSubPosition.equals(myMainPosition)
-                && !(otherMainPosition.equals(0) || otherSubPosition.equals(0)))) {
-            return 0;
-        }
+        // 내가 차단했거나 나를 차단한 회원 id 목록을 한 번에 조회
+        long[] blockRelatedMemberIds = blockRepository.findBlockRelatedMemberIds(id).stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
 
-        // 개인 랭크 예외조건
-        if (gameMode==2) {
-            // 티어 차이가 1개 이상 나면 X
-            if (Math.abs(myTier.ordinal() - otherTier.ordinal()) > 1) {
-                return 0;
-            }
+        // 양방향 우선순위 중 큰 값이 높은 상위 PRIORITY_LIST_SIZE 명만 유지하는 min heap
+        PriorityQueue<CandidatePriority> candidateHeap = new PriorityQueue<>(CANDIDATE_COMPARATOR);
 
-            // 마스터 이상은 게임 불가능
-            if (myTier.ordinal() >= 7 || otherTier.ordinal() >= 7) {
-                return 0;
-            }
-        }
-
-        // 자유랭크 예외조건
-        if (gameMode==3) {
-            // 마스터 이상 플레이어는 골드 이하의 플레이어와 매칭 X
-            if (myTier.ordinal() >= 7 && otherTier.ordinal() <= 3) {
-                return 0;
-            }
-            if (otherTier.ordinal() >= 7 && myTier.ordinal() <= 3) {
-                return 0;
+        for (MatchingPoolEntry entry : candidates) {
+            long otherMemberId = entry.getMemberId();
+            log.debug("Evaluating matching entry for otherMemberId: {}", otherMemberId);
+            if (id==otherMemberId) {
+                continue;
             }
-        }
 
-        /**
-         * <정밀매칭>
-         * 차이가 적을수록 높은 우선순위를 갖도록 함
-         *
-         * 우선순위 : 1. 매너레벨 2. 랭크
-         * 조건
-         *      1. 마이크는 무조건 맞아야함
-         *      2. 내가 원하는 포지션이 상대 포지션이어야함
-         *      3. 티어 차이가 1개 이상 나면 X
-         *
-         * Ex) 랭크 : 36, 매너레벨 : 16 (52) vs 랭크 : 40, 매너레벨 : 12 (52)
-         *        => (랭크가 4 이상 차이나야 매너레벨 1단계 다른 것과 같은 가중치를 가짐)
-         *        => (골드 1과 실버 4는 랭크가 7 차이남)
-         *
-         */
-        if (myMatchingType.equals(MatchingType.PRECISE)) {
-            // 마이크가 다를 경우 우선순위 0
-            if (!otherMike.equals(myMike)) {
-                return 0;
+            int otherPriority = MatchingPriorityCalculator.calculatePriority(myMatchingEntry, entry);
+            int myPriority = MatchingPriorityCalculator.calculatePriority(entry, myMatchingEntry);
+            if (otherPriority==0 && myPriority==0) {
+                continue;
             }
 
-            // 내가 원하는 포지션이 상대 포지션이 아닐 경우 return 0
-            if (!otherMainPosition.equals(myWantPosition) && !otherSubPosition.equals(myWantPosition)) {
-                return 0;
+            if (Arrays.binarySearch(blockRelatedMemberIds, otherMemberId) >= 0) {
+                log.debug("Skipping blocked member: otherMemberId: {}", otherMemberId);
+                continue;
             }
 
-            // 티어 차이가 1개 이상 나면 X
-            if (Math.abs(myTier.ordinal() - otherTier.ordinal()) > 1) {
-                return 0;
-            }
+            offerTopCandidate(candidateHeap, new CandidatePriority(otherMemberId, otherPriority, myPriority));
+            log.debug("Evaluated otherMemberId: {}, myPriorityList priority: {}, otherPriorityList priority: {}",
+                    otherMemberId, otherPriority, myPriority);
         }
 
-        /**
-         * <겜구매칭>
-         * 차이가 적을수록 높은 우선순위를 갖도록 함
-         *
-         * 우선순위 : 1. 매너레벨 2. 랭크, 마이크, 포지션 (개인랭크의 경우 랭크를 더 우선)
-         */
-        if (myMatchingType.equals(MatchingType.BASIC)) {
-            // 마이크 가중치
-            if (otherMike.equals(myMike)) {
-                // 개인 랭크일 경우 랭크가 맞는게 더 중요함
-                if (gameMode==2) {
-                    priority += 2;
-                }
-                priority += 3;
-            }
-
-            // 포지션 가중치
-            // 칼바람 : 포지션 선택 제외하기 -> 포지션 점수 기본값으로 주고 시작하기
-            if (gameMode==4) {
-                priority += 6;
-            } else {
-                // 포지션 값이 Null일 경우 예외처리
-                if (myMainPosition==null || mySubPosition==null || myWantPosition==null) {
-                    throw new MatchingHandler(ErrorStatus.POSITION_NOT_FOUND);
-                }
-
-                if (myWantPosition.equals(otherMainPosition) || myWantPosition.equals(0) || otherMainPosition.equals(0)) {
-                    priority += 3;
-                } else if (myWantPosition.equals(otherSubPosition) || otherSubPosition.equals(0)) {
-                    priority += 2;
-                } else {
-                    priority += 1;
-                }
-
-                if (otherWantPosition.equals(myMainPosition) || otherWantPosition.equals(0) || myMainPosition.equals(0)) {
-                    priority += 3;
-                } else if (otherWantPosition.equals(mySubPosition) || mySubPosition.equals(0)) {
-                    priority += 2;
-                } else {
-                    priority += 1;
-                }
-            }
+        // 같은 후보 회원에 대한 양방향 우선순위를 두 리스트로 나눠 Map으로 반환 (한 방향 우선순위가 0인 후보도 포함)
+        List<MemberPriority> myPriorityList = new ArrayList<>();
+        List<MemberPriority> otherPriorityList = new ArrayList<>();
+        for (CandidatePriority candidate : candidateHeap) {
+            myPriorityList.add(new MemberPriority(candidate.memberId(), candidate.myPriority()));
+            otherPriorityList.add(new MemberPriority(candidate.memberId(), candidate.otherPriority()));
         }
+        myPriorityList.sort(PRIORITY_LIST_COMPARATOR.reversed());
+        otherPriorityList.sort(PRIORITY_LIST_COMPARATOR.reversed());
 
-        // 랭킹 가중치
-        priority += getTierPriority(myTier, myRank, otherTier, otherRank);
-
-        //매너레벨 가중치
-        priority += getMannerPriority(otherManner, myManner);
-
-        return Math.max(priority, 0); // 우선순위가 0보다 작아지지 않도록 조정
-    }
-
-    /**
-     * <매너레벨 가중치> 최대 가중치 12 , 최소 가중치 0 (매너레벨 5, 매너레벨 1 -> (5-1)*3 = 4*3 = 12)
-     */
-    private int getMannerPriority(Integer otherManner, Integer myManner) {
-        int priority = 0;
-        int mannerDifference = Math.abs(myManner - otherManner);
-        priority += 12 - mannerDifference * 3;
-        return priority;
-    }
-
-    /**
-     * <랭킹 가중치> 최대 가중치 40, 최소 가중치 1 (챌린저 1 - 아이언 4 = (9*4+(4-1)) - (0*4)+(4-4) = 39) 티어 차이가 너무 심해서
-     * 사실상 30점 밑일 경우 매칭 안되는게 더 좋음
-     *
-     * @param myTier
-     * @param myRank
-     * @param otherTier
-     * @param otherRank
-     * @return 랭킹 우선순위 값
-     */
-    private int getTierPriority(Tier myTier, Integer myRank, Tier otherTier, Integer otherRank) {
-        int priority = 0;
-
-        // priority 값 계산 : 랭크
-        int myScore = getTierRankScore(myTier, myRank);
-        int otherScore = getTierRankScore(otherTier, otherRank);
-        int scoreDifference = Math.abs(myScore - otherScore);
+        Map<String, List<MemberPriority>> priorityLists = new HashMap<>();
+        priorityLists.put("myPriorityList", myPriorityList);
+        priorityLists.put("otherPriorityList", otherPriorityList);
+        log.info("Priority calculation completed for memberId: {}", id);
 
-        priority += 40 - scoreDifference;
-        return priority;
+        return priorityLists;
     }
 
     /**
-     * 티어, 랭크 계산
+     * 상위 PRIORITY_LIST_SIZE 명의 후보만 유지하도록 heap에 추가
      *
-     * @param tier
-     * @param rank
-     * @return 랭킹 점수
+     * @param heap
+     * @param candidate
      */
-    private int getTierRankScore(Tier tier, int rank) {
-        // 모든 티어는 1~4의 랭크가 있음
-        // ex) 골드 4 : 4*4 + (4-4) = 16, 골드 3 : 4*4 + (4-3) = 17, 실버 1 : 3*4 + (4-1) = 15
-        return tier.ordinal() * 4 + (4 - rank);
+    private void offerTopCandidate(PriorityQueue<CandidatePriority> heap, CandidatePriority candidate) {
+        if (heap.size() < PRIORITY_LIST_SIZE) {
+            heap.offer(candidate);
+        } else if (heap.peek().maxPriority() < candidate.maxPriority()) {
+            heap.poll();
+            heap.offer(candidate);
+        }
     }
 
     /**
@@ -362,9 +216,14 @@ public class MatchingService {
         log.debug("Game styles added for member, memberId: {}", member.getId());
 
         matchingRecordRepository.save(matchingRecord);
+        updateLatestMatchingRecord(matchingRecord);
         log.info("Matching record saved successfully for memberId: {}, gameMode: {}", member.getId(),
                 request.getGameMode());
 
+        // 매칭 풀에 대기 요청 등록, 매치메이커는 풀 등록 이후 커밋 이벤트를 받음
+        syncMatchingPool(matchingRecord);
+        eventPublisher.publishEvent(new MatchingRequestedEvent(MatchingPoolEntry.from(matchingRecord)));
+
         memberRepository.save(member);
         log.info("Member record updated successfully for memberId: {}", member.getId());
     }
@@ -381,19 +240,20 @@ public class MatchingService {
         Member member = profileService.findMember(id);
 
         // 매칭 기록 불러오기
-        MatchingRecord matchingRecord =
-                matchingRecordRepository.findFirstByMemberAndGameModeOrderByUpdatedAtDesc(member, request.getGameMode())
-                        .orElseThrow(() -> new MatchingHandler(ErrorStatus.MATCHING_NOT_FOUND));
+        MatchingRecord matchingRecord = findLatestMatchingRecord(member, request.getGameMode());
         if (matchingRecord.getStatus().equals(MatchingStatus.PENDING) || matchingRecord.getStatus().equals(MatchingStatus.FOUND)) {
+            MatchingStatus status;
             try {
-                MatchingStatus status = MatchingStatus.valueOf(request.getStatus().toUpperCase());
-                // status 값 변경
-                matchingRecord.updateStatus(status);
-                matchingRecordRepository.save(matchingRecord);
+                status = MatchingStatus.valueOf(request.getStatus().toUpperCase());
             } catch (IllegalArgumentException e) {
                 // status 값이 이상할 경우 에러처리
                 throw new MatchingHandler(ErrorStatus.MATCHING_STATUS_BAD_REQUEST);
             }
+
+            // status 값 변경, 상대 회원은 그대로 유지
+            transitStatus(matchingRecord, status, matchingRecord.getTargetMember());
+            flushMatchingRecords(matchingRecord);
+            syncMatchingPool(matchingRecord);
         }
     }
 
@@ -420,21 +280,20 @@ public class MatchingService {
         Member targetMember = profileService.findMember(targetMemberId);
 
         // member의 매칭 기록 상태 변경
-        MatchingRecord matchingRecord =
-                matchingRecordRepository.findFirstByMemberAndGameModeOrderByUpdatedAtDesc(member, request.getGameMode())
-                        .orElseThrow(() -> new MatchingHandler(ErrorStatus.MATCHING_NOT_FOUND));
+        MatchingRecord matchingRecord = findLatestMatchingRecord(member, request.getGameMode());
         if (matchingRecord.getStatus().equals(MatchingStatus.PENDING) || matchingRecord.getStatus().equals(MatchingStatus.FOUND)) {
-            matchingRecord.updateStatus(status);
+            transitStatus(matchingRecord, status, targetMember);
         }
 
         // targetMember의 매칭 기록 상태 변경
-        MatchingRecord targetMatchingRecord =
-                matchingRecordRepository.findFirstByMemberAndGameModeOrderByUpdatedAtDesc(targetMember,
-                                request.getGameMode())
-                        .orElseThrow(() -> new MatchingHandler(ErrorStatus.MATCHING_NOT_FOUND));
+        MatchingRecord targetMatchingRecord = findLatestMatchingRecord(targetMember, request.getGameMode());
         if (targetMatchingRecord.getStatus().equals(MatchingStatus.PENDING) || targetMatchingRecord.getStatus().equals(MatchingStatus.FOUND)) {
-            targetMatchingRecord.updateStatus(status);
+            transitStatus(targetMatchingRecord, status, member);
         }
+
+        flushMatchingRecords(matchingRecord, targetMatchingRecord);
+        syncMatchingPool(matchingRecord);
+        syncMatchingPool(targetMatchingRecord);
     }
 
     /**
@@ -449,16 +308,16 @@ public class MatchingService {
         Member targetMember = profileService.findMember(targetMemberId);
 
         // member의 매칭 기록 상태 변경
-        MatchingRecord matchingRecord =
-                matchingRecordRepository.findFirstByMemberAndGameModeOrderByUpdatedAtDesc(member, gameMode)
-                        .orElseThrow(() -> new MatchingHandler(ErrorStatus.MATCHING_NOT_FOUND));
-        matchingRecord.updateStatus(MatchingStatus.FOUND);
+        MatchingRecord matchingRecord = findLatestMatchingRecord(member, gameMode);
+        transitStatus(matchingRecord, MatchingStatus.FOUND, targetMember);
 
         // targetMember의 매칭 기록 상태 변경
-        MatchingRecord targetMatchingRecord =
-                matchingRecordRepository.findFirstByMemberAndGameModeOrderByUpdatedAtDesc(targetMember, gameMode)
-                        .orElseThrow(() -> new MatchingHandler(ErrorStatus.MATCHING_NOT_FOUND));
-        targetMatchingRecord.updateStatus(MatchingStatus.FOUND);
+        MatchingRecord targetMatchingRecord = findLatestMatchingRecord(targetMember, gameMode);
+        transitStatus(targetMatchingRecord, MatchingStatus.FOUND, member);
+
+        flushMatchingRecords(matchingRecord, targetMatchingRecord);
+        syncMatchingPool(matchingRecord);
+        syncMatchingPool(targetMatchingRecord);
 
         // response dto 생성
         MatchingResponse.matchingRequestResponseDTO myMatchingInfo = matchingRequestResponseDTO.builder()
@@ -512,22 +371,220 @@ public class MatchingService {
         Member targetMember = profileService.findMember(targetMemberId);
 
         // member의 매칭 기록 상태 변경
-        MatchingRecord matchingRecord = matchingRecordRepository
-                .findFirstByMemberAndGameModeOrderByUpdatedAtDesc(member, gameMode)
-                .orElseThrow(() -> new MatchingHandler(ErrorStatus.MATCHING_NOT_FOUND));
-        matchingRecord.updateStatus(MatchingStatus.SUCCESS);
-        matchingRecord.updateTargetMember(targetMember);
+        MatchingRecord matchingRecord = findLatestMatchingRecord(member, gameMode);
+        transitStatus(matchingRecord, MatchingStatus.SUCCESS, targetMember);
         matchingRecord.updateMannerMessageSent(false);
 
         // targetMember의 매칭 기록 상태 변경
-        MatchingRecord targetMatchingRecord = matchingRecordRepository
-                .findFirstByMemberAndGameModeOrderByUpdatedAtDesc(targetMember, gameMode)
-                .orElseThrow(() -> new MatchingHandler(ErrorStatus.MATCHING_NOT_FOUND));
-        targetMatchingRecord.updateStatus(MatchingStatus.SUCCESS);
-        targetMatchingRecord.updateTargetMember(member);
+        MatchingRecord targetMatchingRecord = findLatestMatchingRecord(targetMember, gameMode);
+        transitStatus(targetMatchingRecord, MatchingStatus.SUCCESS, member);
         targetMatchingRecord.updateMannerMessageSent(false);
+
+        flushMatchingRecords(matchingRecord, targetMatchingRecord);
+        syncMatchingPool(matchingRecord);
+        syncMatchingPool(targetMatchingRecord);
     }
 
-}
+    /**
+     * 매치메이커가 제안한 매칭 쌍들의 매칭 기록을 FOUND 상태로 변경. 두 매칭 기록이 모두 대기 상태인 쌍만 변경
+     *
+     * @param proposals
+     * @return FOUND 상태로 변경된 매칭 쌍 목록
+     */
+    @Transactional
+    public List<MatchingProposal> foundMatchings(List<MatchingProposal> proposals) {
+        List<MatchingProposal> foundProposals = new ArrayList<>();
+        List<MatchingRecord> foundRecords = new ArrayList<>();
+        for (MatchingProposal proposal : proposals) {
+            MatchingRecord matchingRecord = matchingRecordRepository.findById(proposal.getMatchingRecordId())
+                    .orElse(null);
+            MatchingRecord targetMatchingRecord = matchingRecordRepository
+                    .findById(proposal.getTargetMatchingRecordId())
+                    .orElse(null);
+            if (matchingRecord==null || targetMatchingRecord==null
+                    || !matchingRecord.getStatus().equals(MatchingStatus.PENDING)
+                    || !targetMatchingRecord.getStatus().equals(MatchingStatus.PENDING)) {
+                log.info("Skipping matching proposal, memberId: {}, targetMemberId: {}", proposal.getMemberId(),
+                        proposal.getTargetMemberId());
+                continue;
+            }
+
+            transitStatus(matchingRecord, MatchingStatus.FOUND, targetMatchingRecord.getMember());
+            transitStatus(targetMatchingRecord, MatchingStatus.FOUND, matchingRecord.getMember());
+            flushMatchingRecords(matchingRecord, targetMatchingRecord);
+            foundRecords.add(matchingRecord);
+            foundRecords.add(targetMatchingRecord);
+            foundProposals.add(proposal);
+        }
+
+        // 충돌로 라운드 전체가 롤백될 수 있으므로 커밋된 후에 매칭 풀 동기화
+        foundRecords.forEach(this::syncMatchingPool);
+        return foundProposals;
+    }
+
+    /**
+     * 소켓 서버에 전달하지 못한 매칭 쌍들의 매칭 기록을 다시 PENDING 상태로 변경
+     *
+     * @param proposals
+     * @return 다시 대기 상태가 된 매칭 풀 엔트리 목록
+     */
+    @Transactional
+    public List<MatchingPoolEntry> revertFoundMatchings(List<MatchingProposal> proposals) {
+        List<MatchingPoolEntry> revertedEntries = new ArrayList<>();
+        for (MatchingProposal proposal : proposals) {
+            matchingRecordRepository.findAllById(
+                            List.of(proposal.getMatchingRecordId(), proposal.getTargetMatchingRecordId()))
+                    .stream()
+                    .filter(matchingRecord -> matchingRecord.getStatus().equals(MatchingStatus.FOUND))
+                    .forEach(matchingRecord -> {
+                        transitStatus(matchingRecord, MatchingStatus.PENDING, null);
+                        syncMatchingPool(matchingRecord);
+                        revertedEntries.add(MatchingPoolEntry.from(matchingRecord));
+                    });
+        }
+        return revertedEntries;
+    }
+
+    /**
+     * 서버 시작 시 최근 5분 이내의 대기 중인 매칭 기록으로 매칭 풀 복구
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initMatchingPool() {
+        LocalDateTime expiredAt = LocalDateTime.now().minusMinutes(MatchingPool.EXPIRATION_MINUTES);
+
+        for (int gameMode = 1; gameMode <= 4; gameMode++) {
+            List<MatchingPoolEntry> entries = matchingRecordRepository
+                    .findTopByCreatedAtAfterAndStatusAndGameModeGroupByMemberId(expiredAt, MatchingStatus.PENDING,
+                            gameMode)
+                    .stream()
+                    .map(MatchingPoolEntry::from)
+                    .collect(Collectors.toList());
+
+            matchingPool.replace(gameMode, entries);
+            log.info("Matching pool initialized, gameMode: {}, size: {}", gameMode, entries.size());
+        }
+    }
+
+    /**
+     * 회원의 게임 모드별 최신 매칭 기록 조회. 최신 매칭 기록 포인터가 없는 기존 회원은 매칭 기록 전체에서 조회
+     *
+     * @param member
+     * @param gameMode
+     * @return
+     * @throws MatchingHandler 매칭 기록이 없는 경우
+     */
+    private MatchingRecord findLatestMatchingRecord(Member member, Integer gameMode) {
+        return latestMatchingRecordRepository.findMatchingRecordByMemberAndGameMode(member, gameMode)
+                .or(() -> matchingRecordRepository.findFirstByMemberAndGameModeOrderByUpdatedAtDesc(member, gameMode))
+                .orElseThrow(() -> new MatchingHandler(ErrorStatus.MATCHING_NOT_FOUND));
+    }
+
+    /**
+     * 회원의 게임 모드별 최신 매칭 기록 포인터를 새 매칭 기록으로 변경
+     *
+     * @param matchingRecord
+     */
+    private void updateLatestMatchingRecord(MatchingRecord matchingRecord) {
+        latestMatchingRecordRepository.findByMemberAndGameMode(matchingRecord.getMember(),
+                        matchingRecord.getGameMode())
+                .ifPresentOrElse(
+                        latestMatchingRecord -> latestMatchingRecord.updateMatchingRecord(matchingRecord),
+                        () -> latestMatchingRecordRepository.save(LatestMatchingRecord.builder()
+                                .member(matchingRecord.getMember())
+                                .gameMode(matchingRecord.getGameMode())
+                                .matchingRecord(matchingRecord)
+                                .build()));
+    }
 
+    /**
+     * 허용된 상태 전이인 경우에만 매칭 기록의 status와 상대 회원 변경
+     * 현재와 같은 status, 같은 상대 회원인 반복 요청은 변경하지 않음. 상대 회원이 다른 경우 이미 다른 회원과 매칭된 것이므로 충돌
+     *
+     * @param matchingRecord
+     * @param status
+     * @param targetMember 매칭된 상대 회원, PENDING으로 변경하는 경우 무시
+     * @throws MatchingHandler 현재 상태에서 변경할 수 없는 status이거나 이미 다른 회원과 매칭된 경우
+     */
+    private void transitStatus(MatchingRecord matchingRecord, MatchingStatus status, Member targetMember) {
+        // 대기 상태에서는 상대 회원이 없음
+        Member newTargetMember = status==MatchingStatus.PENDING ? null : targetMember;
+        if (matchingRecord.getStatus()==status && isSameMember(matchingRecord.getTargetMember(), newTargetMember)) {
+            return;
+        }
+        if (!matchingRecord.getStatus().canTransitionTo(status)) {
+            log.info("Matching status conflict, matchingId: {}, status: {} -> {}", matchingRecord.getId(),
+                    matchingRecord.getStatus(), status);
+            throw new MatchingHandler(ErrorStatus.MATCHING_STATUS_CONFLICT);
+        }
+        matchingRecord.updateStatus(status);
+        matchingRecord.updateTargetMember(newTargetMember);
+    }
 
+    private boolean isSameMember(Member member, Member otherMember) {
+        if (member==null || otherMember==null) {
+            return member==otherMember;
+        }
+        return member.getId().equals(otherMember.getId());
+    }
+
+    /**
+     * 변경된 매칭 기록을 즉시 DB에 반영. 다른 요청이 먼저 변경해 버전이 다른 경우 에러 처리
+     *
+     * @param matchingRecords
+     * @throws MatchingHandler 동시에 다른 요청이 매칭 기록을 변경한 경우
+     */
+    private void flushMatchingRecords(MatchingRecord... matchingRecords) {
+        try {
+            matchingRecordRepository.saveAllAndFlush(List.of(matchingRecords));
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.info("Matching record was modified concurrently: {}", e.getMessage());
+            throw new MatchingHandler(ErrorStatus.MATCHING_STATUS_CONFLICT);
+        }
+    }
+
+    /**
+     * 매칭 기록의 status에 따라 매칭 풀에 등록 또는 제거, 트랜잭션 안에서는 커밋된 경우에만 반영
+     * 롤백된 매칭 요청이나 상태 변경이 매칭 풀에 남아 매치메이커의 매칭 대상이 되지 않도록 함
+     *
+     * @param matchingRecord
+     */
+    private void syncMatchingPool(MatchingRecord matchingRecord) {
+        Runnable poolChange;
+        if (matchingRecord.getStatus().equals(MatchingStatus.PENDING)) {
+            MatchingPoolEntry entry = MatchingPoolEntry.from(matchingRecord);
+            poolChange = () -> matchingPool.add(entry);
+        } else {
+            Integer gameMode = matchingRecord.getGameMode();
+            Long memberId = matchingRecord.getMember().getId();
+            Long matchingRecordId = matchingRecord.getId();
+            poolChange = () -> matchingPool.remove(gameMode, memberId, matchingRecordId);
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    poolChange.run();
+                }
+            });
+        } else {
+            poolChange.run();
+        }
+    }
+
+    /**
+     * 후보 회원에 대한 양방향 우선순위
+     *
+     * @param memberId      후보 회원 id
+     * @param myPriority    내 입장에서 후보 회원의 우선순위 (myPriorityList)
+     * @param otherPriority 후보 회원 입장에서 나의 우선순위 (otherPriorityList)
+     */
+    private record CandidatePriority(long memberId, int myPriority, int otherPriority) {
+
+        int maxPriority() {
+            return Math.max(myPriority, otherPriority);
+        }
+    }
+
+}
@@ -0,0 +1,305 @@
+package com.gamegoo.service.matching;
+
+import com.gamegoo.apiPayload.exception.handler.MatchingHandler;
+import com.gamegoo.apiPayload.exception.handler.SocketHandler;
+import com.gamegoo.dto.matching.MatchingProposal;
+import com.gamegoo.repository.member.BlockRepository;
+import com.gamegoo.service.socket.SocketService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 서버 측 매치메이커. 매칭 쌍을 찾아 FOUND 상태로 변경하고, 소켓 서버에 한 번에 전달
+ * <ul>
+ *     <li>ARRIVAL: 새로 매칭 풀에 들어온 대기 요청마다 서로의 우선순위가 가장 높은 상대를 탐색</li>
+ *     <li>BATCH: 주기마다 gameMode 별 대기 풀 전체에서 서로가 최선인 쌍을 한 번에 계산 ({@link MutualBestMatcher})</li>
+ * </ul>
+ * matching.matchmaker.enabled=true 인 경우에만 동작하며, 기존 우선순위 리스트 API 기반 흐름은 그대로 유지됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "matching.matchmaker.enabled", havingValue = "true")
+public class Matchmaker {
+
+    private final MatchingPool matchingPool;
+    private final MatchingService matchingService;
+    private final BlockRepository blockRepository;
+    private final SocketService socketService;
+
+    private static final int[] GAME_MODES = {1, 2, 3, 4};
+
+    @Value("${matching.matchmaker.mode:ARRIVAL}")
+    private MatchmakerMode mode;
+
+    // 매칭 풀에 새로 들어온 대기 요청 (도착 순서)
+    private final Queue<MatchingPoolEntry> arrivals = new ConcurrentLinkedQueue<>();
+
+    public enum MatchmakerMode {
+        ARRIVAL, BATCH
+    }
+
+    /**
+     * 매칭 기록 저장 트랜잭션이 커밋된 후 대기 요청을 매치메이커 큐에 등록
+     *
+     * @param event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMatchingRequested(MatchingRequestedEvent event) {
+        if (mode==MatchmakerMode.ARRIVAL) {
+            arrivals.offer(event.getEntry());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${matching.matchmaker.interval:1000}")
+    public void run() {
+        runOnce();
+    }
+
+    /**
+     * 매칭 쌍을 제안하고, 제안된 쌍을 한 트랜잭션에서 FOUND로 변경한 뒤 소켓 서버에 일괄 전달
+     * FOUND로 변경하지 못했거나 소켓 서버에 전달하지 못한 대기 요청은 다음 라운드에 다시 매칭되도록 큐에 다시 등록
+     *
+     * @return FOUND 처리된 매칭 쌍 목록
+     */
+    public List<MatchingProposal> runOnce() {
+        List<MatchingPoolEntry> arrivedEntries = mode==MatchmakerMode.ARRIVAL ? drainArrivals() : List.of();
+        List<MatchingProposal> proposals = mode==MatchmakerMode.BATCH ? proposeBatch()
+                : proposeArrivals(arrivedEntries);
+        if (proposals.isEmpty()) {
+            return proposals;
+        }
+
+        List<MatchingProposal> foundProposals;
+        try {
+            foundProposals = matchingService.foundMatchings(proposals);
+        } catch (MatchingHandler e) {
+            // 다른 요청이 먼저 매칭 기록을 변경한 경우, 이번 라운드 전체를 롤백하고 다음 라운드에 다시 시도
+            log.info("Matchmaker round rolled back by concurrent status change");
+            requeue(arrivedEntries);
+            return List.of();
+        }
+        log.info("Matchmaker proposed {} pairs, {} pairs marked as FOUND", proposals.size(),
+                foundProposals.size());
+        requeueSkipped(arrivedEntries, proposals, foundProposals);
+        if (foundProposals.isEmpty()) {
+            return foundProposals;
+        }
+
+        try {
+            socketService.sendMatchingFound(foundProposals);
+        } catch (SocketHandler e) {
+            // 소켓 서버에 전달하지 못한 경우, 다시 매칭될 수 있도록 대기 상태로 복구
+            log.error("Failed to push matching proposals to socket server, reverting {} pairs",
+                    foundProposals.size());
+            requeue(matchingService.revertFoundMatchings(foundProposals));
+            return List.of();
+        }
+
+        return foundProposals;
+    }
+
+    /**
+     * gameMode 별 대기 풀 전체에서 서로가 최선인 매칭 쌍 계산
+     *
+     * @return
+     */
+    private List<MatchingProposal> proposeBatch() {
+        List<MatchingProposal> proposals = new ArrayList<>();
+        for (int gameMode : GAME_MODES) {
+            List<MatchingPoolEntry> entries = new ArrayList<>(matchingPool.getPendingEntries(gameMode));
+            if (entries.size() < 2) {
+                continue;
+            }
+            entries.sort(Comparator.comparing(MatchingPoolEntry::getCreatedAt));
+
+            List<MatchingProposal> gameModeProposals = MutualBestMatcher.match(entries,
+                    getBlockRelations(entries));
+            log.debug("Batch matching, gameMode: {}, pending: {}, pairs: {}", gameMode, entries.size(),
+                    gameModeProposals.size());
+            proposals.addAll(gameModeProposals);
+        }
+        return proposals;
+    }
+
+    /**
+     * 대기 엔트리 회원들 사이의 차단 관계를 양방향으로 조회
+     *
+     * @param entries
+     * @return
+     */
+    private Map<Long, Set<Long>> getBlockRelations(List<MatchingPoolEntry> entries) {
+        List<Long> memberIds = entries.stream()
+                .map(MatchingPoolEntry::getMemberId)
+                .toList();
+
+        Map<Long, Set<Long>> blockRelations = new HashMap<>();
+        for (Object[] relation : blockRepository.findBlockRelationsAmongMembers(memberIds)) {
+            Long blockerId = (Long) relation[0];
+            Long blockedId = (Long) relation[1];
+            blockRelations.computeIfAbsent(blockerId, key -> new HashSet<>()).add(blockedId);
+            blockRelations.computeIfAbsent(blockedId, key -> new HashSet<>()).add(blockerId);
+        }
+        return blockRelations;
+    }
+
+    /**
+     * 큐에 쌓인 대기 요청을 도착 순서대로 모두 꺼냄
+     *
+     * @return
+     */
+    private List<MatchingPoolEntry> drainArrivals() {
+        List<MatchingPoolEntry> entries = new ArrayList<>();
+        MatchingPoolEntry entry;
+        while ((entry = arrivals.poll())!=null) {
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    /**
+     * 대기 요청마다 매칭 쌍 제안
+     *
+     * @param arrivedEntries
+     * @return
+     */
+    private List<MatchingProposal> proposeArrivals(List<MatchingPoolEntry> arrivedEntries) {
+        // 이번 라운드에서 이미 제안된 회원은 다른 쌍의 후보에서 제외
+        Set<Long> proposedMemberIds = new HashSet<>();
+        List<MatchingProposal> proposals = new ArrayList<>();
+
+        for (MatchingPoolEntry entry : arrivedEntries) {
+            if (proposedMemberIds.contains(entry.getMemberId()) || !matchingPool.contains(entry)) {
+                continue;
+            }
+
+            findBestMutualCandidate(entry, proposedMemberIds).ifPresent(proposal -> {
+                proposals.add(proposal);
+                proposedMemberIds.add(proposal.getMemberId());
+                proposedMemberIds.add(proposal.getTargetMemberId());
+            });
+        }
+        return proposals;
+    }
+
+    /**
+     * 대기 요청을 다시 큐에 등록. 꺼낼 때 매칭 풀에 없는 요청은 건너뛰므로 이미 매칭되거나 취소된 요청은 무시됨
+     * BATCH 모드는 매 라운드 매칭 풀 전체를 다시 계산하므로 등록하지 않음
+     *
+     * @param entries
+     */
+    private void requeue(Collection<MatchingPoolEntry> entries) {
+        if (mode==MatchmakerMode.ARRIVAL) {
+            arrivals.addAll(entries);
+        }
+    }
+
+    /**
+     * 제안했지만 상대의 매칭 기록이 대기 상태가 아니어서 FOUND로 변경되지 않은 대기 요청을 다시 큐에 등록
+     *
+     * @param arrivedEntries
+     * @param proposals
+     * @param foundProposals
+     */
+    private void requeueSkipped(List<MatchingPoolEntry> arrivedEntries, List<MatchingProposal> proposals,
+                                List<MatchingProposal> foundProposals) {
+        if (arrivedEntries.isEmpty() || proposals.size()==foundProposals.size()) {
+            return;
+        }
+
+        Set<Long> skippedMemberIds = new HashSet<>();
+        proposals.stream()
+                .filter(proposal -> !foundProposals.contains(proposal))
+                .forEach(proposal -> {
+                    skippedMemberIds.add(proposal.getMemberId());
+                    skippedMemberIds.add(proposal.getTargetMemberId());
+                });
+        requeue(arrivedEntries.stream()
+                .filter(entry -> skippedMemberIds.contains(entry.getMemberId()))
+                .toList());
+    }
+
+    /**
+     * entry와 양방향 우선순위가 모두 0보다 크고, 그 중 작은 값이 가장 큰 상대 탐색
+     *
+     * @param entry
+     * @param excludedMemberIds
+     * @return
+     */
+    private Optional<MatchingProposal> findBestMutualCandidate(MatchingPoolEntry entry,
+                                                               Set<Long> excludedMemberIds) {
+        int[] tierRange = MatchingPriorityCalculator.getCompatibleTierRange(entry);
+        if (tierRange==null) {
+            return Optional.empty();
+        }
+
+        List<MatchingPoolEntry> candidates = matchingPool.getCandidates(entry.getGameMode(), tierRange[0],
+                tierRange[1], entry.getMainPosition(), entry.getSubPosition());
+        long[] blockRelatedMemberIds = blockRepository.findBlockRelatedMemberIds(entry.getMemberId()).stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
+
+        MatchingPoolEntry bestCandidate = null;
+        int bestMutualPriority = 0;
+        int bestPrioritySum = 0;
+        for (MatchingPoolEntry candidate : candidates) {
+            if (candidate.getMemberId()==entry.getMemberId()
+                    || excludedMemberIds.contains(candidate.getMemberId())
+                    || Arrays.binarySearch(blockRelatedMemberIds, candidate.getMemberId()) >= 0) {
+                continue;
+            }
+
+            int priority;
+            int targetPriority;
+            try {
+                priority = MatchingPriorityCalculator.calculatePriority(entry, candidate);
+                targetPriority = MatchingPriorityCalculator.calculatePriority(candidate, entry);
+            } catch (MatchingHandler e) {
+                // 포지션 값이 없는 요청은 매치메이커 대상에서 제외
+                continue;
+            }
+
+            int mutualPriority = Math.min(priority, targetPriority);
+            int prioritySum = priority + targetPriority;
+            if (mutualPriority > bestMutualPriority
+                    || (mutualPriority==bestMutualPriority && mutualPriority > 0 && prioritySum > bestPrioritySum)) {
+                bestCandidate = candidate;
+                bestMutualPriority = mutualPriority;
+                bestPrioritySum = prioritySum;
+            }
+        }
+
+        if (bestCandidate==null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(MatchingProposal.builder()
+                .gameMode(entry.getGameMode())
+                .memberId(entry.getMemberId())
+                .matchingRecordId(entry.getMatchingRecordId())
+                .targetMemberId(bestCandidate.getMemberId())
+                .targetMatchingRecordId(bestCandidate.getMatchingRecordId())
+                .priorityValue(bestMutualPriority)
+                .build());
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.gamegoo.service.matching;
+
+import com.gamegoo.apiPayload.exception.handler.MatchingHandler;
+import com.gamegoo.dto.matching.MatchingProposal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 대기 엔트리 전체를 대상으로 서로가 서로의 최선인 매칭 쌍을 한 번에 계산
+ * <p>
+ * 두 엔트리 사이의 점수는 양방향 우선순위 중 작은 값이며 (둘 다 0보다 커야 함), 점수가 높은 쌍부터 두 회원 모두 아직 매칭되지 않은 경우에만 선택. 이렇게 선택된 쌍은 선택 시점에 서로의 최선
+ * 후보이므로, 상대가 겹쳐 경쟁하는 경우가 생기지 않음
+ */
+public class MutualBestMatcher {
+
+    /**
+     * 같은 gameMode의 대기 엔트리 목록에서 매칭 쌍 계산
+     *
+     * @param entries        같은 gameMode의 대기 엔트리 목록
+     * @param blockRelations memberId -> 차단 관계(양방향)인 memberId 목록
+     * @return 선택된 매칭 쌍 목록, 점수가 높은 순
+     */
+    public static List<MatchingProposal> match(List<MatchingPoolEntry> entries, Map<Long, Set<Long>> blockRelations) {
+        // 티어 ordinal 별로 엔트리 인덱스 분류
+        List<List<Integer>> tierIndexes = new ArrayList<>();
+        for (int tier = MatchingPool.MIN_TIER_ORDINAL; tier <= MatchingPool.MAX_TIER_ORDINAL; tier++) {
+            tierIndexes.add(new ArrayList<>());
+        }
+        for (int i = 0; i < entries.size(); i++) {
+            tierIndexes.get(entries.get(i).getTierOrdinal()).add(i);
+        }
+
+        // 양방향 우선순위가 모두 0보다 큰 쌍 수집
+        List<long[]> edges = new ArrayList<>(); // {mutualPriority, prioritySum, i, j}
+        for (int i = 0; i < entries.size(); i++) {
+            MatchingPoolEntry entry = entries.get(i);
+            int[] tierRange = MatchingPriorityCalculator.getCompatibleTierRange(entry);
+            if (tierRange==null) {
+                continue;
+            }
+            Set<Long> blockedMemberIds = blockRelations.getOrDefault(entry.getMemberId(), Set.of());
+
+            for (int tier = Math.max(tierRange[0], MatchingPool.MIN_TIER_ORDINAL);
+                 tier <= Math.min(tierRange[1], MatchingPool.MAX_TIER_ORDINAL); tier++) {
+                for (int j : tierIndexes.get(tier)) {
+                    // 각 쌍은 한 번만 계산
+                    if (j <= i) {
+                        continue;
+                    }
+                    MatchingPoolEntry candidate = entries.get(j);
+                    if (candidate.getMemberId()==entry.getMemberId()
+                            || blockedMemberIds.contains(candidate.getMemberId())) {
+                        continue;
+                    }
+
+                    int priority;
+                    int targetPriority;
+                    try {
+                        priority = MatchingPriorityCalculator.calculatePriority(entry, candidate);
+                        targetPriority = MatchingPriorityCalculator.calculatePriority(candidate, entry);
+                    } catch (MatchingHandler e) {
+                        // 포지션 값이 없는 요청은 제외
+                        continue;
+                    }
+                    if (priority > 0 && targetPriority > 0) {
+                        edges.add(new long[]{Math.min(priority, targetPriority), priority + targetPriority, i, j});
+                    }
+                }
+            }
+        }
+
+        // 점수, 우선순위 합이 높은 순, 같으면 먼저 들어온 요청을 포함한 쌍 우선
+        edges.sort(Comparator.<long[]>comparingLong(edge -> -edge[0])
+                .thenComparingLong(edge -> -edge[1])
+                .thenComparingLong(edge -> Math.min(edge[2], edge[3]))
+                .thenComparingLong(edge -> Math.max(edge[2], edge[3])));
+
+        Set<Integer> matchedIndexes = new HashSet<>();
+        List<MatchingProposal> proposals = new ArrayList<>();
+        for (long[] edge : edges) {
+            int i = (int) edge[2];
+            int j = (int) edge[3];
+            if (matchedIndexes.contains(i) || matchedIndexes.contains(j)) {
+                continue;
+            }
+            matchedIndexes.add(i);
+            matchedIndexes.add(j);
+
+            MatchingPoolEntry entry = entries.get(i);
+            MatchingPoolEntry target = entries.get(j);
+            proposals.add(MatchingProposal.builder()
+                    .gameMode(entry.getGameMode())
+                    .memberId(entry.getMemberId())
+                    .matchingRecordId(entry.getMatchingRecordId())
+                    .targetMemberId(target.getMemberId())
+                    .targetMatchingRecordId(target.getMatchingRecordId())
+                    .priorityValue((int) edge[0])
+                    .build());
+        }
+        return proposals;
+    }
+
+}
@@ -18,6 +18,7 @@ import com.gamegoo.repository.friend.FriendRequestsRepository;
 import com.gamegoo.repository.member.GameStyleRepository;
 import com.gamegoo.repository.member.MemberGameStyleRepository;
 import com.gamegoo.repository.member.MemberRepository;
+import com.gamegoo.security.BlindMemberRegistry;
 import com.gamegoo.service.manner.MannerService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -42,6 +43,7 @@ public class ProfileService {
     private final BoardRepository boardRepository;
     private final MannerService mannerService;
     private final AuthService authService;
+    private final BlindMemberRegistry blindMemberRegistry;
 
     /**
      * MemberGameStyle 데이터 추가 : 회원에 따른 게임 스타일 정보 저장하기
@@ -141,6 +143,7 @@ public class ProfileService {
 
         // Blind 처리
         member.deactiveMember();
+        blindMemberRegistry.add(member.getId());
 
         // 해당 회원이 속한 모든 채팅방에서 퇴장 처리
         List<MemberChatroom> allActiveMemberChatroom = memberChatroomRepository
@@ -0,0 +1,170 @@
+package com.gamegoo.service.socket;
+
+import com.gamegoo.dto.socket.ChatroomJoinEvent;
+import com.gamegoo.dto.socket.SystemMessageEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 소켓 서버로 보낼 이벤트를 트랜잭션 안에서 기록하고, 커밋 이후 전용 스레드에서 전송
+ * socket.event.batch-enabled=true 인 경우 이벤트를 모아서 batch API로, 그렇지 않은 경우 이벤트마다 기존 API로 전송
+ * 소켓 서버 응답을 기다리는 동안 DB 커넥션을 점유하지 않으며, 전송에 실패해도 요청 트랜잭션은 롤백되지 않음
+ * 전송에 실패한 묶음은 backoff 간격을 두 배씩 늘려가며 max-attempts까지 재시도
+ */
+@Slf4j
+@Component
+public class SocketEventBus {
+
+    private final int batchSize;
+    private final Consumer<List<ChatroomJoinEvent>> joinSender;
+    private final Consumer<List<SystemMessageEvent>> systemMessageSender;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long lingerMillis;
+    private final ScheduledExecutorService executor;
+    private final Queue<ChatroomJoinEvent> joinEvents = new ConcurrentLinkedQueue<>();
+    private final Queue<SystemMessageEvent> systemMessageEvents = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean dispatchScheduled = new AtomicBoolean(false);
+
+    public SocketEventBus(SocketService socketService,
+                          @Value("${socket.event.batch-enabled:false}") boolean batchEnabled,
+                          @Value("${socket.event.batch-size:100}") int batchSize,
+                          @Value("${socket.event.max-attempts:5}") int maxAttempts,
+                          @Value("${socket.event.backoff:200}") long backoffMillis,
+                          @Value("${socket.event.linger:10}") long lingerMillis) {
+        if (batchEnabled) {
+            this.batchSize = batchSize;
+            this.joinSender = socketService::joinSocketsToChatrooms;
+            this.systemMessageSender = socketService::sendSystemMessages;
+        } else {
+            // batch API가 없는 소켓 서버를 위해 이벤트 1개씩 기존 API로 전송
+            this.batchSize = 1;
+            this.joinSender = events -> events.forEach(event ->
+                    socketService.joinSocketToChatroom(event.getMemberId(), event.getChatroomUuid()));
+            this.systemMessageSender = events -> events.forEach(event ->
+                    socketService.sendSystemMessage(event.getMemberId(), event.getChatroomUuid(),
+                            event.getContent(), event.getTimestamp()));
+        }
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.lingerMillis = lingerMillis;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "socket-event-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 해당 member의 socket을 chatroom에 join시키는 이벤트 기록, 트랜잭션 커밋 이후 전송
+     *
+     * @param memberId
+     * @param chatroomUuid
+     */
+    public void joinSocketToChatroom(Long memberId, String chatroomUuid) {
+        publish(() -> joinEvents.offer(new ChatroomJoinEvent(memberId, chatroomUuid)));
+    }
+
+    /**
+     * 시스템 메시지 전송 이벤트 기록, 트랜잭션 커밋 이후 전송
+     *
+     * @param memberId
+     * @param chatroomUuid
+     * @param content
+     * @param timestamp
+     */
+    public void sendSystemMessage(Long memberId, String chatroomUuid, String content, Long timestamp) {
+        publish(() -> systemMessageEvents.offer(new SystemMessageEvent(memberId, chatroomUuid, content, timestamp)));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.execute(this::dispatch);
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("Socket event dispatcher stopped with {} join, {} system message events pending",
+                    joinEvents.size(), systemMessageEvents.size());
+        }
+    }
+
+    /**
+     * 트랜잭션 안에서는 커밋된 경우에만 이벤트를 적재하고, 롤백된 경우 전송하지 않음
+     *
+     * @param enqueue
+     */
+    private void publish(Runnable enqueue) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue.run();
+                    scheduleDispatch();
+                }
+            });
+        } else {
+            enqueue.run();
+            scheduleDispatch();
+        }
+    }
+
+    // linger 동안 들어온 이벤트를 하나의 batch로 묶기 위해 dispatch는 한 번만 예약
+    private void scheduleDispatch() {
+        if (dispatchScheduled.compareAndSet(false, true)) {
+            executor.schedule(this::dispatch, lingerMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void dispatch() {
+        dispatchScheduled.set(false);
+        drain(joinEvents).forEach(batch -> send(batch, joinSender, 1));
+        drain(systemMessageEvents).forEach(batch -> send(batch, systemMessageSender, 1));
+    }
+
+    private <T> List<List<T>> drain(Queue<T> queue) {
+        List<List<T>> batches = new ArrayList<>();
+        List<T> batch = new ArrayList<>();
+        T event;
+        while ((event = queue.poll()) != null) {
+            batch.add(event);
+            if (batch.size() == batchSize) {
+                batches.add(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    private <T> void send(List<T> batch, Consumer<List<T>> sender, int attempt) {
+        try {
+            sender.accept(batch);
+        } catch (Exception e) {
+            if (attempt >= maxAttempts) {
+                log.error("Dropped {} socket events after {} attempts", batch.size(), attempt);
+                return;
+            }
+
+            long delay = backoffMillis << (attempt - 1);
+            log.warn("Failed to send {} socket events (attempt {}), retrying in {}ms", batch.size(), attempt,
+                    delay);
+            executor.schedule(() -> send(batch, sender, attempt + 1), delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+}
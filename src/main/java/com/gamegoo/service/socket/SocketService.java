@@ -2,16 +2,21 @@ package com.gamegoo.service.socket;
 
 import com.gamegoo.apiPayload.code.status.ErrorStatus;
 import com.gamegoo.apiPayload.exception.handler.SocketHandler;
+import com.gamegoo.dto.matching.MatchingProposal;
+import com.gamegoo.dto.socket.ChatroomJoinEvent;
+import com.gamegoo.dto.socket.SystemMessageEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -20,17 +25,19 @@ import java.util.Map;
 @Transactional
 public class SocketService {
 
-    private final RestTemplate restTemplate;
+    private final RestTemplate socketRestTemplate;
 
     @Value("${socket.server.url}")
     private String SOCKET_SERVER_URL;
 
     /**
      * SOCKET서버로 해당 member의 socket을 chatroom에 join시키는 API 전송
+     * 이벤트 전송 스레드에서 호출되므로 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행
      *
      * @param memberId
      * @param chatroomUuid
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void joinSocketToChatroom(Long memberId, String chatroomUuid) {
 
         String url = SOCKET_SERVER_URL + "/socket/room/join";
@@ -39,7 +46,7 @@ public class SocketService {
         requestBody.put("chatroomUuid", chatroomUuid);
 
         try {
-            ResponseEntity<String> response = restTemplate.postForEntity(url, requestBody, String.class);
+            ResponseEntity<String> response = socketRestTemplate.postForEntity(url, requestBody, String.class);
 
             log.info("response of joinSocketToChatroom: {}", response.getStatusCode().toString());
             if (!response.getStatusCode().equals(HttpStatus.OK)) {
@@ -54,6 +61,16 @@ public class SocketService {
         }
     }
 
+    /**
+     * SOCKET서버로 시스템 메시지 전송
+     * 이벤트 전송 스레드에서 호출되므로 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행
+     *
+     * @param memberId
+     * @param chatroomUuid
+     * @param content
+     * @param timestamp
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void sendSystemMessage(Long memberId, String chatroomUuid, String content, Long timestamp) {
         String url = SOCKET_SERVER_URL + "/socket/sysmessage";
         Map<String, Object> requestBody = new HashMap<>();
@@ -63,7 +80,7 @@ public class SocketService {
         requestBody.put("timestamp", timestamp);
 
         try {
-            ResponseEntity<String> response = restTemplate.postForEntity(url, requestBody, String.class);
+            ResponseEntity<String> response = socketRestTemplate.postForEntity(url, requestBody, String.class);
 
             log.info("response of joinSocketToChatroom: {}", response.getStatusCode().toString());
             if (!response.getStatusCode().equals(HttpStatus.OK)) {
@@ -78,4 +95,88 @@ public class SocketService {
         }
     }
 
+    /**
+     * SOCKET서버로 매치메이커가 FOUND 처리한 매칭 쌍 목록을 한 번에 전송
+     * 소켓 서버 응답을 기다리는 동안 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행
+     *
+     * @param proposals
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void sendMatchingFound(List<MatchingProposal> proposals) {
+        String url = SOCKET_SERVER_URL + "/socket/matching/found";
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("matchingList", proposals);
+
+        try {
+            ResponseEntity<String> response = socketRestTemplate.postForEntity(url, requestBody, String.class);
+
+            log.info("response of sendMatchingFound: {}", response.getStatusCode().toString());
+            if (!response.getStatusCode().equals(HttpStatus.OK)) {
+                log.error("sendMatchingFound API call FAIL: {}", response.getBody());
+                throw new SocketHandler(ErrorStatus.SOCKET_API_RESPONSE_ERROR);
+            } else {
+                log.info("sendMatchingFound API call SUCCESS: {}", response.getBody());
+            }
+        } catch (Exception e) {
+            log.error("Error occurred while sendMatchingFound method", e);
+            throw new SocketHandler(ErrorStatus.SOCKET_API_RESPONSE_ERROR);
+        }
+    }
+
+    /**
+     * SOCKET서버로 여러 회원의 socket을 각 chatroom에 join시키는 API를 한 번에 전송
+     * 이벤트 전송 스레드에서 호출되므로 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행
+     *
+     * @param joinList
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void joinSocketsToChatrooms(List<ChatroomJoinEvent> joinList) {
+        String url = SOCKET_SERVER_URL + "/socket/room/join/batch";
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("joinList", joinList);
+
+        try {
+            ResponseEntity<String> response = socketRestTemplate.postForEntity(url, requestBody, String.class);
+
+            log.info("response of joinSocketsToChatrooms: {}", response.getStatusCode().toString());
+            if (!response.getStatusCode().equals(HttpStatus.OK)) {
+                log.error("joinSocketsToChatrooms API call FAIL: {}", response.getBody());
+                throw new SocketHandler(ErrorStatus.SOCKET_API_RESPONSE_ERROR);
+            } else {
+                log.info("joinSocketsToChatrooms API call SUCCESS: {}", response.getBody());
+            }
+        } catch (Exception e) {
+            log.error("Error occurred while joinSocketsToChatrooms method", e);
+            throw new SocketHandler(ErrorStatus.SOCKET_API_RESPONSE_ERROR);
+        }
+    }
+
+    /**
+     * SOCKET서버로 여러 시스템 메시지를 한 번에 전송
+     * 이벤트 전송 스레드에서 호출되므로 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행
+     *
+     * @param messageList
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void sendSystemMessages(List<SystemMessageEvent> messageList) {
+        String url = SOCKET_SERVER_URL + "/socket/sysmessage/batch";
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("messageList", messageList);
+
+        try {
+            ResponseEntity<String> response = socketRestTemplate.postForEntity(url, requestBody, String.class);
+
+            log.info("response of sendSystemMessages: {}", response.getStatusCode().toString());
+            if (!response.getStatusCode().equals(HttpStatus.OK)) {
+                log.error("sendSystemMessages API call FAIL: {}", response.getBody());
+                throw new SocketHandler(ErrorStatus.SOCKET_API_RESPONSE_ERROR);
+            } else {
+                log.info("sendSystemMessages API call SUCCESS: {}", response.getBody());
+            }
+        } catch (Exception e) {
+            log.error("Error occurred while sendSystemMessages method", e);
+            throw new SocketHandler(ErrorStatus.SOCKET_API_RESPONSE_ERROR);
+        }
+    }
+
 }
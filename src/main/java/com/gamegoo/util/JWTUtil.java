@@ -1,7 +1,9 @@
 package com.gamegoo.util;
 
 import com.gamegoo.security.CustomUserDetails;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
@@ -10,24 +12,87 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
+import javax.servlet.http.HttpServletRequest;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Component
 public class JWTUtil {
 
+    // 한 요청 안에서 검증한 토큰을 LoggingFilter, JWTFilter가 공유하기 위한 request attribute
+    private static final String VERIFIED_TOKEN_ATTRIBUTE = JWTUtil.class.getName() + ".verifiedToken";
+
     private final SecretKey secretKey;
+    // 파서는 생성 이후 상태가 바뀌지 않으므로 여러 스레드에서 공유
+    private final JwtParser jwtParser;
+    // 최근 검증한 토큰의 hash -> 회원 id, 만료 시각. 최근에 사용하지 않은 토큰부터 제거 (LRU)
+    private final Map<String, VerifiedToken> verifiedTokenCache;
 
-    public JWTUtil(@Value("${spring.jwt.secret}") String secret) {
+    public JWTUtil(@Value("${spring.jwt.secret}") String secret,
+                   @Value("${spring.jwt.verified-cache.max-size:10000}") int verifiedCacheMaxSize) {
         secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8),
                 Jwts.SIG.HS256.key().build().getAlgorithm());
+        jwtParser = Jwts.parser().verifyWith(secretKey).build();
+        verifiedTokenCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                return size() > verifiedCacheMaxSize;
+            }
+        });
     }
 
+    /**
+     * 토큰 검증 후 회원 id 반환
+     * 최근에 검증한 토큰은 만료 시각 전까지 서명 검증 없이 캐시된 회원 id 반환
+     *
+     * @param token
+     * @return
+     */
     public Long getId(String token) {
         if (token == null || token.trim().isEmpty()) {
             throw new JwtException("Token null");
         }
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("id", Long.class);
+
+        String tokenHash = hash(token);
+        VerifiedToken verifiedToken = verifiedTokenCache.get(tokenHash);
+        if (verifiedToken != null) {
+            if (verifiedToken.expiration() > System.currentTimeMillis()) {
+                return verifiedToken.id();
+            }
+            // 만료된 토큰은 다시 파싱해서 ExpiredJwtException 발생
+            verifiedTokenCache.remove(tokenHash);
+        }
+
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        Long id = claims.get("id", Long.class);
+        if (claims.getExpiration() != null) {
+            verifiedTokenCache.put(tokenHash, new VerifiedToken(id, claims.getExpiration().getTime()));
+        }
+        return id;
+    }
+
+    /**
+     * 토큰 검증 후 회원 id 반환, 같은 요청에서 이미 검증한 토큰이면 검증 결과 재사용
+     *
+     * @param request
+     * @param token
+     * @return
+     */
+    public Long getId(HttpServletRequest request, String token) {
+        if (request.getAttribute(VERIFIED_TOKEN_ATTRIBUTE) instanceof RequestToken requestToken
+                && requestToken.token().equals(token)) {
+            return requestToken.id();
+        }
+
+        Long id = getId(token);
+        request.setAttribute(VERIFIED_TOKEN_ATTRIBUTE, new RequestToken(token, id));
+        return id;
     }
 
     public String createJwtWithId(Long id, Long expiredMs) {
@@ -62,4 +127,20 @@ public class JWTUtil {
         return null; // or throw an exception if user is not authenticated
     }
 
+    // 캐시에 토큰 원문 대신 SHA-256 hash를 key로 보관
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedToken(Long id, long expiration) {
+    }
+
+    private record RequestToken(String token, Long id) {
+    }
+
 }
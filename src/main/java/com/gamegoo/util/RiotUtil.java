@@ -7,6 +7,7 @@ import com.gamegoo.domain.member.Tier;
 import com.gamegoo.dto.member.RiotResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
@@ -49,7 +50,7 @@ public class RiotUtil {
     }
 
     @Autowired
-    public RiotUtil(RestTemplate restTemplate) {
+    public RiotUtil(@Qualifier("riotRestTemplate") RestTemplate restTemplate) {
         this.restTemplate = restTemplate;
     }
 
@@ -11,13 +11,19 @@ import com.gamegoo.domain.member.Member;
 import com.gamegoo.dto.chat.ChatRequest;
 import com.gamegoo.dto.chat.ChatRequest.ChatCreateRequest;
 import com.gamegoo.dto.chat.ChatRequest.SystemFlagRequest;
+import com.gamegoo.dto.chat.ChatResponse.ChatMessageDTO;
+import com.gamegoo.dto.chat.ChatResponse.ChatMessageListDTO;
 import com.gamegoo.dto.chat.ChatResponse.ChatroomEnterDTO;
+import com.gamegoo.dto.chat.ChatResponse.UnreadChatroomDTO;
 import com.gamegoo.repository.board.BoardRepository;
 import com.gamegoo.repository.chat.ChatRepository;
 import com.gamegoo.repository.chat.ChatroomRepository;
 import com.gamegoo.repository.chat.MemberChatroomRepository;
 import com.gamegoo.repository.member.MemberRepository;
 import com.gamegoo.service.chat.ChatCommandService;
+import com.gamegoo.service.chat.ChatQueryService;
+import com.gamegoo.service.chat.ChatroomMembership;
+import com.gamegoo.service.chat.ChatroomMembershipCache;
 import com.gamegoo.service.member.BlockService;
 import com.gamegoo.service.member.ProfileService;
 import com.gamegoo.service.socket.SocketService;
@@ -31,6 +37,7 @@ import org.junit.jupiter.api.TestMethodOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -42,8 +49,10 @@ import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -59,6 +68,12 @@ public class ChatServiceTest {
     @Autowired
     private ChatCommandService chatCommandService;
 
+    @Autowired
+    private ChatQueryService chatQueryService;
+
+    @Autowired
+    private ChatroomMembershipCache chatroomMembershipCache;
+
     @Autowired
     private BlockService blockService;
 
@@ -825,6 +840,8 @@ public class ChatServiceTest {
                 Chatroom newChatroom = Chatroom.builder()
                         .uuid(newUuid)
                         .startMember(null)
+                        .minMemberId(Math.min(member1.getId(), member2.getId()))
+                        .maxMemberId(Math.max(member1.getId(), member2.getId()))
                         .build();
 
                 Chatroom savedChatroom = chatroomRepository.save(newChatroom);
@@ -878,6 +895,8 @@ public class ChatServiceTest {
                 Chatroom newChatroom = Chatroom.builder()
                         .uuid(newUuid)
                         .startMember(null)
+                        .minMemberId(Math.min(member1.getId(), member2.getId()))
+                        .maxMemberId(Math.max(member1.getId(), member2.getId()))
                         .build();
 
                 Chatroom savedChatroom = chatroomRepository.save(newChatroom);
@@ -2089,4 +2108,342 @@ public class ChatServiceTest {
 
     }
 
+    @Nested
+    @DisplayName("채팅방 마지막 채팅 및 읽지 않은 메시지 개수 갱신")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class ChatroomSummary {
+
+        @Test
+        @Order(52)
+        @DisplayName("52. 채팅 등록 시 마지막 채팅 갱신 및 상대 회원의 unreadCount 증가")
+        public void addChatUpdatesLastChatAndUnreadCount() throws Exception {
+            // given
+            String newUuid = UUID.randomUUID().toString();
+            Chatroom newChatroom = chatroomRepository.save(Chatroom.builder()
+                    .uuid(newUuid)
+                    .startMember(null)
+                    .build());
+            MemberChatroom memberChatroom1 = saveMemberChatroom(member1, newChatroom, LocalDateTime.now());
+            MemberChatroom memberChatroom2 = saveMemberChatroom(member2, newChatroom, LocalDateTime.now());
+
+            // when
+            chatCommandService.addChat(createChatRequest("first message"), newUuid, member1.getId());
+            Chat lastChat = chatCommandService.addChat(createChatRequest("last message"), newUuid, member1.getId());
+
+            // then
+            assertEquals(lastChat.getId(), newChatroom.getLastChatId());
+            assertEquals(lastChat.getTimestamp(), newChatroom.getLastChatTimestamp());
+            assertEquals("last message", newChatroom.getLastChatContents());
+            assertEquals(0, memberChatroom1.getUnreadCount());
+            assertEquals(2, memberChatroom2.getUnreadCount());
+        }
+
+        @Test
+        @Order(53)
+        @DisplayName("53. 퇴장한 상대 회원이 채팅 등록으로 재입장하는 경우 unreadCount 다시 집계")
+        public void addChatRecountsUnreadCountWhenTargetRejoins() throws Exception {
+            // given
+            String newUuid = UUID.randomUUID().toString();
+            Chatroom newChatroom = chatroomRepository.save(Chatroom.builder()
+                    .uuid(newUuid)
+                    .startMember(null)
+                    .build());
+            saveMemberChatroom(member1, newChatroom, LocalDateTime.now());
+            MemberChatroom memberChatroom2 = saveMemberChatroom(member2, newChatroom, null);
+
+            // when
+            chatCommandService.addChat(createChatRequest("message"), newUuid, member1.getId());
+
+            // then
+            assertNotNull(memberChatroom2.getLastJoinDate());
+            assertEquals(1, memberChatroom2.getUnreadCount());
+        }
+
+        @Test
+        @Order(54)
+        @DisplayName("54. 매칭으로 채팅방 시작 시 각 회원에게 보낸 시스템 메시지만 unreadCount에 포함")
+        public void startChatroomByMatchingCountsOwnSystemChat() throws Exception {
+            // when
+            String uuid = chatCommandService.startChatroomByMatching(member1.getId(), member2.getId());
+
+            // then
+            Chatroom chatroom = chatroomRepository.findByUuid(uuid).get();
+            assertNotNull(chatroom.getLastChatId());
+            assertEquals(1, memberChatroomRepository.findByMemberIdAndChatroomId(member1.getId(), chatroom.getId())
+                    .get().getUnreadCount());
+            assertEquals(1, memberChatroomRepository.findByMemberIdAndChatroomId(member2.getId(), chatroom.getId())
+                    .get().getUnreadCount());
+        }
+
+        @Test
+        @Order(55)
+        @DisplayName("55. 메시지 읽음 처리 시 unreadCount 초기화")
+        public void readChatMessagesResetsUnreadCount() throws Exception {
+            // given
+            String newUuid = UUID.randomUUID().toString();
+            Chatroom newChatroom = chatroomRepository.save(Chatroom.builder()
+                    .uuid(newUuid)
+                    .startMember(null)
+                    .build());
+            saveMemberChatroom(member1, newChatroom, LocalDateTime.now());
+            MemberChatroom memberChatroom2 = saveMemberChatroom(member2, newChatroom, LocalDateTime.now());
+            chatCommandService.addChat(createChatRequest("message"), newUuid, member1.getId());
+
+            // when
+            chatCommandService.readChatMessages(newUuid, null, member2.getId());
+
+            // then
+            assertEquals(0, memberChatroom2.getUnreadCount());
+        }
+
+        @Test
+        @Order(56)
+        @DisplayName("56. 안읽은 채팅방 uuid 목록 및 전체 안읽은 메시지 개수 조회")
+        public void getUnreadChatroomSummary() throws Exception {
+            // given
+            Chatroom chatroom1 = chatroomRepository.save(Chatroom.builder()
+                    .uuid(UUID.randomUUID().toString())
+                    .startMember(null)
+                    .build());
+            saveMemberChatroom(member1, chatroom1, LocalDateTime.now());
+            saveMemberChatroom(member2, chatroom1, LocalDateTime.now());
+
+            Chatroom chatroom2 = chatroomRepository.save(Chatroom.builder()
+                    .uuid(UUID.randomUUID().toString())
+                    .startMember(null)
+                    .build());
+            saveMemberChatroom(member3, chatroom2, LocalDateTime.now());
+            saveMemberChatroom(member2, chatroom2, LocalDateTime.now());
+
+            chatCommandService.addChat(createChatRequest("message1"), chatroom1.getUuid(), member1.getId());
+            chatCommandService.addChat(createChatRequest("message2"), chatroom1.getUuid(), member1.getId());
+            chatCommandService.addChat(createChatRequest("message3"), chatroom2.getUuid(), member3.getId());
+
+            // when
+            UnreadChatroomDTO unreadChatroomDTO = chatQueryService.getUnreadChatroomSummary(member2.getId());
+
+            // then
+            assertEquals(2, unreadChatroomDTO.getChatroomUuids().size());
+            assertTrue(unreadChatroomDTO.getChatroomUuids().contains(chatroom1.getUuid()));
+            assertTrue(unreadChatroomDTO.getChatroomUuids().contains(chatroom2.getUuid()));
+            assertEquals(3, unreadChatroomDTO.getTotalUnreadCount());
+            assertTrue(chatQueryService.getUnreadChatroomSummary(member1.getId()).getChatroomUuids().isEmpty());
+        }
+
+        @Test
+        @Order(57)
+        @DisplayName("57. 채팅방 참여 정보는 최초 조회 이후 캐시된 값 사용")
+        public void getMembershipFromCache() throws Exception {
+            // given
+            Chatroom newChatroom = chatroomRepository.save(Chatroom.builder()
+                    .uuid(UUID.randomUUID().toString())
+                    .startMember(null)
+                    .build());
+            MemberChatroom memberChatroom1 = saveMemberChatroom(member1, newChatroom, LocalDateTime.now());
+            MemberChatroom memberChatroom2 = saveMemberChatroom(member2, newChatroom, LocalDateTime.now());
+
+            // when
+            ChatroomMembership membership = chatroomMembershipCache.getMembership(newChatroom.getUuid(),
+                    member1.getId());
+
+            // then
+            assertSame(membership, chatroomMembershipCache.getMembership(newChatroom.getUuid(), member2.getId()));
+            assertEquals(newChatroom.getId(), membership.getChatroomId());
+            assertEquals(memberChatroom1.getId(), membership.getMemberChatroomId(member1.getId()));
+            assertEquals(memberChatroom2.getId(), membership.getTargetMemberChatroomId(member1.getId()));
+            assertEquals(member2.getId(), membership.getTargetMemberId(member1.getId()));
+
+            GeneralException exception = assertThrows(GeneralException.class, () -> {
+                chatroomMembershipCache.getMembership(newChatroom.getUuid(), member3.getId());
+            });
+            assertEquals(ErrorStatus.CHATROOM_ACCESS_DENIED, exception.getCode());
+        }
+
+        @Test
+        @Order(58)
+        @DisplayName("58. 채팅 내역 조회 시 입장 이후 메시지만 timestamp 오름차순으로 페이징")
+        public void getChatMessagesByCursor() throws Exception {
+            // given
+            Chatroom newChatroom = chatroomRepository.save(Chatroom.builder()
+                    .uuid(UUID.randomUUID().toString())
+                    .startMember(null)
+                    .build());
+            saveMemberChatroom(member1, newChatroom, LocalDateTime.now().minusMinutes(1));
+            saveMemberChatroom(member2, newChatroom, LocalDateTime.now().minusMinutes(1));
+
+            for (int i = 0; i < 25; i++) {
+                chatCommandService.addChat(createChatRequest("message" + i), newChatroom.getUuid(), member1.getId());
+            }
+
+            // when
+            ChatMessageListDTO recentChats = chatQueryService.getChatMessagesByCursor(newChatroom.getUuid(),
+                    member1.getId(), null, null);
+            chatCommandService.exitChatroom(newChatroom.getUuid(), member2.getId());
+            ChatMessageListDTO exitedChats = chatQueryService.getChatMessagesByCursor(newChatroom.getUuid(),
+                    member2.getId(), null, null);
+
+            // then
+            List<ChatMessageDTO> messages = recentChats.getChatMessageDtoList();
+            assertEquals(20, messages.size());
+            assertTrue(recentChats.getHas_next());
+            assertFalse(recentChats.getHas_newer());
+            assertEquals("message24", messages.get(19).getMessage());
+            for (int i = 1; i < messages.size(); i++) {
+                assertTrue(messages.get(i - 1).getTimestamp() <= messages.get(i).getTimestamp());
+            }
+            assertTrue(exitedChats.getChatMessageDtoList().isEmpty());
+        }
+
+        @Test
+        @Order(59)
+        @DisplayName("59. 안읽은 메시지가 많은 경우 가장 오래된 안읽은 메시지부터 조회하고 이후 메시지는 after cursor로 조회")
+        public void getChatMessagesFromFirstUnread() throws Exception {
+            // given
+            Chatroom newChatroom = chatroomRepository.save(Chatroom.builder()
+                    .uuid(UUID.randomUUID().toString())
+                    .startMember(null)
+                    .build());
+            saveMemberChatroom(member1, newChatroom, LocalDateTime.now().minusMinutes(1));
+            saveMemberChatroom(member2, newChatroom, LocalDateTime.now().minusMinutes(1));
+
+            for (int i = 0; i < 25; i++) {
+                chatCommandService.addChat(createChatRequest("message" + i), newChatroom.getUuid(), member1.getId());
+            }
+
+            // when
+            ChatMessageListDTO unreadChats = chatQueryService.getChatMessagesByCursor(newChatroom.getUuid(),
+                    member2.getId(), null, null);
+            ChatMessageListDTO newerChats = chatQueryService.getChatMessagesAfterCursor(newChatroom.getUuid(),
+                    member2.getId(), unreadChats.getNewer_cursor(), unreadChats.getNewer_cursor_chat_id());
+
+            // then
+            List<ChatMessageDTO> messages = unreadChats.getChatMessageDtoList();
+            assertEquals(20, messages.size());
+            assertEquals("message0", messages.get(0).getMessage());
+            assertFalse(unreadChats.getHas_next());
+            assertTrue(unreadChats.getHas_newer());
+            assertEquals(messages.get(19).getTimestamp(), unreadChats.getNewer_cursor());
+
+            List<ChatMessageDTO> newerMessages = newerChats.getChatMessageDtoList();
+            assertFalse(newerMessages.isEmpty());
+            assertEquals(5, newerMessages.size());
+            assertTrue(newerMessages.stream()
+                    .allMatch(message -> message.getTimestamp() >= unreadChats.getNewer_cursor()));
+            assertEquals("message20", newerMessages.get(0).getMessage());
+            assertEquals("message24", newerMessages.get(newerMessages.size() - 1).getMessage());
+            assertFalse(newerChats.getHas_newer());
+        }
+
+        @Test
+        @Order(60)
+        @DisplayName("60. 두 회원의 채팅방은 회원 순서와 무관하게 하나의 key로 조회")
+        public void findChatroomByMemberPair() throws Exception {
+            // given
+            ChatroomEnterDTO chatroomEnterDTO = chatCommandService.startChatroomByMemberId(member2.getId(),
+                    member1.getId());
+
+            // when
+            Optional<Chatroom> chatroom = chatroomRepository.findChatroomByMemberIds(member1.getId(),
+                    member2.getId());
+
+            // then
+            assertTrue(chatroom.isPresent());
+            assertEquals(chatroomEnterDTO.getUuid(), chatroom.get().getUuid());
+            assertEquals(Math.min(member1.getId(), member2.getId()), chatroom.get().getMinMemberId());
+            assertEquals(Math.max(member1.getId(), member2.getId()), chatroom.get().getMaxMemberId());
+            assertTrue(chatroomRepository.findChatroomByMemberIds(member1.getId(), member3.getId()).isEmpty());
+
+            // 같은 두 회원의 채팅방을 추가로 생성하는 경우 unique key 위반
+            assertThrows(DataIntegrityViolationException.class, () -> chatroomRepository.saveAndFlush(
+                    Chatroom.builder()
+                            .uuid(UUID.randomUUID().toString())
+                            .minMemberId(chatroom.get().getMinMemberId())
+                            .maxMemberId(chatroom.get().getMaxMemberId())
+                            .build()));
+        }
+
+        @Test
+        @Order(61)
+        @DisplayName("61. timestamp가 같은 메시지도 cursor의 chat id로 구분해 누락 없이 페이징")
+        public void getChatMessagesWithSameTimestamp() throws Exception {
+            // given
+            Chatroom newChatroom = chatroomRepository.save(Chatroom.builder()
+                    .uuid(UUID.randomUUID().toString())
+                    .startMember(null)
+                    .build());
+            saveMemberChatroom(member1, newChatroom, LocalDateTime.now().minusMinutes(1));
+            saveMemberChatroom(member2, newChatroom, LocalDateTime.now().minusMinutes(1));
+
+            List<Chat> chats = new ArrayList<>();
+            for (int i = 0; i < 25; i++) {
+                chats.add(chatCommandService.addChat(createChatRequest("message" + i), newChatroom.getUuid(),
+                        member1.getId()));
+            }
+            Long timestamp = chats.get(0).getTimestamp();
+            chats.forEach(chat -> ReflectionTestUtils.setField(chat, "timestamp", timestamp));
+            chatRepository.flush();
+
+            // when
+            ChatMessageListDTO recentChats = chatQueryService.getChatMessagesByCursor(newChatroom.getUuid(),
+                    member1.getId(), null, null);
+            ChatMessageListDTO olderChats = chatQueryService.getChatMessagesByCursor(newChatroom.getUuid(),
+                    member1.getId(), recentChats.getNext_cursor(), recentChats.getNext_cursor_chat_id());
+
+            // then
+            assertEquals(20, recentChats.getList_size());
+            assertTrue(recentChats.getHas_next());
+            assertEquals(timestamp, recentChats.getNext_cursor());
+            assertEquals(5, olderChats.getList_size());
+            assertFalse(olderChats.getHas_next());
+
+            List<String> messages = new ArrayList<>();
+            olderChats.getChatMessageDtoList().forEach(message -> messages.add(message.getMessage()));
+            recentChats.getChatMessageDtoList().forEach(message -> messages.add(message.getMessage()));
+            for (int i = 0; i < 25; i++) {
+                assertEquals("message" + i, messages.get(i));
+            }
+        }
+
+        @Test
+        @Order(62)
+        @DisplayName("62. 두 회원 id key가 비어있는 기존 채팅방도 조회해 새 채팅방을 생성하지 않음")
+        public void findChatroomWithoutMemberPairKey() throws Exception {
+            // given
+            Chatroom legacyChatroom = chatroomRepository.save(Chatroom.builder()
+                    .uuid(UUID.randomUUID().toString())
+                    .startMember(null)
+                    .build());
+            saveMemberChatroom(member1, legacyChatroom, LocalDateTime.now());
+            saveMemberChatroom(member2, legacyChatroom, LocalDateTime.now());
+
+            // when
+            ChatroomEnterDTO chatroomEnterDTO = chatCommandService.startChatroomByMemberId(member1.getId(),
+                    member2.getId());
+
+            // then
+            assertEquals(legacyChatroom.getUuid(), chatroomEnterDTO.getUuid());
+            assertEquals(legacyChatroom.getId(), chatroomRepository.findChatroomByMemberIds(member2.getId(),
+                    member1.getId()).get().getId());
+            assertTrue(chatroomRepository.findChatroomByMemberIds(member1.getId(), member3.getId()).isEmpty());
+        }
+
+        private MemberChatroom saveMemberChatroom(Member member, Chatroom chatroom, LocalDateTime lastJoinDate) {
+            MemberChatroom memberChatroom = MemberChatroom.builder()
+                    .lastViewDate(null)
+                    .lastJoinDate(lastJoinDate)
+                    .unreadCount(0)
+                    .chatroom(chatroom)
+                    .build();
+            memberChatroom.setMember(member);
+            return memberChatroomRepository.save(memberChatroom);
+        }
+
+        private ChatRequest.ChatCreateRequest createChatRequest(String message) {
+            ChatRequest.ChatCreateRequest request = new ChatCreateRequest();
+            ReflectionTestUtils.setField(request, "message", message);
+            return request;
+        }
+
+    }
+
 }
@@ -0,0 +1,154 @@
+package com.gamegoo.integration.chat;
+
+import com.gamegoo.domain.chat.Chatroom;
+import com.gamegoo.domain.chat.MemberChatroom;
+import com.gamegoo.domain.member.LoginType;
+import com.gamegoo.domain.member.Member;
+import com.gamegoo.dto.chat.ChatRequest;
+import com.gamegoo.repository.chat.ChatRepository;
+import com.gamegoo.repository.chat.ChatroomRepository;
+import com.gamegoo.repository.chat.MemberChatroomRepository;
+import com.gamegoo.repository.member.MemberRepository;
+import com.gamegoo.service.chat.ChatCommandService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 여러 스레드가 실제로 커밋하며 경쟁해야 하므로 테스트 트랜잭션 없이 실행하고, 생성한 데이터는 직접 삭제
+ */
+@SpringBootTest
+public class ChatUnreadCountConcurrencyTest {
+
+    private static final int THREAD_COUNT = 10;
+
+    @Autowired
+    private ChatCommandService chatCommandService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ChatRepository chatRepository;
+
+    @Autowired
+    private ChatroomRepository chatroomRepository;
+
+    @Autowired
+    private MemberChatroomRepository memberChatroomRepository;
+
+    private Member member;
+    private Member targetMember;
+    private Chatroom chatroom;
+
+    @BeforeEach
+    public void setUp() {
+        member = memberRepository.save(createMember("unread-concurrency1@mail.com"));
+        targetMember = memberRepository.save(createMember("unread-concurrency2@mail.com"));
+        chatroom = chatroomRepository.save(Chatroom.builder()
+                .uuid(UUID.randomUUID().toString())
+                .startMember(null)
+                .build());
+
+        LocalDateTime lastJoinDate = LocalDateTime.now().minusMinutes(1);
+        saveMemberChatroom(member, lastJoinDate);
+        saveMemberChatroom(targetMember, lastJoinDate);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        chatRepository.deleteAll(chatRepository.findAll().stream()
+                .filter(chat -> chat.getChatroom().getId().equals(chatroom.getId()))
+                .toList());
+        memberChatroomRepository.deleteAll(memberChatroomRepository.findAllByChatroomId(chatroom.getId()));
+        chatroomRepository.deleteById(chatroom.getId());
+        memberRepository.deleteAllById(List.of(member.getId(), targetMember.getId()));
+    }
+
+    @Test
+    @DisplayName("같은 채팅방에 10개 스레드가 동시에 채팅 등록 시 상대 회원의 unreadCount가 모두 반영됨")
+    public void increaseUnreadCountConcurrently() throws Exception {
+        // given
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(THREAD_COUNT);
+        AtomicInteger successCount = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            String message = "message" + i;
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    chatCommandService.addChat(createChatRequest(message), chatroom.getUuid(), member.getId());
+                    successCount.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        assertTrue(doneLatch.await(60, TimeUnit.SECONDS));
+        executorService.shutdown();
+
+        // then
+        assertEquals(THREAD_COUNT, successCount.get());
+        MemberChatroom targetMemberChatroom = memberChatroomRepository
+                .findByMemberIdAndChatroomId(targetMember.getId(), chatroom.getId())
+                .orElseThrow();
+        assertEquals(THREAD_COUNT, targetMemberChatroom.getUnreadCount());
+    }
+
+    private void saveMemberChatroom(Member member, LocalDateTime lastJoinDate) {
+        MemberChatroom memberChatroom = MemberChatroom.builder()
+                .lastViewDate(null)
+                .lastJoinDate(lastJoinDate)
+                .unreadCount(0)
+                .chatroom(chatroom)
+                .build();
+        memberChatroom.setMember(member);
+        memberChatroomRepository.save(memberChatroom);
+    }
+
+    private Member createMember(String email) {
+        return Member.builder()
+                .email(email)
+                .password("12345678")
+                .loginType(LoginType.GENERAL)
+                .profileImage(1)
+                .blind(false)
+                .mike(false)
+                .mannerLevel(1)
+                .isAgree(true)
+                .blockList(new ArrayList<>())
+                .memberChatroomList(new ArrayList<>())
+                .boardList(new ArrayList<>())
+                .build();
+    }
+
+    private ChatRequest.ChatCreateRequest createChatRequest(String message) {
+        ChatRequest.ChatCreateRequest request = new ChatRequest.ChatCreateRequest();
+        ReflectionTestUtils.setField(request, "message", message);
+        return request;
+    }
+
+}
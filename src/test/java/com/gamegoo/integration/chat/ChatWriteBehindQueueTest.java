@@ -0,0 +1,254 @@
+package com.gamegoo.integration.chat;
+
+import com.gamegoo.domain.chat.Chat;
+import com.gamegoo.domain.chat.Chatroom;
+import com.gamegoo.domain.chat.MemberChatroom;
+import com.gamegoo.domain.member.LoginType;
+import com.gamegoo.domain.member.Member;
+import com.gamegoo.dto.chat.ChatRequest;
+import com.gamegoo.dto.chat.ChatResponse.ChatCreateResultDTO;
+import com.gamegoo.repository.chat.ChatRepository;
+import com.gamegoo.repository.chat.ChatroomRepository;
+import com.gamegoo.repository.chat.MemberChatroomRepository;
+import com.gamegoo.repository.member.MemberRepository;
+import com.gamegoo.service.chat.ChatCommandService;
+import com.gamegoo.service.chat.ChatWriteBehindQueue;
+import com.gamegoo.service.chat.PendingChat;
+import com.gamegoo.util.TimestampUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 요청 트랜잭션이 커밋된 후 큐에 적재되므로 테스트 트랜잭션 없이 실행하고, 생성한 데이터는 직접 삭제
+ */
+@SpringBootTest(properties = {"chat.write-behind.enabled=true", "chat.write-behind.interval=600000"})
+public class ChatWriteBehindQueueTest {
+
+    @Autowired
+    private ChatCommandService chatCommandService;
+
+    @Autowired
+    private ChatWriteBehindQueue chatWriteBehindQueue;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ChatroomRepository chatroomRepository;
+
+    @Autowired
+    private MemberChatroomRepository memberChatroomRepository;
+
+    @Autowired
+    private ChatRepository chatRepository;
+
+    private Member member1;
+    private Member member2;
+    private Chatroom chatroom;
+
+    @BeforeEach
+    public void setUp() {
+        member1 = memberRepository.save(createMember("write-behind1@mail.com", "member1"));
+        member2 = memberRepository.save(createMember("write-behind2@mail.com", "member2"));
+
+        chatroom = chatroomRepository.save(Chatroom.builder()
+                .uuid(UUID.randomUUID().toString())
+                .startMember(null)
+                .build());
+        saveMemberChatroom(member1);
+        saveMemberChatroom(member2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        chatWriteBehindQueue.flush();
+        chatRepository.deleteAll(chatRepository.findAll().stream()
+                .filter(chat -> chat.getChatroom().getId().equals(chatroom.getId()))
+                .toList());
+        memberChatroomRepository.deleteAll(memberChatroomRepository.findAllByChatroomId(chatroom.getId()));
+        chatroomRepository.deleteById(chatroom.getId());
+        memberRepository.deleteAllById(List.of(member1.getId(), member2.getId()));
+    }
+
+    @Test
+    @DisplayName("적재된 채팅은 저장 전에도 timestamp를 바로 응답하고, 저장 시 한 번에 insert")
+    public void flushPendingChats() throws Exception {
+        // given
+        List<ChatCreateResultDTO> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(chatCommandService.addChatFromSocket(createChatRequest("message" + i), chatroom.getUuid(),
+                    member1.getId()));
+        }
+        assertEquals(3, chatWriteBehindQueue.size());
+        assertTrue(findChats().isEmpty());
+
+        // when
+        int flushedCount = chatWriteBehindQueue.flush();
+
+        // then
+        assertEquals(3, flushedCount);
+        assertEquals(0, chatWriteBehindQueue.size());
+
+        List<Chat> chats = findChats();
+        assertEquals(3, chats.size());
+        assertTrue(chats.stream().allMatch(chat -> results.stream()
+                .anyMatch(result -> result.getTimestamp().equals(chat.getTimestamp()))));
+
+        Chatroom savedChatroom = chatroomRepository.findById(chatroom.getId()).orElseThrow();
+        assertNotNull(savedChatroom.getLastChatId());
+        assertEquals(results.get(2).getTimestamp(), savedChatroom.getLastChatTimestamp());
+        assertEquals("message2", savedChatroom.getLastChatContents());
+
+        assertEquals(0, findMemberChatroom(member1).getUnreadCount());
+        assertEquals(3, findMemberChatroom(member2).getUnreadCount());
+    }
+
+    @Test
+    @DisplayName("아직 저장되지 않은 채팅의 timestamp로 읽음 처리")
+    public void readPendingChat() throws Exception {
+        // given
+        ChatCreateResultDTO first = chatCommandService.addChatFromSocket(createChatRequest("first"),
+                chatroom.getUuid(), member1.getId());
+        chatCommandService.addChatFromSocket(createChatRequest("second"), chatroom.getUuid(), member1.getId());
+
+        // when
+        chatCommandService.readChatMessages(chatroom.getUuid(), first.getTimestamp(), member2.getId());
+        chatWriteBehindQueue.flush();
+
+        // then
+        assertEquals(1, findMemberChatroom(member2).getUnreadCount());
+    }
+
+    @Test
+    @DisplayName("적재된 채팅은 저장이 커밋될 때까지 조회되고, 저장되거나 버려진 후에는 제거")
+    public void findPendingChatUntilSaved() throws Exception {
+        // given
+        ChatCreateResultDTO result = chatCommandService.addChatFromSocket(createChatRequest("message"),
+                chatroom.getUuid(), member1.getId());
+        Long invalidTimestamp = result.getTimestamp() + 1;
+        chatWriteBehindQueue.enqueue(PendingChat.builder()
+                .chatroomId(chatroom.getId())
+                .fromMemberId(member1.getId())
+                .contents(null)
+                .timestamp(invalidTimestamp)
+                .createdAt(LocalDateTime.now())
+                .build());
+        assertTrue(chatWriteBehindQueue.findPendingChat(chatroom.getId(), result.getTimestamp()).isPresent());
+        assertTrue(chatWriteBehindQueue.findPendingChat(chatroom.getId(), invalidTimestamp).isPresent());
+
+        // when
+        chatWriteBehindQueue.flush();
+
+        // then
+        assertTrue(chatWriteBehindQueue.findPendingChat(chatroom.getId(), result.getTimestamp()).isEmpty());
+        assertTrue(chatWriteBehindQueue.findPendingChat(chatroom.getId(), invalidTimestamp).isEmpty());
+        assertEquals(1, findChats().size());
+    }
+
+    @Test
+    @DisplayName("저장할 수 없는 채팅이 포함된 경우 해당 채팅만 버리고 나머지는 저장")
+    public void dropInvalidChat() throws Exception {
+        // given
+        chatCommandService.addChatFromSocket(createChatRequest("first"), chatroom.getUuid(), member1.getId());
+        chatWriteBehindQueue.enqueue(PendingChat.builder()
+                .chatroomId(chatroom.getId())
+                .fromMemberId(member1.getId())
+                .contents(null)
+                .timestamp(TimestampUtil.getNowUtcTimeStamp())
+                .createdAt(LocalDateTime.now())
+                .build());
+        chatCommandService.addChatFromSocket(createChatRequest("second"), chatroom.getUuid(), member1.getId());
+        assertEquals(3, chatWriteBehindQueue.size());
+
+        // when
+        int flushedCount = chatWriteBehindQueue.flush();
+
+        // then
+        assertEquals(2, flushedCount);
+        assertEquals(0, chatWriteBehindQueue.size());
+        assertEquals(2, findChats().size());
+        assertEquals(2, findMemberChatroom(member2).getUnreadCount());
+    }
+
+    @Test
+    @DisplayName("큐가 가득 찬 경우 적재하지 않고 동기 저장")
+    public void saveSynchronouslyWhenQueueFull() throws Exception {
+        // given
+        int maxSize = (int) ReflectionTestUtils.getField(chatWriteBehindQueue, "maxSize");
+        ReflectionTestUtils.setField(chatWriteBehindQueue, "maxSize", 0);
+
+        try {
+            // when
+            ChatCreateResultDTO result = chatCommandService.addChatFromSocket(createChatRequest("message"),
+                    chatroom.getUuid(), member1.getId());
+
+            // then
+            assertEquals(0, chatWriteBehindQueue.size());
+            List<Chat> chats = findChats();
+            assertEquals(1, chats.size());
+            assertEquals(result.getTimestamp(), chats.get(0).getTimestamp());
+            assertEquals(1, findMemberChatroom(member2).getUnreadCount());
+        } finally {
+            ReflectionTestUtils.setField(chatWriteBehindQueue, "maxSize", maxSize);
+        }
+    }
+
+    private List<Chat> findChats() {
+        return chatRepository.findAll().stream()
+                .filter(chat -> chat.getChatroom().getId().equals(chatroom.getId()))
+                .toList();
+    }
+
+    private MemberChatroom findMemberChatroom(Member member) {
+        return memberChatroomRepository.findByMemberIdAndChatroomId(member.getId(), chatroom.getId()).orElseThrow();
+    }
+
+    private void saveMemberChatroom(Member member) {
+        MemberChatroom memberChatroom = MemberChatroom.builder()
+                .lastViewDate(null)
+                .lastJoinDate(LocalDateTime.now().minusMinutes(1))
+                .unreadCount(0)
+                .chatroom(chatroom)
+                .build();
+        memberChatroom.setMember(member);
+        memberChatroomRepository.save(memberChatroom);
+    }
+
+    private ChatRequest.ChatCreateRequest createChatRequest(String message) {
+        ChatRequest.ChatCreateRequest request = new ChatRequest.ChatCreateRequest();
+        ReflectionTestUtils.setField(request, "message", message);
+        return request;
+    }
+
+    private Member createMember(String email, String gameName) {
+        return Member.builder()
+                .email(email)
+                .password("12345678")
+                .loginType(LoginType.GENERAL)
+                .profileImage(1)
+                .blind(false)
+                .mike(false)
+                .mannerLevel(1)
+                .gameName(gameName)
+                .isAgree(true)
+                .blockList(new ArrayList<>())
+                .memberChatroomList(new ArrayList<>())
+                .memberGameStyleList(new ArrayList<>())
+                .build();
+    }
+
+}
@@ -0,0 +1,222 @@
+package com.gamegoo.integration.chat;
+
+import com.gamegoo.domain.Block;
+import com.gamegoo.domain.chat.Chat;
+import com.gamegoo.domain.chat.Chatroom;
+import com.gamegoo.domain.chat.MemberChatroom;
+import com.gamegoo.domain.friend.Friend;
+import com.gamegoo.domain.friend.FriendRequestStatus;
+import com.gamegoo.domain.friend.FriendRequests;
+import com.gamegoo.domain.member.LoginType;
+import com.gamegoo.domain.member.Member;
+import com.gamegoo.dto.chat.ChatResponse;
+import com.gamegoo.repository.chat.ChatRepository;
+import com.gamegoo.repository.chat.ChatroomRepository;
+import com.gamegoo.repository.chat.MemberChatroomRepository;
+import com.gamegoo.repository.friend.FriendRepository;
+import com.gamegoo.repository.friend.FriendRequestsRepository;
+import com.gamegoo.repository.member.BlockRepository;
+import com.gamegoo.repository.member.MemberRepository;
+import com.gamegoo.service.chat.ChatQueryService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@Transactional
+public class ChatroomListQueryCountTest {
+
+    // 회원 조회, 채팅방 페이지, 상대 회원, 친구, 차단, 친구 요청
+    private static final long MAX_QUERY_COUNT = 6;
+
+    @Autowired
+    private ChatQueryService chatQueryService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ChatroomRepository chatroomRepository;
+
+    @Autowired
+    private MemberChatroomRepository memberChatroomRepository;
+
+    @Autowired
+    private ChatRepository chatRepository;
+
+    @Autowired
+    private FriendRepository friendRepository;
+
+    @Autowired
+    private FriendRequestsRepository friendRequestsRepository;
+
+    @Autowired
+    private BlockRepository blockRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Member member;
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        member = memberRepository.save(createMember("chatroom-list@mail.com", "member"));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    @DisplayName("채팅방 목록 조회 쿼리 수는 채팅방 개수와 무관하게 일정")
+    public void chatroomListQueryCountIsConstant() throws Exception {
+        // given
+        createChatrooms(3);
+        long smallPageQueryCount = countQueries();
+
+        createChatrooms(7);
+        long fullPageQueryCount = countQueries();
+
+        // then
+        assertEquals(smallPageQueryCount, fullPageQueryCount);
+        assertTrue(fullPageQueryCount <= MAX_QUERY_COUNT,
+                "chatroom list used " + fullPageQueryCount + " queries");
+    }
+
+    @Test
+    @DisplayName("채팅방 목록에 상대 회원, 마지막 대화, 읽지 않은 메시지 개수, 친구 및 차단 여부 포함")
+    public void chatroomListContainsViewFields() throws Exception {
+        // given
+        List<Member> targetMembers = createChatrooms(3);
+        Member friendMember = targetMembers.get(0);
+        Member blockerMember = targetMembers.get(1);
+        Member requestedMember = targetMembers.get(2);
+
+        friendRepository.save(Friend.builder().isLiked(false).fromMember(member).toMember(friendMember).build());
+        friendRepository.save(Friend.builder().isLiked(false).fromMember(friendMember).toMember(member).build());
+        blockRepository.save(Block.builder().isDeleted(false).blockerMember(blockerMember).blockedMember(member)
+                .build());
+        friendRequestsRepository.save(FriendRequests.builder()
+                .status(FriendRequestStatus.PENDING)
+                .fromMember(requestedMember)
+                .toMember(member)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        Map<Long, ChatResponse.ChatroomViewDTO> chatroomViews = chatQueryService
+                .getChatroomList(member.getId(), null)
+                .getChatroomViewDTOList()
+                .stream()
+                .collect(Collectors.toMap(ChatResponse.ChatroomViewDTO::getTargetMemberId, view -> view));
+
+        // then
+        assertEquals(3, chatroomViews.size());
+        ChatResponse.ChatroomViewDTO friendView = chatroomViews.get(friendMember.getId());
+        assertTrue(friendView.getFriend());
+        assertFalse(friendView.getBlocked());
+        assertNull(friendView.getFriendRequestMemberId());
+        assertEquals("last message", friendView.getLastMsg());
+        // 상대방이 보낸 메시지 2개, 나에게 보낸 시스템 메시지 1개 (상대에게 보낸 시스템 메시지는 제외)
+        assertEquals(3, friendView.getNotReadMsgCnt());
+
+        ChatResponse.ChatroomViewDTO blockerView = chatroomViews.get(blockerMember.getId());
+        assertFalse(blockerView.getFriend());
+        assertTrue(blockerView.getBlocked());
+
+        ChatResponse.ChatroomViewDTO requestedView = chatroomViews.get(requestedMember.getId());
+        assertEquals(requestedMember.getId(), requestedView.getFriendRequestMemberId());
+    }
+
+    private long countQueries() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        chatQueryService.getChatroomList(member.getId(), null);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<Member> createChatrooms(int count) {
+        List<Member> targetMembers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String suffix = UUID.randomUUID().toString().substring(0, 8);
+            Member targetMember = memberRepository.save(createMember(suffix + "@mail.com", suffix));
+            Chatroom chatroom = chatroomRepository.save(Chatroom.builder()
+                    .uuid(UUID.randomUUID().toString())
+                    .startMember(member)
+                    .build());
+            memberChatroomRepository.save(createMemberChatroom(member, chatroom));
+            memberChatroomRepository.save(createMemberChatroom(targetMember, chatroom));
+
+            chatRepository.save(createChat(chatroom, targetMember, null, "hello"));
+            chatRepository.save(createChat(chatroom, targetMember, member, "system message to me"));
+            chatRepository.save(createChat(chatroom, member, targetMember, "system message to target"));
+            chatRepository.save(createChat(chatroom, targetMember, null, "last message"));
+            targetMembers.add(targetMember);
+        }
+
+        // 채팅을 repository로 직접 저장했으므로, 마지막 채팅 정보와 unreadCount는 일괄 집계 쿼리로 채움
+        chatroomRepository.updateLastChatIdIfNull();
+        chatroomRepository.updateLastChatIfNull();
+        memberChatroomRepository.updateUnreadCountIfNull();
+        return targetMembers;
+    }
+
+    private MemberChatroom createMemberChatroom(Member chatroomMember, Chatroom chatroom) {
+        MemberChatroom memberChatroom = MemberChatroom.builder()
+                .lastJoinDate(LocalDateTime.now().minusHours(1))
+                .chatroom(chatroom)
+                .build();
+        memberChatroom.setMember(chatroomMember);
+        return memberChatroom;
+    }
+
+    private Chat createChat(Chatroom chatroom, Member fromMember, Member toMember, String contents) {
+        return Chat.builder()
+                .contents(contents)
+                .chatroom(chatroom)
+                .fromMember(fromMember)
+                .toMember(toMember)
+                .build();
+    }
+
+    private Member createMember(String email, String gameName) {
+        return Member.builder()
+                .email(email)
+                .password("12345678")
+                .loginType(LoginType.GENERAL)
+                .profileImage(1)
+                .blind(false)
+                .mike(false)
+                .mannerLevel(1)
+                .gameName(gameName)
+                .isAgree(true)
+                .blockList(new ArrayList<>())
+                .memberChatroomList(new ArrayList<>())
+                .memberGameStyleList(new ArrayList<>())
+                .build();
+    }
+
+}
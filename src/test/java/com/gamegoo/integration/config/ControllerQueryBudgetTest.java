@@ -0,0 +1,265 @@
+package com.gamegoo.integration.config;
+
+import com.gamegoo.domain.Block;
+import com.gamegoo.domain.board.Board;
+import com.gamegoo.domain.chat.Chat;
+import com.gamegoo.domain.chat.Chatroom;
+import com.gamegoo.domain.chat.MemberChatroom;
+import com.gamegoo.domain.friend.Friend;
+import com.gamegoo.domain.member.LoginType;
+import com.gamegoo.domain.member.Member;
+import com.gamegoo.domain.member.Tier;
+import com.gamegoo.domain.notification.Notification;
+import com.gamegoo.domain.notification.NotificationType;
+import com.gamegoo.domain.notification.NotificationTypeTitle;
+import com.gamegoo.repository.board.BoardRepository;
+import com.gamegoo.repository.chat.ChatRepository;
+import com.gamegoo.repository.chat.ChatroomRepository;
+import com.gamegoo.repository.chat.MemberChatroomRepository;
+import com.gamegoo.repository.friend.FriendRepository;
+import com.gamegoo.repository.member.BlockRepository;
+import com.gamegoo.repository.member.MemberRepository;
+import com.gamegoo.repository.notification.NotificationRepository;
+import com.gamegoo.repository.notification.NotificationTypeRepository;
+import com.gamegoo.util.JWTUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * 데이터가 있는 상태에서 조회 API를 MockMvc로 호출해 controller 메소드별 SQL 수 제한(query-budget)을 넘지 않는지 검증
+ * 테스트 설정에서는 query-budget.fail-on-exceed=true 이므로 제한을 넘으면 200이 아닌 응답으로 실패
+ * 채팅방 시작, 등록/수정/삭제 API와 외부 API(Riot, 메일, socket 서버)를 호출하는 API는 대상에서 제외
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+public class ControllerQueryBudgetTest {
+
+    private static final int TARGET_MEMBER_COUNT = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JWTUtil jwtUtil;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ChatroomRepository chatroomRepository;
+
+    @Autowired
+    private MemberChatroomRepository memberChatroomRepository;
+
+    @Autowired
+    private ChatRepository chatRepository;
+
+    @Autowired
+    private FriendRepository friendRepository;
+
+    @Autowired
+    private BlockRepository blockRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private NotificationTypeRepository notificationTypeRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Member member;
+    private Member targetMember;
+    private Chatroom chatroom;
+    private Board board;
+    private String accessToken;
+
+    @BeforeEach
+    public void setUp() {
+        member = memberRepository.save(createMember("query-budget@mail.com", "member"));
+        NotificationType notificationType = notificationTypeRepository.save(NotificationType.builder()
+                .title(NotificationTypeTitle.FRIEND_REQUEST_RECEIVED)
+                .content(NotificationTypeTitle.FRIEND_REQUEST_RECEIVED.getMessage())
+                .imgUrl("img")
+                .build());
+
+        for (int i = 0; i < TARGET_MEMBER_COUNT; i++) {
+            targetMember = memberRepository.save(createMember("query-budget" + i + "@mail.com", "target" + i));
+
+            chatroom = chatroomRepository.save(Chatroom.builder()
+                    .uuid(UUID.randomUUID().toString())
+                    .startMember(member)
+                    .minMemberId(Math.min(member.getId(), targetMember.getId()))
+                    .maxMemberId(Math.max(member.getId(), targetMember.getId()))
+                    .build());
+            memberChatroomRepository.save(createMemberChatroom(member, chatroom));
+            memberChatroomRepository.save(createMemberChatroom(targetMember, chatroom));
+            chatRepository.save(createChat(chatroom, targetMember, "hello"));
+            chatRepository.save(createChat(chatroom, member, "hi"));
+            chatRepository.save(createChat(chatroom, targetMember, "last message"));
+
+            friendRepository.save(Friend.builder().isLiked(false).fromMember(member).toMember(targetMember).build());
+            friendRepository.save(Friend.builder().isLiked(false).fromMember(targetMember).toMember(member).build());
+
+            board = createBoard(targetMember);
+            createBoard(member);
+
+            Notification notification = Notification.builder()
+                    .notificationType(notificationType)
+                    .content(notificationType.getContent())
+                    .sourceMember(targetMember)
+                    .isRead(false)
+                    .build();
+            notification.setMember(member);
+            notificationRepository.save(notification);
+        }
+
+        Member blockedMember = memberRepository.save(createMember("query-budget-blocked@mail.com", "blocked"));
+        blockRepository.save(Block.builder().isDeleted(false).blockerMember(member).blockedMember(blockedMember)
+                .build());
+
+        // 채팅을 repository로 직접 저장했으므로, 마지막 채팅 정보와 unreadCount는 일괄 집계 쿼리로 채움
+        chatroomRepository.updateLastChatIdIfNull();
+        chatroomRepository.updateLastChatIfNull();
+        memberChatroomRepository.updateUnreadCountIfNull();
+
+        accessToken = jwtUtil.createJwtWithId(member.getId(), 60 * 60 * 1000L);
+    }
+
+    @Test
+    @DisplayName("데이터가 있는 상태에서 조회 API의 SQL 수가 제한 이내")
+    public void readApisWithinQueryBudget() throws Exception {
+        List<String> urls = List.of(
+                "/v1/member/chatroom/uuid",
+                "/v1/member/chatroom",
+                "/v1/chat/" + chatroom.getUuid() + "/messages",
+                "/v1/chat/unread",
+                "/v1/chat/unread/count",
+                "/v1/friends",
+                "/v1/friends/search?query=target",
+                "/v1/friends/ids",
+                "/v1/member/block?page=1",
+                "/v1/member/profile",
+                "/v1/member/profile/other?id=" + targetMember.getId(),
+                "/v1/posts/list",
+                "/v1/posts/list/" + board.getId(),
+                "/v1/posts/member/list/" + board.getId(),
+                "/v1/posts/my",
+                "/v1/notification",
+                "/v1/notification/total?page=1",
+                "/v1/notification/unread/count",
+                "/v1/manner",
+                "/v1/manner/" + targetMember.getId(),
+                "/v1/manner/good/" + targetMember.getId(),
+                "/v1/manner/bad/" + targetMember.getId(),
+                "/v1/internal/" + member.getId() + "/chatroom/uuid",
+                "/v1/internal/" + member.getId() + "/friends/ids"
+        );
+        double exceededCount = countBudgetExceeded();
+
+        for (String url : urls) {
+            // 앞선 요청에서 조회된 엔티티를 재사용하지 않도록 영속성 컨텍스트 초기화
+            entityManager.flush();
+            entityManager.clear();
+
+            MockHttpServletResponse response = mockMvc.perform(get(url)
+                            .header("Authorization", "Bearer " + accessToken))
+                    .andReturn()
+                    .getResponse();
+
+            assertEquals(200, response.getStatus(), url + " " + response.getContentAsString());
+        }
+
+        assertEquals(exceededCount, countBudgetExceeded());
+    }
+
+    private double countBudgetExceeded() {
+        return meterRegistry.find("gamegoo.controller.query.budget.exceeded")
+                .counters()
+                .stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+
+    private MemberChatroom createMemberChatroom(Member chatroomMember, Chatroom chatroom) {
+        MemberChatroom memberChatroom = MemberChatroom.builder()
+                .lastJoinDate(LocalDateTime.now().minusHours(1))
+                .chatroom(chatroom)
+                .build();
+        memberChatroom.setMember(chatroomMember);
+        return memberChatroom;
+    }
+
+    private Chat createChat(Chatroom chatroom, Member fromMember, String contents) {
+        return Chat.builder()
+                .contents(contents)
+                .chatroom(chatroom)
+                .fromMember(fromMember)
+                .build();
+    }
+
+    private Board createBoard(Member boardMember) {
+        Board newBoard = Board.builder()
+                .mode(1)
+                .mainPosition(1)
+                .subPosition(1)
+                .wantPosition(1)
+                .mike(true)
+                .boardGameStyles(new ArrayList<>())
+                .content("content")
+                .boardProfileImage(1)
+                .deleted(false)
+                .build();
+        newBoard.setMember(boardMember);
+        return boardRepository.save(newBoard);
+    }
+
+    private Member createMember(String email, String gameName) {
+        return Member.builder()
+                .email(email)
+                .password("12345678")
+                .loginType(LoginType.GENERAL)
+                .profileImage(1)
+                .blind(false)
+                .mike(false)
+                .mannerLevel(1)
+                .gameName(gameName)
+                .tag("KR1")
+                .tier(Tier.GOLD)
+                .rank(1)
+                .winRate(50.0)
+                .gameCount(20)
+                .isAgree(true)
+                .blockList(new ArrayList<>())
+                .memberChatroomList(new ArrayList<>())
+                .memberGameStyleList(new ArrayList<>())
+                .build();
+    }
+
+}
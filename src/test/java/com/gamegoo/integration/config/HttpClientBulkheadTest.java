@@ -0,0 +1,133 @@
+package com.gamegoo.integration.config;
+
+import com.gamegoo.config.http.HttpClientMetrics;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 로컬 stub 서버로 호출 대상별 동시 호출 수 제한, timeout 및 호출 지표 검증
+ */
+@SpringBootTest(properties = {"http-client.socket.max-concurrent-calls=1", "http-client.socket.bulkhead-wait=0",
+        "http-client.socket.read-timeout=1000"})
+public class HttpClientBulkheadTest {
+
+    @Autowired
+    @Qualifier("socketRestTemplate")
+    private RestTemplate socketRestTemplate;
+
+    @Autowired
+    @Qualifier("socketHttpClientMetrics")
+    private HttpClientMetrics socketHttpClientMetrics;
+
+    private HttpServer stubServer;
+    private CountDownLatch release;
+    private String baseUrl;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        release = new CountDownLatch(1);
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.setExecutor(Executors.newCachedThreadPool());
+        stubServer.createContext("/slow", exchange -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200);
+        });
+        stubServer.createContext("/hang", exchange -> {
+            try {
+                Thread.sleep(3000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200);
+        });
+        stubServer.createContext("/error", exchange -> respond(exchange, 500));
+        stubServer.start();
+        baseUrl = "http://localhost:" + stubServer.getAddress().getPort();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        stubServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("동시 호출 수 제한을 넘은 호출은 대기하지 않고 거부")
+    public void rejectWhenBulkheadFull() throws Exception {
+        // given
+        long rejectedBefore = socketHttpClientMetrics.getRejected();
+        long requestsBefore = socketHttpClientMetrics.getRequests();
+        CompletableFuture<String> slowCall = CompletableFuture.supplyAsync(
+                () -> socketRestTemplate.getForObject(baseUrl + "/slow", String.class));
+        awaitInFlight(1);
+
+        // when
+        assertThrows(ResourceAccessException.class,
+                () -> socketRestTemplate.getForObject(baseUrl + "/slow", String.class));
+        release.countDown();
+
+        // then
+        assertEquals("ok", slowCall.get(5, TimeUnit.SECONDS));
+        assertEquals(rejectedBefore + 1, socketHttpClientMetrics.getRejected());
+        assertEquals(requestsBefore + 1, socketHttpClientMetrics.getRequests());
+        assertEquals(0, socketHttpClientMetrics.getInFlight());
+    }
+
+    @Test
+    @DisplayName("응답이 read timeout보다 늦거나 실패 응답인 경우 error로 기록")
+    public void recordErrors() throws Exception {
+        // given
+        long errorsBefore = socketHttpClientMetrics.getErrors();
+
+        // when
+        assertThrows(ResourceAccessException.class,
+                () -> socketRestTemplate.getForObject(baseUrl + "/hang", String.class));
+        assertThrows(HttpServerErrorException.class,
+                () -> socketRestTemplate.getForObject(baseUrl + "/error", String.class));
+
+        // then
+        assertEquals(errorsBefore + 2, socketHttpClientMetrics.getErrors());
+    }
+
+    private void awaitInFlight(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (socketHttpClientMetrics.getInFlight() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status) throws IOException {
+        byte[] response = "ok".getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, response.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(response);
+        }
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.gamegoo.integration.config;
+
+import com.gamegoo.config.http.HttpClientMetrics;
+import com.gamegoo.config.metrics.QueryCountInspector;
+import com.gamegoo.controller.InternalController;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * controller 메소드 실행 시간, 쿼리 수, 외부 API 호출 지표가 MeterRegistry에 기록되는지 검증
+ */
+@SpringBootTest
+@Transactional
+public class MetricsTest {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private InternalController internalController;
+
+    @Autowired
+    @Qualifier("socketHttpClientMetrics")
+    private HttpClientMetrics socketHttpClientMetrics;
+
+    @Test
+    @DisplayName("controller 메소드별 실행 시간과 실행된 SQL 수 기록")
+    public void recordControllerMetrics() {
+        // given
+        long startQueryCount = QueryCountInspector.currentCount();
+        internalController.getChatroomUuid(1L);
+        long queryCount = QueryCountInspector.currentCount() - startQueryCount;
+
+        Timer latency = meterRegistry.get("gamegoo.controller")
+                .tag("controller", "InternalController")
+                .tag("method", "getChatroomUuid")
+                .timer();
+        DistributionSummary queries = meterRegistry.get("gamegoo.controller.queries")
+                .tag("controller", "InternalController")
+                .tag("method", "getChatroomUuid")
+                .summary();
+        long latencyCount = latency.count();
+        double queryTotal = queries.totalAmount();
+
+        // when
+        internalController.getChatroomUuid(1L);
+
+        // then
+        assertTrue(queryCount > 0);
+        assertEquals(latencyCount + 1, latency.count());
+        assertEquals(queryTotal + queryCount, queries.totalAmount());
+    }
+
+    @Test
+    @DisplayName("외부 API 호출 대상별 응답 시간 기록")
+    public void recordHttpClientMetrics() {
+        // given
+        Timer timer = meterRegistry.get("gamegoo.http.client").tag("destination", "socket").timer();
+        long before = timer.count();
+
+        // when
+        socketHttpClientMetrics.recordStart();
+        socketHttpClientMetrics.recordFinish(TimeUnit.MILLISECONDS.toNanos(30), false);
+
+        // then
+        assertEquals(before + 1, timer.count());
+        assertEquals(0, meterRegistry.get("gamegoo.http.client.in.flight").tag("destination", "socket").gauge()
+                .value());
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.gamegoo.integration.config;
+
+import com.gamegoo.config.metrics.QueryBudgetExceededException;
+import com.gamegoo.config.metrics.QueryBudgetProperties;
+import com.gamegoo.controller.InternalController;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * controller 메소드의 SQL 수가 제한을 넘은 경우 테스트 설정(query-budget.fail-on-exceed)에서 실패하는지 검증
+ */
+@SpringBootTest
+@Transactional
+public class QueryBudgetTest {
+
+    @Autowired
+    private InternalController internalController;
+
+    @Autowired
+    private QueryBudgetProperties queryBudgetProperties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private int maxQueries;
+
+    @BeforeEach
+    public void setUp() {
+        maxQueries = queryBudgetProperties.getMaxQueries();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        queryBudgetProperties.setMaxQueries(maxQueries);
+    }
+
+    @Test
+    @DisplayName("제한 이내의 SQL을 실행한 경우 통과")
+    public void passWithinBudget() {
+        assertTrue(queryBudgetProperties.isFailOnExceed());
+        assertDoesNotThrow(() -> internalController.getChatroomUuid(1L));
+    }
+
+    @Test
+    @DisplayName("제한을 넘는 SQL을 실행한 경우 예외 발생 및 초과 횟수 기록")
+    public void failWhenBudgetExceeded() {
+        // given
+        internalController.getChatroomUuid(1L);
+        Counter budgetExceeded = meterRegistry.get("gamegoo.controller.query.budget.exceeded")
+                .tag("controller", "InternalController")
+                .tag("method", "getChatroomUuid")
+                .counter();
+        double exceededCount = budgetExceeded.count();
+        queryBudgetProperties.setMaxQueries(0);
+
+        // when
+        QueryBudgetExceededException exception = assertThrows(QueryBudgetExceededException.class,
+                () -> internalController.getChatroomUuid(1L));
+
+        // then
+        assertTrue(exception.getMessage().startsWith("InternalController.getChatroomUuid"));
+        assertEquals(exceededCount + 1, budgetExceeded.count());
+    }
+
+}
@@ -0,0 +1,168 @@
+package com.gamegoo.integration.matching;
+
+import com.gamegoo.apiPayload.code.status.ErrorStatus;
+import com.gamegoo.apiPayload.exception.handler.MatchingHandler;
+import com.gamegoo.domain.matching.MatchingRecord;
+import com.gamegoo.domain.matching.MatchingStatus;
+import com.gamegoo.domain.member.LoginType;
+import com.gamegoo.domain.member.Member;
+import com.gamegoo.domain.member.Tier;
+import com.gamegoo.dto.matching.MatchingRequest;
+import com.gamegoo.repository.matching.LatestMatchingRecordRepository;
+import com.gamegoo.repository.matching.MatchingRecordRepository;
+import com.gamegoo.repository.member.MemberRepository;
+import com.gamegoo.service.matching.MatchingPool;
+import com.gamegoo.service.matching.MatchingService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 여러 스레드가 실제로 커밋하며 경쟁해야 하므로 테스트 트랜잭션 없이 실행하고, 생성한 데이터는 직접 삭제
+ */
+@SpringBootTest
+public class MatchingConcurrencyTest {
+
+    private static final int THREAD_COUNT = 32;
+
+    @Autowired
+    private MatchingService matchingService;
+
+    @Autowired
+    private MatchingPool matchingPool;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MatchingRecordRepository matchingRecordRepository;
+
+    @Autowired
+    private LatestMatchingRecordRepository latestMatchingRecordRepository;
+
+    private Member member;
+    private List<Member> targetMembers;
+
+    @BeforeEach
+    public void setUp() {
+        matchingPool.clear();
+
+        member = memberRepository.save(createMember("concurrency@mail.com"));
+        matchingService.save(createRequest(1, 2, 3), member.getId());
+
+        targetMembers = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            Member targetMember = memberRepository.save(createMember("concurrency" + i + "@mail.com"));
+            matchingService.save(createRequest(3, 4, 1), targetMember.getId());
+            targetMembers.add(targetMember);
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Set<Long> memberIds = targetMembers.stream().map(Member::getId).collect(Collectors.toSet());
+        memberIds.add(member.getId());
+
+        latestMatchingRecordRepository.deleteAll(latestMatchingRecordRepository.findAll().stream()
+                .filter(latestMatchingRecord -> memberIds.contains(latestMatchingRecord.getMember().getId()))
+                .toList());
+        List<MatchingRecord> matchingRecords = matchingRecordRepository.findAll().stream()
+                .filter(matchingRecord -> memberIds.contains(matchingRecord.getMember().getId()))
+                .toList();
+        matchingRecordRepository.deleteAll(matchingRecords);
+        memberRepository.deleteAllById(memberIds);
+        matchingPool.clear();
+    }
+
+    @Test
+    @DisplayName("한 회원에 대해 32개 스레드가 동시에 매칭 FOUND 요청 시 하나만 성공")
+    public void onlyOneFoundMatchingSucceeds() throws Exception {
+        // given
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(THREAD_COUNT);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger conflictCount = new AtomicInteger();
+
+        // when
+        for (Member targetMember : targetMembers) {
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    matchingService.foundMatching(member.getId(), targetMember.getId(), 1);
+                    successCount.incrementAndGet();
+                } catch (MatchingHandler e) {
+                    if (e.getCode()==ErrorStatus.MATCHING_STATUS_CONFLICT) {
+                        conflictCount.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        assertTrue(doneLatch.await(60, TimeUnit.SECONDS));
+        executorService.shutdown();
+
+        // then
+        assertEquals(1, successCount.get());
+        assertEquals(THREAD_COUNT - 1, conflictCount.get());
+
+        long foundTargetCount = targetMembers.stream()
+                .map(targetMember -> matchingRecordRepository
+                        .findFirstByMemberAndGameModeOrderByUpdatedAtDesc(targetMember, 1)
+                        .orElseThrow())
+                .filter(matchingRecord -> matchingRecord.getStatus()==MatchingStatus.FOUND)
+                .count();
+        assertEquals(1, foundTargetCount);
+    }
+
+    private Member createMember(String email) {
+        return Member.builder()
+                .email(email)
+                .password("12345678")
+                .loginType(LoginType.GENERAL)
+                .profileImage(1)
+                .blind(false)
+                .mike(false)
+                .mannerLevel(1)
+                .tier(Tier.GOLD)
+                .rank(2)
+                .isAgree(true)
+                .blockList(new ArrayList<>())
+                .memberChatroomList(new ArrayList<>())
+                .memberGameStyleList(new ArrayList<>())
+                .build();
+    }
+
+    private MatchingRequest.InitializingMatchingRequestDTO createRequest(Integer mainP, Integer subP, Integer wantP) {
+        MatchingRequest.InitializingMatchingRequestDTO request = new MatchingRequest.InitializingMatchingRequestDTO();
+        request.setGameMode(1);
+        request.setMike(false);
+        request.setMatchingType("BASIC");
+        request.setMainP(mainP);
+        request.setSubP(subP);
+        request.setWantP(wantP);
+        request.setGameStyleIdList(new ArrayList<>());
+        return request;
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.gamegoo.integration.matching;
+
+import com.gamegoo.domain.matching.MatchingRecord;
+import com.gamegoo.service.matching.MatchingPoolEntry;
+import com.gamegoo.service.matching.MatchingPriorityCalculator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MatchingPriorityCalculatorTest {
+
+    @Test
+    @DisplayName("primitive 스냅샷 기반 우선순위 계산 결과가 기존 엔티티 기반 계산 결과와 동일")
+    public void samePriorityAsLegacyCalculation() throws Exception {
+        // given
+        List<MatchingRecord[]> pairs = MatchingRecordSamples.generatePairs(10000, 42L);
+
+        for (MatchingRecord[] pair : pairs) {
+            MatchingPoolEntry myEntry = MatchingPoolEntry.from(pair[0]);
+            MatchingPoolEntry otherEntry = MatchingPoolEntry.from(pair[1]);
+
+            // when & then
+            assertEquals(LegacyMatchingPriorityCalculator.calculatePriority(pair[0], pair[1]),
+                    MatchingPriorityCalculator.calculatePriority(myEntry, otherEntry));
+            assertEquals(LegacyMatchingPriorityCalculator.calculatePriority(pair[1], pair[0]),
+                    MatchingPriorityCalculator.calculatePriority(otherEntry, myEntry));
+        }
+    }
+
+}
@@ -0,0 +1,165 @@
+package com.gamegoo.integration.matching;
+
+import com.gamegoo.domain.matching.LatestMatchingRecord;
+import com.gamegoo.domain.matching.MatchingRecord;
+import com.gamegoo.domain.matching.MatchingRecordArchive;
+import com.gamegoo.domain.matching.MatchingStatus;
+import com.gamegoo.domain.matching.MatchingType;
+import com.gamegoo.domain.member.LoginType;
+import com.gamegoo.domain.member.Member;
+import com.gamegoo.domain.member.Tier;
+import com.gamegoo.repository.matching.LatestMatchingRecordRepository;
+import com.gamegoo.repository.matching.MatchingRecordArchiveRepository;
+import com.gamegoo.repository.matching.MatchingRecordRepository;
+import com.gamegoo.repository.member.MemberRepository;
+import com.gamegoo.scheduler.MatchingRecordArchiver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "matching.archive.enabled=true")
+@Transactional
+public class MatchingRecordArchiverTest {
+
+    @Autowired
+    private MatchingRecordArchiver matchingRecordArchiver;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MatchingRecordRepository matchingRecordRepository;
+
+    @Autowired
+    private LatestMatchingRecordRepository latestMatchingRecordRepository;
+
+    @Autowired
+    private MatchingRecordArchiveRepository matchingRecordArchiveRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Member member;
+
+    @BeforeEach
+    public void setUp() {
+        member = memberRepository.save(createMember("archive@mail.com"));
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 종료 상태의 매칭 기록만 보관 테이블로 이동")
+    public void archiveOnlyExpiredTerminalRecords() throws Exception {
+        // given
+        MatchingRecord oldSuccess = saveRecord(MatchingStatus.SUCCESS, 40);
+        MatchingRecord oldFail = saveRecord(MatchingStatus.FAIL, 40);
+        MatchingRecord oldPending = saveRecord(MatchingStatus.PENDING, 40);
+        MatchingRecord recentQuit = saveRecord(MatchingStatus.QUIT, 1);
+
+        // when
+        int archivedCount = matchingRecordArchiver.archive(LocalDateTime.now().minusDays(30));
+
+        // then
+        assertEquals(2, archivedCount);
+        assertFalse(matchingRecordRepository.existsById(oldSuccess.getId()));
+        assertFalse(matchingRecordRepository.existsById(oldFail.getId()));
+        assertTrue(matchingRecordRepository.existsById(oldPending.getId()));
+        assertTrue(matchingRecordRepository.existsById(recentQuit.getId()));
+
+        MatchingRecordArchive archive = matchingRecordArchiveRepository.findById(oldSuccess.getId()).orElseThrow();
+        assertEquals(MatchingStatus.SUCCESS, archive.getStatus());
+        assertEquals(member.getId(), archive.getMemberId());
+        assertEquals(1, archive.getGameMode());
+    }
+
+    @Test
+    @DisplayName("최신 매칭 기록 포인터가 가리키는 매칭 기록은 이동하지 않음")
+    public void keepLatestMatchingRecord() throws Exception {
+        // given
+        MatchingRecord latestRecord = saveRecord(MatchingStatus.SUCCESS, 40);
+        latestMatchingRecordRepository.saveAndFlush(LatestMatchingRecord.builder()
+                .member(member)
+                .gameMode(1)
+                .matchingRecord(latestRecord)
+                .build());
+
+        // when
+        int archivedCount = matchingRecordArchiver.archive(LocalDateTime.now().minusDays(30));
+
+        // then
+        assertEquals(0, archivedCount);
+        assertTrue(matchingRecordRepository.existsById(latestRecord.getId()));
+    }
+
+    @Test
+    @DisplayName("chunk 크기보다 많은 매칭 기록도 모두 이동")
+    public void archiveInChunks() throws Exception {
+        // given
+        ReflectionTestUtils.setField(matchingRecordArchiver, "chunkSize", 2);
+        List<MatchingRecord> records = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            records.add(saveRecord(MatchingStatus.FAIL, 40));
+        }
+
+        // when
+        int archivedCount = matchingRecordArchiver.archive(LocalDateTime.now().minusDays(30));
+
+        // then
+        assertEquals(5, archivedCount);
+        records.forEach(record -> assertTrue(matchingRecordArchiveRepository.existsById(record.getId())));
+    }
+
+    /**
+     * 매칭 기록 저장 후 updatedAt을 daysAgo일 전으로 변경 (auditing으로 저장 시각이 덮어써지므로 JDBC로 직접 변경)
+     */
+    private MatchingRecord saveRecord(MatchingStatus status, int daysAgo) {
+        MatchingRecord matchingRecord = matchingRecordRepository.saveAndFlush(MatchingRecord.builder()
+                .gameMode(1)
+                .mainPosition(1)
+                .subPosition(2)
+                .wantPosition(3)
+                .mike(false)
+                .tier(Tier.GOLD)
+                .rank(2)
+                .status(status)
+                .matchingType(MatchingType.BASIC)
+                .mannerLevel(1)
+                .mannerMessageSent(true)
+                .member(member)
+                .build());
+        jdbcTemplate.update("UPDATE matching_record SET updated_at = ? WHERE matching_id = ?",
+                LocalDateTime.now().minusDays(daysAgo), matchingRecord.getId());
+        return matchingRecord;
+    }
+
+    private Member createMember(String email) {
+        return Member.builder()
+                .email(email)
+                .password("12345678")
+                .loginType(LoginType.GENERAL)
+                .profileImage(1)
+                .blind(false)
+                .mike(false)
+                .mannerLevel(1)
+                .tier(Tier.GOLD)
+                .rank(2)
+                .isAgree(true)
+                .blockList(new ArrayList<>())
+                .memberChatroomList(new ArrayList<>())
+                .memberGameStyleList(new ArrayList<>())
+                .build();
+    }
+
+}
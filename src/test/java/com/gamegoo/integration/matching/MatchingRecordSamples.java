@@ -0,0 +1,71 @@
+package com.gamegoo.integration.matching;
+
+import com.gamegoo.domain.matching.MatchingRecord;
+import com.gamegoo.domain.matching.MatchingStatus;
+import com.gamegoo.domain.matching.MatchingType;
+import com.gamegoo.domain.member.LoginType;
+import com.gamegoo.domain.member.Member;
+import com.gamegoo.domain.member.Tier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 우선순위 계산 검증 및 벤치마크용 합성 매칭 기록 생성기 (DB 저장 없이 엔티티만 생성)
+ */
+public class MatchingRecordSamples {
+
+    /**
+     * 임의의 매칭 기록 쌍 생성. 대부분의 쌍은 같은 gameMode를 가짐
+     *
+     * @param count
+     * @param seed
+     * @return
+     */
+    public static List<MatchingRecord[]> generatePairs(int count, long seed) {
+        Random random = new Random(seed);
+        List<MatchingRecord[]> pairs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int gameMode = random.nextInt(4) + 1;
+            int otherGameMode = random.nextInt(10)==0 ? random.nextInt(4) + 1 : gameMode;
+            pairs.add(new MatchingRecord[]{
+                    generate(random, i * 2L + 1, gameMode),
+                    generate(random, i * 2L + 2, otherGameMode)
+            });
+        }
+        return pairs;
+    }
+
+    private static MatchingRecord generate(Random random, long memberId, int gameMode) {
+        Tier tier = Tier.values()[random.nextInt(Tier.values().length)];
+        int rank = random.nextInt(4) + 1;
+        int mannerLevel = random.nextInt(5) + 1;
+
+        Member member = Member.builder()
+                .id(memberId)
+                .email("sample" + memberId + "@mail.com")
+                .password("12345678")
+                .loginType(LoginType.GENERAL)
+                .blind(false)
+                .tier(tier)
+                .rank(rank)
+                .mannerLevel(mannerLevel)
+                .build();
+
+        return MatchingRecord.builder()
+                .gameMode(gameMode)
+                .mainPosition(random.nextInt(6))
+                .subPosition(random.nextInt(6))
+                .wantPosition(random.nextInt(6))
+                .mike(random.nextBoolean())
+                .tier(tier)
+                .rank(rank)
+                .mannerLevel(mannerLevel)
+                .matchingType(random.nextBoolean() ? MatchingType.BASIC : MatchingType.PRECISE)
+                .status(MatchingStatus.PENDING)
+                .member(member)
+                .build();
+    }
+
+}
@@ -0,0 +1,120 @@
+package com.gamegoo.integration.matching;
+
+import com.gamegoo.domain.member.Member;
+import com.gamegoo.repository.matching.LatestMatchingRecordRepository;
+import com.gamegoo.repository.matching.MatchingRecordRepository;
+import com.gamegoo.repository.member.MemberRepository;
+import com.gamegoo.scripts.replay.JsonlMatchingReplayGenerator;
+import com.gamegoo.scripts.replay.MatchingReplayReport;
+import com.gamegoo.scripts.replay.MatchingReplayRunner;
+import com.gamegoo.scripts.replay.RandomMatchingReplayGenerator;
+import com.gamegoo.service.matching.MatchingPool;
+import com.gamegoo.service.matching.MatchingService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 매칭 풀은 트랜잭션이 커밋된 후에 반영되므로 테스트 트랜잭션 없이 실행하고, 리플레이가 생성한 데이터는 직접 삭제
+ */
+@SpringBootTest
+public class MatchingReplayRunnerTest {
+
+    @Autowired
+    private MatchingService matchingService;
+
+    @Autowired
+    private MatchingPool matchingPool;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MatchingRecordRepository matchingRecordRepository;
+
+    @Autowired
+    private LatestMatchingRecordRepository latestMatchingRecordRepository;
+
+    @BeforeEach
+    public void setUp() {
+        matchingPool.clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Set<Long> memberIds = memberRepository.findAll().stream()
+                .filter(member -> member.getEmail()!=null && member.getEmail().endsWith("@gamegoo.replay"))
+                .map(Member::getId)
+                .collect(Collectors.toSet());
+
+        latestMatchingRecordRepository.deleteAll(latestMatchingRecordRepository.findAll().stream()
+                .filter(latestMatchingRecord -> memberIds.contains(latestMatchingRecord.getMember().getId()))
+                .toList());
+        matchingRecordRepository.deleteAll(matchingRecordRepository.findAll().stream()
+                .filter(matchingRecord -> memberIds.contains(matchingRecord.getMember().getId()))
+                .toList());
+        memberRepository.deleteAllById(memberIds);
+        matchingPool.clear();
+    }
+
+    @Test
+    @DisplayName("JSONL로 기록된 매칭 요청과 status 변경 리플레이")
+    public void replayJsonl(@TempDir Path tempDir) throws Exception {
+        // given
+        Path events = tempDir.resolve("events.jsonl");
+        Files.write(events, List.of(
+                "{\"at\":0,\"type\":\"REQUEST\",\"memberId\":1,\"tier\":\"GOLD\",\"rank\":2,\"mannerLevel\":1,"
+                        + "\"gameMode\":1,\"mike\":false,\"matchingType\":\"BASIC\",\"mainP\":1,\"subP\":2,\"wantP\":3}",
+                "{\"at\":1000,\"type\":\"REQUEST\",\"memberId\":2,\"tier\":\"GOLD\",\"rank\":2,\"mannerLevel\":1,"
+                        + "\"gameMode\":2,\"mike\":false,\"matchingType\":\"BASIC\",\"mainP\":1,\"subP\":2,\"wantP\":3}",
+                "{\"at\":5000,\"type\":\"REQUEST\",\"memberId\":3,\"tier\":\"GOLD\",\"rank\":2,\"mannerLevel\":1,"
+                        + "\"gameMode\":1,\"mike\":false,\"matchingType\":\"BASIC\",\"mainP\":3,\"subP\":4,\"wantP\":1}",
+                "{\"at\":9000,\"type\":\"STATUS\",\"memberId\":2,\"gameMode\":2,\"status\":\"QUIT\"}"
+        ));
+
+        // when
+        MatchingReplayReport report = new MatchingReplayRunner(matchingService, memberRepository)
+                .run(new JsonlMatchingReplayGenerator(events));
+
+        // then
+        assertEquals(3, report.getRequests());
+        assertEquals(1, report.getStatusChanges());
+        assertEquals(1, report.getPairs());
+        assertEquals(0, report.getUnmatched());
+        assertEquals(5000, report.timeToMatchPercentileMillis(1.0));
+        assertTrue(report.averagePairPriority() > 0);
+    }
+
+    @Test
+    @DisplayName("임의로 생성한 매칭 요청 리플레이")
+    public void replayRandom() throws Exception {
+        // given
+        List<Long> memberIds = LongStream.rangeClosed(1, 30).boxed().collect(Collectors.toList());
+        RandomMatchingReplayGenerator generator = new RandomMatchingReplayGenerator(memberIds, 100, new int[]{1},
+                1000, 0.1, 30 * 1000, 42L);
+
+        // when
+        MatchingReplayReport report = new MatchingReplayRunner(matchingService, memberRepository).run(generator);
+
+        // then
+        assertEquals(100, report.getRequests());
+        assertEquals(100, report.getPriorityLatencyNanos().size());
+        assertTrue(report.getPairs() > 0);
+        assertEquals(report.getPairs() * 2, report.getTimeToMatchMillis().size());
+    }
+
+}
@@ -0,0 +1,376 @@
+package com.gamegoo.integration.matching;
+
+import com.gamegoo.apiPayload.code.status.ErrorStatus;
+import com.gamegoo.apiPayload.exception.handler.MatchingHandler;
+import com.gamegoo.domain.matching.MatchingRecord;
+import com.gamegoo.domain.matching.MatchingStatus;
+import com.gamegoo.domain.member.LoginType;
+import com.gamegoo.domain.member.Member;
+import com.gamegoo.domain.member.Tier;
+import com.gamegoo.dto.matching.MatchingRequest;
+import com.gamegoo.dto.matching.MemberPriority;
+import com.gamegoo.repository.matching.LatestMatchingRecordRepository;
+import com.gamegoo.repository.matching.MatchingRecordRepository;
+import com.gamegoo.repository.member.BlockRepository;
+import com.gamegoo.repository.member.MemberRepository;
+import com.gamegoo.service.matching.MatchingPool;
+import com.gamegoo.service.matching.MatchingService;
+import com.gamegoo.service.member.BlockService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 매칭 풀은 트랜잭션이 커밋된 후에 반영되므로 테스트 트랜잭션 없이 실행하고, 생성한 데이터는 직접 삭제
+ */
+@SpringBootTest
+public class MatchingServiceTest {
+
+    @Autowired
+    private MatchingService matchingService;
+
+    @Autowired
+    private MatchingPool matchingPool;
+
+    @Autowired
+    private BlockService blockService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MatchingRecordRepository matchingRecordRepository;
+
+    @Autowired
+    private LatestMatchingRecordRepository latestMatchingRecordRepository;
+
+    @Autowired
+    private BlockRepository blockRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final Set<Long> memberIds = new HashSet<>();
+    private Member member1;
+    private Member member2;
+    private Member member3;
+
+    @BeforeEach
+    public void setUp() {
+        matchingPool.clear();
+
+        member1 = saveMember(createMember("test1@mail.com", "member1"));
+        member2 = saveMember(createMember("test2@mail.com", "member2"));
+        member3 = saveMember(createMember("test3@mail.com", "member3"));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        blockRepository.deleteAll(blockRepository.findAll().stream()
+                .filter(block -> memberIds.contains(block.getBlockerMember().getId())
+                        || memberIds.contains(block.getBlockedMember().getId()))
+                .toList());
+        latestMatchingRecordRepository.deleteAll(latestMatchingRecordRepository.findAll().stream()
+                .filter(latestMatchingRecord -> memberIds.contains(latestMatchingRecord.getMember().getId()))
+                .toList());
+        matchingRecordRepository.deleteAll(matchingRecordRepository.findAll().stream()
+                .filter(matchingRecord -> memberIds.contains(matchingRecord.getMember().getId()))
+                .toList());
+        memberRepository.deleteAllById(memberIds);
+        memberIds.clear();
+        matchingPool.clear();
+    }
+
+    @Nested
+    @DisplayName("우선순위 계산")
+    class CalculatePriorityListTest {
+
+        @Test
+        @DisplayName("매칭 풀에 대기 중인 회원만 우선순위 계산 대상에 포함")
+        public void calculatePriorityListFromPool() throws Exception {
+            // given
+            matchingService.save(createRequest(3, 4, 1), member2.getId());
+
+            // when
+            Map<String, List<MemberPriority>> result = matchingService.calculatePriorityList(createRequest(1, 2, 3),
+                    member1.getId());
+
+            // then
+            List<MemberPriority> myPriorityList = result.get("myPriorityList");
+            List<MemberPriority> otherPriorityList = result.get("otherPriorityList");
+            assertEquals(1, myPriorityList.size());
+            assertEquals(member2.getId(), myPriorityList.get(0).getMemberId());
+            assertTrue(myPriorityList.get(0).getPriorityValue() > 0);
+            assertEquals(1, otherPriorityList.size());
+            assertEquals(member2.getId(), otherPriorityList.get(0).getMemberId());
+        }
+
+        @Test
+        @DisplayName("내 매칭 요청 및 차단 관계인 회원의 매칭 요청은 제외")
+        public void excludeSelfAndBlockedMember() throws Exception {
+            // given
+            Member member4 = saveMember(createMember("test4@mail.com", "member4"));
+
+            matchingService.save(createRequest(1, 2, 3), member1.getId());
+            matchingService.save(createRequest(3, 4, 1), member2.getId());
+            matchingService.save(createRequest(3, 4, 1), member3.getId());
+            matchingService.save(createRequest(3, 4, 1), member4.getId());
+            blockService.blockMember(member1.getId(), member3.getId());
+            blockService.blockMember(member4.getId(), member1.getId());
+
+            // when
+            Map<String, List<MemberPriority>> result = matchingService.calculatePriorityList(createRequest(1, 2, 3),
+                    member1.getId());
+
+            // then
+            List<MemberPriority> myPriorityList = result.get("myPriorityList");
+            assertEquals(1, myPriorityList.size());
+            assertEquals(member2.getId(), myPriorityList.get(0).getMemberId());
+            assertEquals(1, result.get("otherPriorityList").size());
+        }
+
+        @Test
+        @DisplayName("주/부 포지션 조합이 같거나 솔로 랭크 티어 차이가 1 초과인 회원은 제외")
+        public void excludeIncompatibleMember() throws Exception {
+            // given
+            Member ironMember = createMember("test5@mail.com", "member5");
+            ironMember.updateRiotDetails(Tier.IRON, 2, 50.0, 10);
+            ironMember = saveMember(ironMember);
+
+            MatchingRequest.InitializingMatchingRequestDTO soloRankRequest = createRequest(3, 4, 1);
+            soloRankRequest.setGameMode(2);
+            matchingService.save(soloRankRequest, member2.getId());
+            matchingService.save(soloRankRequest, ironMember.getId());
+
+            matchingService.save(createRequest(2, 1, 3), member3.getId());
+
+            // when
+            MatchingRequest.InitializingMatchingRequestDTO mySoloRankRequest = createRequest(1, 2, 3);
+            mySoloRankRequest.setGameMode(2);
+            Map<String, List<MemberPriority>> soloRankResult = matchingService.calculatePriorityList(
+                    mySoloRankRequest, member1.getId());
+            Map<String, List<MemberPriority>> normalResult = matchingService.calculatePriorityList(
+                    createRequest(1, 2, 3), member1.getId());
+
+            // then
+            List<MemberPriority> soloRankPriorityList = soloRankResult.get("myPriorityList");
+            assertEquals(1, soloRankPriorityList.size());
+            assertEquals(member2.getId(), soloRankPriorityList.get(0).getMemberId());
+            assertTrue(normalResult.get("myPriorityList").isEmpty());
+            assertTrue(normalResult.get("otherPriorityList").isEmpty());
+        }
+
+        @Test
+        @DisplayName("매칭 상태가 PENDING이 아니게 되면 매칭 풀에서 제거")
+        public void removeFromPoolWhenStatusChanged() throws Exception {
+            // given
+            matchingService.save(createRequest(1, 2, 3), member2.getId());
+
+            MatchingRequest.ModifyMatchingRequestDTO request = new MatchingRequest.ModifyMatchingRequestDTO();
+            ReflectionTestUtils.setField(request, "status", "QUIT");
+            ReflectionTestUtils.setField(request, "gameMode", 1);
+
+            // when
+            matchingService.updateMyStatus(request, member2.getId());
+
+            // then
+            Map<String, List<MemberPriority>> result = matchingService.calculatePriorityList(createRequest(1, 2, 3),
+                    member1.getId());
+            assertTrue(result.get("myPriorityList").isEmpty());
+            assertTrue(matchingPool.getPendingEntries(1).isEmpty());
+        }
+
+        @Test
+        @DisplayName("롤백된 매칭 요청은 매칭 풀에 등록되지 않음")
+        public void skipPoolWhenRolledBack() throws Exception {
+            // when
+            transactionTemplate.executeWithoutResult(status -> {
+                matchingService.save(createRequest(3, 4, 1), member2.getId());
+                status.setRollbackOnly();
+            });
+
+            // then
+            Map<String, List<MemberPriority>> result = matchingService.calculatePriorityList(createRequest(1, 2, 3),
+                    member1.getId());
+            assertTrue(result.get("myPriorityList").isEmpty());
+            assertTrue(matchingPool.getPendingEntries(1).isEmpty());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("최신 매칭 기록 조회")
+    class LatestMatchingRecordTest {
+
+        @Test
+        @DisplayName("매칭 요청을 저장할 때마다 최신 매칭 기록 포인터가 새 매칭 기록을 가리킴")
+        public void updateLatestMatchingRecordOnSave() throws Exception {
+            // given
+            matchingService.save(createRequest(1, 2, 3), member1.getId());
+            MatchingRecord firstRecord = latestMatchingRecordRepository
+                    .findMatchingRecordByMemberAndGameMode(member1, 1)
+                    .orElseThrow();
+
+            // when
+            matchingService.save(createRequest(3, 4, 1), member1.getId());
+
+            // then
+            MatchingRecord latestRecord = latestMatchingRecordRepository
+                    .findMatchingRecordByMemberAndGameMode(member1, 1)
+                    .orElseThrow();
+            assertNotEquals(firstRecord.getId(), latestRecord.getId());
+            assertEquals(3, latestRecord.getMainPosition());
+            assertEquals(1, latestMatchingRecordRepository.findAll().stream()
+                    .filter(latestMatchingRecord -> latestMatchingRecord.getMember().getId().equals(member1.getId()))
+                    .count());
+        }
+
+        @Test
+        @DisplayName("상태 변경은 최신 매칭 기록에만 반영")
+        public void updateStatusOfLatestMatchingRecord() throws Exception {
+            // given
+            matchingService.save(createRequest(1, 2, 3), member1.getId());
+            matchingService.save(createRequest(3, 4, 1), member1.getId());
+
+            MatchingRequest.ModifyMatchingRequestDTO request = new MatchingRequest.ModifyMatchingRequestDTO();
+            ReflectionTestUtils.setField(request, "status", "QUIT");
+            ReflectionTestUtils.setField(request, "gameMode", 1);
+
+            // when
+            matchingService.updateMyStatus(request, member1.getId());
+
+            // then
+            MatchingRecord latestRecord = latestMatchingRecordRepository
+                    .findMatchingRecordByMemberAndGameMode(member1, 1)
+                    .orElseThrow();
+            assertEquals(MatchingStatus.QUIT, latestRecord.getStatus());
+            assertEquals(1, matchingRecordRepository.findAll().stream()
+                    .filter(matchingRecord -> matchingRecord.getMember().getId().equals(member1.getId()))
+                    .filter(matchingRecord -> matchingRecord.getStatus()==MatchingStatus.PENDING)
+                    .count());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("매칭 상태 변경")
+    class TransitStatusTest {
+
+        @Test
+        @DisplayName("현재와 같은 상태로 다시 변경 요청하면 충돌 없이 유지")
+        public void ignoreSameStatusTransition() throws Exception {
+            // given
+            matchingService.save(createRequest(1, 2, 3), member1.getId());
+            matchingService.save(createRequest(3, 4, 1), member2.getId());
+            matchingService.foundMatching(member1.getId(), member2.getId(), 1);
+            matchingService.successMatching(member1.getId(), member2.getId(), 1);
+
+            // when
+            assertDoesNotThrow(() -> matchingService.successMatching(member1.getId(), member2.getId(), 1));
+
+            // then
+            assertEquals(MatchingStatus.SUCCESS, latestMatchingRecordRepository
+                    .findMatchingRecordByMemberAndGameMode(member1, 1).orElseThrow().getStatus());
+            assertEquals(MatchingStatus.SUCCESS, latestMatchingRecordRepository
+                    .findMatchingRecordByMemberAndGameMode(member2, 1).orElseThrow().getStatus());
+        }
+
+        @Test
+        @DisplayName("이미 다른 회원과 매칭된 경우 FOUND로 다시 변경 요청하면 충돌로 처리")
+        public void rejectFoundWithOtherMember() throws Exception {
+            // given
+            matchingService.save(createRequest(1, 2, 3), member1.getId());
+            matchingService.save(createRequest(3, 4, 1), member2.getId());
+            matchingService.save(createRequest(3, 4, 1), member3.getId());
+            matchingService.foundMatching(member1.getId(), member2.getId(), 1);
+
+            // when
+            assertDoesNotThrow(() -> matchingService.foundMatching(member1.getId(), member2.getId(), 1));
+            MatchingHandler exception = assertThrows(MatchingHandler.class,
+                    () -> matchingService.foundMatching(member1.getId(), member3.getId(), 1));
+
+            // then
+            assertEquals(ErrorStatus.MATCHING_STATUS_CONFLICT, exception.getCode());
+            MatchingRecord matchingRecord = latestMatchingRecordRepository
+                    .findMatchingRecordByMemberAndGameMode(member1, 1).orElseThrow();
+            assertEquals(MatchingStatus.FOUND, matchingRecord.getStatus());
+            assertEquals(member2.getId(), matchingRecord.getTargetMember().getId());
+            assertEquals(MatchingStatus.PENDING, latestMatchingRecordRepository
+                    .findMatchingRecordByMemberAndGameMode(member3, 1).orElseThrow().getStatus());
+        }
+
+        @Test
+        @DisplayName("허용되지 않은 상태 변경은 충돌로 처리")
+        public void rejectInvalidTransition() throws Exception {
+            // given
+            matchingService.save(createRequest(1, 2, 3), member1.getId());
+            matchingService.save(createRequest(3, 4, 1), member2.getId());
+            matchingService.foundMatching(member1.getId(), member2.getId(), 1);
+            matchingService.successMatching(member1.getId(), member2.getId(), 1);
+
+            // when
+            MatchingHandler exception = assertThrows(MatchingHandler.class,
+                    () -> matchingService.foundMatching(member1.getId(), member2.getId(), 1));
+
+            // then
+            assertEquals(ErrorStatus.MATCHING_STATUS_CONFLICT, exception.getCode());
+        }
+
+    }
+
+    private Member saveMember(Member member) {
+        Member savedMember = memberRepository.save(member);
+        memberIds.add(savedMember.getId());
+        return savedMember;
+    }
+
+    private Member createMember(String email, String gameName) {
+        return Member.builder()
+                .email(email)
+                .password("12345678")
+                .loginType(LoginType.GENERAL)
+                .profileImage(1)
+                .blind(false)
+                .mike(false)
+                .mannerLevel(1)
+                .gameName(gameName)
+                .tier(Tier.GOLD)
+                .rank(2)
+                .isAgree(true)
+                .blockList(new ArrayList<>())
+                .memberChatroomList(new ArrayList<>())
+                .memberGameStyleList(new ArrayList<>())
+                .build();
+    }
+
+    private MatchingRequest.InitializingMatchingRequestDTO createRequest(Integer mainP, Integer subP, Integer wantP) {
+        MatchingRequest.InitializingMatchingRequestDTO request = new MatchingRequest.InitializingMatchingRequestDTO();
+        request.setGameMode(1);
+        request.setMike(false);
+        request.setMatchingType("BASIC");
+        request.setMainP(mainP);
+        request.setSubP(subP);
+        request.setWantP(wantP);
+        request.setGameStyleIdList(new ArrayList<>());
+        return request;
+    }
+
+}
@@ -0,0 +1,196 @@
+package com.gamegoo.integration.matching;
+
+import com.gamegoo.apiPayload.code.status.ErrorStatus;
+import com.gamegoo.apiPayload.exception.handler.MatchingHandler;
+import com.gamegoo.apiPayload.exception.handler.SocketHandler;
+import com.gamegoo.domain.matching.MatchingRecord;
+import com.gamegoo.domain.matching.MatchingStatus;
+import com.gamegoo.domain.member.LoginType;
+import com.gamegoo.domain.member.Member;
+import com.gamegoo.domain.member.Tier;
+import com.gamegoo.dto.matching.MatchingProposal;
+import com.gamegoo.dto.matching.MatchingRequest;
+import com.gamegoo.repository.matching.LatestMatchingRecordRepository;
+import com.gamegoo.repository.matching.MatchingRecordRepository;
+import com.gamegoo.repository.member.MemberRepository;
+import com.gamegoo.service.matching.MatchingPool;
+import com.gamegoo.service.matching.MatchingService;
+import com.gamegoo.service.matching.Matchmaker;
+import com.gamegoo.service.socket.SocketService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 매칭 풀과 매치메이커 큐는 트랜잭션이 커밋된 후에 반영되므로 테스트 트랜잭션 없이 실행하고, 생성한 데이터는 직접 삭제
+ */
+@SpringBootTest(properties = {"matching.matchmaker.enabled=true", "matching.matchmaker.interval=600000"})
+public class MatchmakerTest {
+
+    @Autowired
+    private Matchmaker matchmaker;
+
+    @SpyBean
+    private MatchingService matchingService;
+
+    @Autowired
+    private MatchingPool matchingPool;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MatchingRecordRepository matchingRecordRepository;
+
+    @Autowired
+    private LatestMatchingRecordRepository latestMatchingRecordRepository;
+
+    @SpyBean
+    private SocketService socketService;
+
+    private Member member1;
+    private Member member2;
+
+    @BeforeEach
+    public void setUp() {
+        matchingPool.clear();
+
+        member1 = memberRepository.save(createMember("test1@mail.com", "member1"));
+        member2 = memberRepository.save(createMember("test2@mail.com", "member2"));
+
+        matchingService.save(createRequest(1, 2, 3), member1.getId());
+        matchingService.save(createRequest(3, 4, 1), member2.getId());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        // 남은 대기 요청은 매칭 풀에서 제외되어 다음 테스트의 매치메이커 라운드에서 건너뜀
+        matchingPool.clear();
+
+        Set<Long> memberIds = Set.of(member1.getId(), member2.getId());
+        latestMatchingRecordRepository.deleteAll(latestMatchingRecordRepository.findAll().stream()
+                .filter(latestMatchingRecord -> memberIds.contains(latestMatchingRecord.getMember().getId()))
+                .toList());
+        matchingRecordRepository.deleteAll(matchingRecordRepository.findAll().stream()
+                .filter(matchingRecord -> memberIds.contains(matchingRecord.getMember().getId()))
+                .toList());
+        memberRepository.deleteAllById(memberIds);
+    }
+
+    @Test
+    @DisplayName("매칭 풀의 두 회원을 FOUND 처리하고 소켓 서버에 한 번에 전달")
+    public void proposeMatching() throws Exception {
+        // given
+        doNothing().when(socketService).sendMatchingFound(anyList());
+
+        // when
+        List<MatchingProposal> proposals = matchmaker.runOnce();
+
+        // then
+        assertEquals(1, proposals.size());
+        assertEquals(MatchingStatus.FOUND, getLatestMatchingRecord(member1).getStatus());
+        assertEquals(MatchingStatus.FOUND, getLatestMatchingRecord(member2).getStatus());
+        assertTrue(matchingPool.getPendingEntries(1).isEmpty());
+        verify(socketService, times(1)).sendMatchingFound(anyList());
+    }
+
+    @Test
+    @DisplayName("다른 요청과 충돌해 라운드가 롤백된 경우 다음 라운드에 다시 매칭")
+    public void retryWhenRoundConflicted() throws Exception {
+        // given
+        doNothing().when(socketService).sendMatchingFound(anyList());
+        doThrow(new MatchingHandler(ErrorStatus.MATCHING_STATUS_CONFLICT))
+                .doCallRealMethod()
+                .when(matchingService).foundMatchings(anyList());
+
+        // when
+        List<MatchingProposal> conflictedProposals = matchmaker.runOnce();
+        List<MatchingProposal> proposals = matchmaker.runOnce();
+
+        // then
+        assertTrue(conflictedProposals.isEmpty());
+        assertEquals(1, proposals.size());
+        assertEquals(MatchingStatus.FOUND, getLatestMatchingRecord(member1).getStatus());
+        assertEquals(MatchingStatus.FOUND, getLatestMatchingRecord(member2).getStatus());
+        verify(socketService, times(1)).sendMatchingFound(anyList());
+    }
+
+    @Test
+    @DisplayName("소켓 서버 전달 실패 시 다시 PENDING 상태로 복구하고 다음 라운드에 다시 매칭")
+    public void revertWhenSocketFailed() throws Exception {
+        // given
+        doThrow(new SocketHandler(ErrorStatus.SOCKET_API_RESPONSE_ERROR))
+                .doNothing()
+                .when(socketService).sendMatchingFound(anyList());
+
+        // when
+        List<MatchingProposal> failedProposals = matchmaker.runOnce();
+
+        // then
+        assertTrue(failedProposals.isEmpty());
+        assertEquals(MatchingStatus.PENDING, getLatestMatchingRecord(member1).getStatus());
+        assertEquals(MatchingStatus.PENDING, getLatestMatchingRecord(member2).getStatus());
+        assertEquals(2, matchingPool.getPendingEntries(1).size());
+
+        // when
+        List<MatchingProposal> proposals = matchmaker.runOnce();
+
+        // then
+        assertEquals(1, proposals.size());
+        assertEquals(MatchingStatus.FOUND, getLatestMatchingRecord(member1).getStatus());
+        assertEquals(MatchingStatus.FOUND, getLatestMatchingRecord(member2).getStatus());
+        assertTrue(matchingPool.getPendingEntries(1).isEmpty());
+    }
+
+    private MatchingRecord getLatestMatchingRecord(Member member) {
+        return matchingRecordRepository.findFirstByMemberAndGameModeOrderByUpdatedAtDesc(member, 1).orElseThrow();
+    }
+
+    private Member createMember(String email, String gameName) {
+        return Member.builder()
+                .email(email)
+                .password("12345678")
+                .loginType(LoginType.GENERAL)
+                .profileImage(1)
+                .blind(false)
+                .mike(false)
+                .mannerLevel(1)
+                .gameName(gameName)
+                .tier(Tier.GOLD)
+                .rank(2)
+                .isAgree(true)
+                .blockList(new ArrayList<>())
+                .memberChatroomList(new ArrayList<>())
+                .memberGameStyleList(new ArrayList<>())
+                .build();
+    }
+
+    private MatchingRequest.InitializingMatchingRequestDTO createRequest(Integer mainP, Integer subP, Integer wantP) {
+        MatchingRequest.InitializingMatchingRequestDTO request = new MatchingRequest.InitializingMatchingRequestDTO();
+        request.setGameMode(1);
+        request.setMike(false);
+        request.setMatchingType("BASIC");
+        request.setMainP(mainP);
+        request.setSubP(subP);
+        request.setWantP(wantP);
+        request.setGameStyleIdList(new ArrayList<>());
+        return request;
+    }
+
+}
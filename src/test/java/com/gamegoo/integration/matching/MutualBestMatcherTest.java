@@ -0,0 +1,70 @@
+package com.gamegoo.integration.matching;
+
+import com.gamegoo.domain.matching.MatchingType;
+import com.gamegoo.domain.member.Tier;
+import com.gamegoo.dto.matching.MatchingProposal;
+import com.gamegoo.service.matching.MatchingPoolEntry;
+import com.gamegoo.service.matching.MutualBestMatcher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MutualBestMatcherTest {
+
+    @Test
+    @DisplayName("서로의 우선순위가 가장 높은 쌍을 먼저 매칭하고, 한 회원은 한 쌍에만 포함")
+    public void matchMutualBestPair() throws Exception {
+        // given
+        MatchingPoolEntry gold = createEntry(1L, Tier.GOLD, 1, 2, 3);
+        MatchingPoolEntry platinum = createEntry(2L, Tier.PLATINUM, 3, 4, 1);
+        MatchingPoolEntry goldOther = createEntry(3L, Tier.GOLD, 3, 4, 1);
+
+        // when
+        List<MatchingProposal> proposals = MutualBestMatcher.match(List.of(gold, platinum, goldOther), Map.of());
+
+        // then
+        assertEquals(1, proposals.size());
+        assertEquals(1L, proposals.get(0).getMemberId());
+        assertEquals(3L, proposals.get(0).getTargetMemberId());
+    }
+
+    @Test
+    @DisplayName("차단 관계인 회원끼리는 매칭하지 않음")
+    public void excludeBlockedPair() throws Exception {
+        // given
+        MatchingPoolEntry gold = createEntry(1L, Tier.GOLD, 1, 2, 3);
+        MatchingPoolEntry goldOther = createEntry(3L, Tier.GOLD, 3, 4, 1);
+
+        // when
+        List<MatchingProposal> proposals = MutualBestMatcher.match(List.of(gold, goldOther),
+                Map.of(1L, Set.of(3L), 3L, Set.of(1L)));
+
+        // then
+        assertTrue(proposals.isEmpty());
+    }
+
+    private MatchingPoolEntry createEntry(Long memberId, Tier tier, int mainP, int subP, int wantP) {
+        return MatchingPoolEntry.builder()
+                .matchingRecordId(memberId)
+                .memberId(memberId)
+                .gameMode(1)
+                .mainPosition(mainP)
+                .subPosition(subP)
+                .wantPosition(wantP)
+                .mike(false)
+                .tier(tier)
+                .rank(2)
+                .mannerLevel(1)
+                .matchingType(MatchingType.BASIC)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+}
@@ -0,0 +1,152 @@
+package com.gamegoo.integration.member;
+
+import com.gamegoo.domain.member.LoginType;
+import com.gamegoo.domain.member.Member;
+import com.gamegoo.filter.JWTFilter;
+import com.gamegoo.repository.member.MemberRepository;
+import com.gamegoo.security.BlindMemberRegistry;
+import com.gamegoo.util.JWTUtil;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 요청마다 Member 조회 없이 토큰의 회원 id로 인증하고, 탈퇴한 회원의 토큰은 거부하는지 검증
+ */
+@SpringBootTest(properties = "spring.jwt.stateless-principal=true")
+public class JWTFilterTest {
+
+    @Autowired
+    private JWTFilter jwtFilter;
+
+    @SpyBean
+    private JWTUtil jwtUtil;
+
+    @Autowired
+    private BlindMemberRegistry blindMemberRegistry;
+
+    @SpyBean
+    private MemberRepository memberRepository;
+
+    private Member member;
+
+    @BeforeEach
+    public void setUp() {
+        member = memberRepository.save(Member.builder()
+                .email("jwt-filter@mail.com")
+                .password("12345678")
+                .loginType(LoginType.GENERAL)
+                .profileImage(1)
+                .blind(false)
+                .mike(false)
+                .mannerLevel(1)
+                .isAgree(true)
+                .blockList(new ArrayList<>())
+                .memberChatroomList(new ArrayList<>())
+                .build());
+        clearInvocations(memberRepository, jwtUtil);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+        memberRepository.delete(member);
+    }
+
+    @Test
+    @DisplayName("토큰의 회원 id로 인증하고 Member는 조회하지 않음")
+    public void authenticateWithoutMemberLoad() throws Exception {
+        // given
+        MockHttpServletRequest request = authorizedRequest(member.getId());
+        AtomicReference<Long> currentUserId = new AtomicReference<>();
+
+        // when
+        jwtFilter.doFilter(request, new MockHttpServletResponse(),
+                new MockFilterChain() {
+                    @Override
+                    public void doFilter(ServletRequest request, ServletResponse response) {
+                        currentUserId.set(JWTUtil.getCurrentUserId());
+                    }
+                });
+
+        // then
+        assertEquals(member.getId(), currentUserId.get());
+        verify(memberRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("탈퇴한 회원의 토큰은 거부")
+    public void rejectBlindMember() throws Exception {
+        // given
+        blindMemberRegistry.add(member.getId());
+        MockHttpServletRequest request = authorizedRequest(member.getId());
+
+        // when
+        JwtException exception = assertThrows(JwtException.class,
+                () -> jwtFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain()));
+
+        // then
+        assertEquals("No Member", exception.getMessage());
+        verify(memberRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("같은 요청에서 LoggingFilter가 검증한 토큰은 JWTFilter에서 다시 검증하지 않음")
+    public void verifyTokenOncePerRequest() throws Exception {
+        // given
+        MockHttpServletRequest request = authorizedRequest(member.getId());
+        String token = request.getHeader("Authorization").substring(7);
+
+        // when
+        Long loggedMemberId = jwtUtil.getId(request, token);
+        jwtFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertEquals(member.getId(), loggedMemberId);
+        verify(jwtUtil, times(1)).getId(token);
+    }
+
+    @Test
+    @DisplayName("검증 결과가 캐시된 토큰도 만료 시각 이후에는 거부")
+    public void rejectExpiredCachedToken() throws Exception {
+        // given
+        String token = jwtUtil.createJwtWithId(member.getId(), 1000L);
+        assertEquals(member.getId(), jwtUtil.getId(token));
+
+        // when
+        Thread.sleep(1100);
+
+        // then
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.getId(token));
+    }
+
+    private MockHttpServletRequest authorizedRequest(Long memberId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/member/profile");
+        request.addHeader("Authorization", "Bearer " + jwtUtil.createJwtWithId(memberId, 60000L));
+        return request;
+    }
+
+}
@@ -0,0 +1,171 @@
+package com.gamegoo.integration.socket;
+
+import com.gamegoo.service.socket.SocketEventBus;
+import com.gamegoo.service.socket.SocketService;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 소켓 서버 대신 로컬 stub 서버로 요청을 받아 전송 시점, batch 묶음, 재시도 검증
+ */
+@SpringBootTest(properties = {"socket.event.batch-enabled=true", "socket.event.linger=50", "socket.event.backoff=10", "socket.event.max-attempts=3"})
+public class SocketEventBusTest {
+
+    private static final HttpServer stubServer;
+    private static final List<String> requests = new CopyOnWriteArrayList<>();
+    private static final AtomicInteger failuresLeft = new AtomicInteger();
+
+    static {
+        try {
+            stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        stubServer.createContext("/socket", exchange -> {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            requests.add(exchange.getRequestURI().getPath() + " " + body);
+
+            int status = failuresLeft.getAndUpdate(left -> Math.max(left - 1, 0)) > 0 ? 500 : 200;
+            byte[] response = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, response.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(response);
+            }
+        });
+        stubServer.start();
+    }
+
+    @DynamicPropertySource
+    static void socketServerUrl(DynamicPropertyRegistry registry) {
+        registry.add("socket.server.url", () -> "http://localhost:" + stubServer.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        stubServer.stop(0);
+    }
+
+    @Autowired
+    private SocketEventBus socketEventBus;
+
+    @Autowired
+    private SocketService socketService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        requests.clear();
+        failuresLeft.set(0);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 커밋 이후 한 트랜잭션의 join 이벤트를 하나의 batch 요청으로 전송")
+    public void dispatchAfterCommitInBatch() throws Exception {
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            socketEventBus.joinSocketToChatroom(1L, "uuid-1");
+            socketEventBus.joinSocketToChatroom(2L, "uuid-1");
+            socketEventBus.joinSocketToChatroom(3L, "uuid-2");
+
+            // 커밋 전에는 전송하지 않음
+            sleep(100);
+            assertTrue(requests.isEmpty());
+        });
+
+        // then
+        awaitRequests(1);
+        assertEquals(1, requests.size());
+        String request = requests.get(0);
+        assertTrue(request.startsWith("/socket/room/join/batch "));
+        assertTrue(request.contains("\"memberId\":1") && request.contains("\"memberId\":2")
+                && request.contains("\"memberId\":3"));
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 이벤트는 전송하지 않음")
+    public void discardOnRollback() throws Exception {
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            socketEventBus.sendSystemMessage(1L, "uuid-1", "message", 1L);
+            status.setRollbackOnly();
+        });
+
+        // then
+        sleep(300);
+        assertTrue(requests.isEmpty());
+    }
+
+    @Test
+    @DisplayName("소켓 서버 응답이 실패한 경우 backoff 후 재시도")
+    public void retryWithBackoff() throws Exception {
+        // given
+        failuresLeft.set(2);
+
+        // when
+        socketEventBus.sendSystemMessage(1L, "uuid-1", "message", 1L);
+
+        // then
+        awaitRequests(3);
+        assertEquals(3, requests.size());
+        assertTrue(requests.stream().allMatch(request -> request.startsWith("/socket/sysmessage/batch ")));
+    }
+
+    @Test
+    @DisplayName("batch API를 사용하지 않는 경우 이벤트마다 기존 API로 전송")
+    public void dispatchEachEventWithoutBatch() throws Exception {
+        // given
+        SocketEventBus perEventBus = new SocketEventBus(socketService, false, 100, 3, 10, 50);
+
+        try {
+            // when
+            perEventBus.joinSocketToChatroom(1L, "uuid-1");
+            perEventBus.joinSocketToChatroom(2L, "uuid-1");
+            perEventBus.sendSystemMessage(1L, "uuid-1", "message", 1L);
+
+            // then
+            awaitRequests(3);
+            assertEquals(3, requests.size());
+            assertEquals(2, requests.stream().filter(request -> request.startsWith("/socket/room/join ")).count());
+            assertEquals(1, requests.stream().filter(request -> request.startsWith("/socket/sysmessage ")).count());
+        } finally {
+            perEventBus.shutdown();
+        }
+    }
+
+    private void awaitRequests(int count) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (requests.size() < count && System.currentTimeMillis() < deadline) {
+            sleep(10);
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.gamegoo.replay;
+
+import com.gamegoo.GamegooApplication;
+import com.gamegoo.repository.member.MemberRepository;
+import com.gamegoo.scripts.replay.JsonlMatchingReplayGenerator;
+import com.gamegoo.scripts.replay.MatchingReplayGenerator;
+import com.gamegoo.scripts.replay.MatchingReplayReport;
+import com.gamegoo.scripts.replay.MatchingReplayRunner;
+import com.gamegoo.scripts.replay.RandomMatchingReplayGenerator;
+import com.gamegoo.service.matching.MatchingService;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * 테스트 설정(H2 in-memory)으로 애플리케이션을 띄워 매칭 리플레이 실행
+ * <ul>
+ *     <li>./gradlew replay -Preplay.args="events.jsonl" : 기록된 JSONL 이벤트 리플레이</li>
+ *     <li>./gradlew replay -Preplay.args="random [requests] [members] [seed]" : 임의 이벤트 리플레이</li>
+ * </ul>
+ */
+public class MatchingReplayApplication {
+
+    public static void main(String[] args) {
+        MatchingReplayGenerator generator = createGenerator(args);
+
+        try (ConfigurableApplicationContext context = SpringApplication.run(GamegooApplication.class,
+                "--server.port=0", "--matching.matchmaker.enabled=false")) {
+            MatchingReplayRunner runner = new MatchingReplayRunner(context.getBean(MatchingService.class),
+                    context.getBean(MemberRepository.class));
+            MatchingReplayReport report = runner.run(generator);
+            System.out.println(report);
+        }
+    }
+
+    private static MatchingReplayGenerator createGenerator(String[] args) {
+        if (args.length==0 || "random".equals(args[0])) {
+            int requests = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+            int members = args.length > 2 ? Integer.parseInt(args[2]) : 500;
+            long seed = args.length > 3 ? Long.parseLong(args[3]) : 42L;
+            List<Long> memberIds = LongStream.rangeClosed(1, members).boxed().collect(Collectors.toList());
+            return new RandomMatchingReplayGenerator(memberIds, requests, new int[]{1, 2, 3, 4}, 1000, 0.1,
+                    60 * 1000, seed);
+        }
+        return new JsonlMatchingReplayGenerator(Path.of(args[0]));
+    }
+
+}